@@ -0,0 +1,79 @@
+package main;
+
+/** Speed/accuracy trade-off of the attenuation calculators
+ *
+ * FAST is meant for screening. It uses per-frequency tables of the absorption coefficients, fixed low-order integration and
+ * a loose elevation angle search. BALANCED integrates adaptively to a fixed tolerance. REFERENCE uses high-order fixed integration
+ * and tight tolerances, and is the baseline every error bound is measured against.
+ *
+ * @author Collin Thornton
+ * @note Error bounds are the largest 2-way deviation from REFERENCE measured over f 0.5-10 GHz, antenna 0-2000 ft,
+ * 		targets 1-50 kft at 5-150 nm with positive elevation (Blake). main.validation.GoldenReference checks the bounds against the
+ * 		shipped data sets
+ * @note P.528 is not tiered: every tier runs it with the settings of the reference implementation and its bound is 0. The Step 9
+ * 		psi search defines the result, so other settings move psi to a different root rather than a cheaper approximation of the same
+ * 		one. Tables do not help either: multilinear CurveSet lookups on the line-of-sight sweep of p528_reference_los.csv deviate by
+ * 		up to 79 dB even at 320 distances per decade, because the loss lobes between nodes
+ */
+public enum AccuracyTier {
+	//			 Blake: Simpson N, adaptive tol (dB), elev. iterations, elev. tol (km), coefficient table		P.528: LOS iter, LOS tol, d_0 tol, d_0 iter		Bounds (dB)
+	FAST		(10, 	0.0, 	15, 	0.5, 	true, 		25, 	0.001, 	0.001, 	50, 	0.02, 	0.0),
+	BALANCED	(0, 	1e-4, 	30, 	1e-3, 	false, 		25, 	0.001, 	0.001, 	50, 	0.001, 	0.0),
+	REFERENCE	(2000, 	0.0, 	80, 	1e-9, 	false, 		25, 	0.001, 	0.001, 	50, 	0.0, 	0.0);
+
+	/** Fixed Simpson intervals of the Blake integrals, 0 to integrate adaptively */
+	public final int simpson_intervals;
+	/** Tolerance of the adaptive Blake integrals (dB or km) */
+	public final double adaptive_tolerance;
+	/** Maximum iterations and distance tolerance (km) of the Blake elevation angle search */
+	public final int elevation_iterations;
+	public final double elevation_tolerance__km;
+	/** Whether Blake absorption coefficients come from per-frequency height tables */
+	public final boolean coefficient_table;
+
+	/** P.528 solver settings (see P528Environment) */
+	public final int los_iterations;
+	public final double los_tolerance__km, d_0_tolerance__km;
+	public final int d_0_iterations;
+
+	/** Largest deviation of the 2-way Blake atmospheric loss from REFERENCE (dB) */
+	public final double blake_bound__db;
+	/** Largest deviation of the P.528 loss from REFERENCE (dB). 0 at every tier: P.528 is not tiered */
+	public final double p528_bound__db;
+
+
+	private AccuracyTier(int simpson_intervals, double adaptive_tolerance, int elevation_iterations, double elevation_tolerance__km,
+			boolean coefficient_table, int los_iterations, double los_tolerance__km, double d_0_tolerance__km, int d_0_iterations,
+			double blake_bound__db, double p528_bound__db) {
+		this.simpson_intervals = simpson_intervals;
+		this.adaptive_tolerance = adaptive_tolerance;
+		this.elevation_iterations = elevation_iterations;
+		this.elevation_tolerance__km = elevation_tolerance__km;
+		this.coefficient_table = coefficient_table;
+		this.los_iterations = los_iterations;
+		this.los_tolerance__km = los_tolerance__km;
+		this.d_0_tolerance__km = d_0_tolerance__km;
+		this.d_0_iterations = d_0_iterations;
+		this.blake_bound__db = blake_bound__db;
+		this.p528_bound__db = p528_bound__db;
+	}
+
+
+	/** A loss together with the tier it was computed at and that tier's error bound */
+	public static final class Result {
+		public final double value__db;
+		public final AccuracyTier tier;
+		public final double error_bound__db;
+
+		public Result(double value__db, AccuracyTier tier, double error_bound__db) {
+			this.value__db = value__db;
+			this.tier = tier;
+			this.error_bound__db = error_bound__db;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%.6f dB +/- %.3g (%s)", value__db, error_bound__db, tier);
+		}
+	}
+}
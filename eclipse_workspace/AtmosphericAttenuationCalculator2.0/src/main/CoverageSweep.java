@@ -0,0 +1,114 @@
+package main;
+
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import main.terrain.RadialProfile;
+import main.terrain.Terrain;
+import main.util.LossField;
+import propagationfactor.PropagationSetup;
+
+/** Total 2-way loss of a radar site over a polar grid of azimuth, height and range
+ *
+ * In a horizontally homogeneous atmosphere the ray from the antenna to a target, and so its elevation angle and atmospheric
+ * absorption, is the same on every azimuth. The constructor computes both once per (height, range) with the site calculator;
+ * each radial then only adds what changes with azimuth: clouds, rain, the sea surface and the terrain. Radials run in parallel.
+ *
+ * @author Collin Thornton
+ * @note The output field has shape [azimuths][heights][ranges], with azimuth i at 360 i/azimuths degrees clockwise from north.
+ * 		Targets whose straight-line elevation angle is negative are NaN
+ */
+public class CoverageSweep {
+	private final LinkLossCalculator site;
+	private final float[] h_high__ft, d__nm;
+	// Azimuth-independent ray of each (height, range), row-major. NaN where no ray exists
+	private final double[] theta_0__rad, atmosphere__db;
+
+
+	/**
+	 * @param site Calculator of the site, supplying the frequency, antenna height and tier of every radial
+	 * @param h_high__ft Heights of targets above antenna (ft)
+	 * @param d__nm 1-way straight-line distances between antenna and targets (nm)
+	 */
+	public CoverageSweep(LinkLossCalculator site, float[] h_high__ft, float[] d__nm) {
+		if(h_high__ft.length == 0 || d__nm.length == 0) throw new IllegalArgumentException("Heights and ranges must not be empty");
+
+		this.site = site;
+		this.h_high__ft = h_high__ft.clone();
+		this.d__nm = d__nm.clone();
+		this.theta_0__rad = new double[h_high__ft.length*d__nm.length];
+		this.atmosphere__db = new double[theta_0__rad.length];
+
+		int columns = d__nm.length;
+		IntStream.range(0, h_high__ft.length).parallel().forEach(i -> {
+			for(int j=0; j<columns; ++j) {
+				int k = i*columns + j;
+				try {
+					theta_0__rad[k] = site.elevationAngle(this.h_high__ft[i], this.d__nm[j]);
+				} catch(IllegalArgumentException e) {
+					// Target below the horizon of the antenna
+					theta_0__rad[k] = Double.NaN;
+					atmosphere__db[k] = Double.NaN;
+					continue;
+				}
+				atmosphere__db[k] = site.atmosphereLoss(this.h_high__ft[i], theta_0__rad[k]);
+			}
+		});
+	}
+
+
+	/** Sweep every azimuth with the weather and surface of the site over the smooth Earth */
+	public LossField compute(int azimuths) {
+		LossField loss__db = LossField.allocate(azimuths, h_high__ft.length, d__nm.length);
+		compute(loss__db, null, null, 0.0, 0.0, 0.0);
+		return loss__db;
+	}
+
+	/** Sweep every azimuth into a field
+	 *
+	 * @param loss__db Field of shape [azimuths][heights][ranges]. Receives the total 2-way loss (dB)
+	 * @param radial Calculator of the weather and surface of each azimuth index, or null for the site calculator on every radial.
+	 * 		Each must share the frequency, antenna height and tier of the site
+	 * @param terrain Terrain around the site, or null for the smooth Earth
+	 * @param lat Latitude of the site (deg)
+	 * @param lon Longitude of the site (deg)
+	 * @param step__m Range between the samples of each terrain profile (m)
+	 * @throws IllegalArgumentException if the shape of the field does not match the grid, or a radial calculator does not share
+	 * 		the atmosphere of the site
+	 */
+	public void compute(LossField loss__db, IntFunction<LinkLossCalculator> radial, Terrain terrain, double lat, double lon, double step__m) {
+		int[] shape = loss__db.shape();
+		if(shape.length != 3 || shape[1] != h_high__ft.length || shape[2] != d__nm.length)
+			throw new IllegalArgumentException("Field does not have the shape [azimuths][" + h_high__ft.length + "][" + d__nm.length + "]");
+
+		int azimuths = shape[0];
+		double d_max__m = 0.0;
+		for(float d : d__nm) d_max__m = Math.max(d_max__m, d*1852.0);
+		int steps = (terrain == null) ? 0 : (int)Math.ceil(d_max__m/step__m) + 1;
+
+		IntStream.range(0, azimuths).parallel().forEach(a -> {
+			// <<Step 1>> Azimuth-dependent inputs of the radial
+			LinkLossCalculator calculator = (radial == null) ? site : radial.apply(a);
+			if(!calculator.sharesAtmosphere(site))
+				throw new IllegalArgumentException("Calculator of azimuth " + a + " differs from the site in frequency, antenna height or tier");
+			RadialProfile profile = (terrain == null) ? null
+					: new RadialProfile(terrain, lat, lon, site.antennaHeight(), 360.0*a/azimuths, step__m, steps, LinkLossCalculator.K_A__M);
+
+			// <<Step 2>> Combine the shared ray with the local terms, one height at a time
+			LinkLossCalculator.Terms terms = new LinkLossCalculator.Terms();
+			PropagationSetup.Factors factors = new PropagationSetup.Factors();
+			float[] row = new float[d__nm.length];
+			for(int i=0; i<h_high__ft.length; ++i) {
+				for(int j=0; j<row.length; ++j) {
+					int k = i*row.length + j;
+					if(Double.isNaN(theta_0__rad[k])) {
+						row[j] = Float.NaN;
+						continue;
+					}
+					row[j] = (float)calculator.compute(h_high__ft[i], d__nm[j], theta_0__rad[k], atmosphere__db[k], profile, terms, factors).getTotalLoss();
+				}
+				loss__db.row((long)a*h_high__ft.length + i).put(row);
+			}
+		});
+	}
+}
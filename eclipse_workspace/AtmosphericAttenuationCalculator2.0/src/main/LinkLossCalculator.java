@@ -0,0 +1,363 @@
+package main;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.util.FastMath;
+
+import main.blake.AtmosphericAbsorption;
+import main.p838.RainAttenuationCalculator;
+import main.p840.CloudsAttenuationCalculator;
+import main.terrain.RadialProfile;
+import main.util.LossField;
+import propagationfactor.PropagationSetup;
+
+/** Class to calculate the total 2-way loss of a radar link: atmosphere, clouds, rain and pattern-propagation (multipath)
+ *
+ * Everything that depends only on frequency, weather and the sea surface is computed once in the constructor:
+ * the P.840 and P.838 coefficients and the PropagationSetup of the antenna. Per target, the units are converted once and the
+ * elevation angle is resolved once; its sine and cosine are shared by the atmosphere, cloud and rain terms.
+ *
+ * @author Collin Thornton
+ * @note Assumes horizontal polarization, like TransmissionLossCalculator. Cloud and rain terms use FastMath's sine and cosine,
+ * so they may differ from TransmissionLossCalculator.calcTotalAttenuation at the same tier in the last bit
+ */
+public class LinkLossCalculator {
+	/** Terms of one target. All losses are 2-way (dB) */
+	public static class Terms {
+		private double atmosphere__db, clouds__db, rain__db, propagation__db;
+		private double theta_0__rad, psi_0__rad;
+		private AccuracyTier tier;
+
+		public double getAtmosphereLoss() 	{ return atmosphere__db; }
+		public double getCloudsLoss() 		{ return clouds__db; }
+		public double getRainLoss() 		{ return rain__db; }
+		/** -40 log10(F), negative where multipath reinforces the direct ray */
+		public double getPropagationLoss() 	{ return propagation__db; }
+		/** Initial elevation angle of the ray accounting for refraction (rad) */
+		public double getElevationAngle() 	{ return theta_0__rad; }
+		/** Grazing angle at the reflection point (rad) */
+		public double getGrazingAngle() 	{ return psi_0__rad; }
+		public double getTotalLoss() 		{ return atmosphere__db + clouds__db + rain__db + propagation__db; }
+		/** Tier of the atmospheric terms */
+		public AccuracyTier getTier() 		{ return tier; }
+		/** Error bound of the atmospheric terms at the tier (dB) */
+		public double getErrorBound() 		{ return tier.blake_bound__db; }
+	}
+
+	/** Effective (4/3) Earth radius (m) */
+	public static final double K_A__M = 8.5e6;
+
+	private static final double FT_TO_KM = 0.0003048;
+	private static final double NM_TO_KM = 1.852;
+	private static final double C__M_GHZ = 0.299792458;
+
+	private final AccuracyTier tier;
+	private final double f__ghz;
+	private final double h_surface__km, h_c__km, h_r__km, M__g_m3, rr__mm_hr;
+	private final double K_i;
+	private final RainAttenuationCalculator.Coefficients rain;
+	private final PropagationSetup setup;
+
+	// Single-precision kernels, built on first use. Racing threads may build duplicates, which are equal
+	private volatile FloatKernels float_kernels;
+
+	/** Single-precision kernels of the weather terms */
+	private static final class FloatKernels {
+		final AtmosphericAbsorption.FloatKernel atmosphere;
+		final RainAttenuationCalculator.FloatKernel rain;
+		/** 2-way cloud loss at zenith (dB) */
+		final float clouds__db;
+
+		FloatKernels(AtmosphericAbsorption.FloatKernel atmosphere, RainAttenuationCalculator.FloatKernel rain, float clouds__db) {
+			this.atmosphere = atmosphere;
+			this.rain = rain;
+			this.clouds__db = clouds__db;
+		}
+
+		/** 2-way weather loss of one target (dB) */
+		float loss(float h_high__km, float sin_theta_0, float cos_theta_0) {
+			return atmosphere.loss(h_high__km, sin_theta_0, cos_theta_0) + clouds__db/sin_theta_0 + rain.loss(sin_theta_0, cos_theta_0);
+		}
+	}
+
+
+	/** Calculator at AccuracyTier.BALANCED
+	 * 
+	 * @param f__ghz Frequency (GHz)
+	 * @param h_surface__ft Height of antenna above MSL (ft)
+	 * @param T_c__f Temperature of clouds (f)
+	 * @param M__g_m3 Water density of clouds (g/m^3)
+	 * @param h_c__ft Columnar height of clouds (ft)
+	 * @param h_r__ft Columnar height of liquid rain (ft)
+	 * @param rr__mm_hr Rain rate (mm/hr)
+	 * @param epsilon_r Relative dielectric constant of the sea surface
+	 * @param sigma_e__s_m Conductivity of the sea surface (S/m)
+	 * @param sigma_h__ft rms height deviation of the sea surface (ft)
+	 */
+	public LinkLossCalculator(double f__ghz, double h_surface__ft, double T_c__f, double M__g_m3, double h_c__ft, double h_r__ft,
+			double rr__mm_hr, double epsilon_r, double sigma_e__s_m, double sigma_h__ft) {
+		this(AccuracyTier.BALANCED, f__ghz, h_surface__ft, T_c__f, M__g_m3, h_c__ft, h_r__ft, rr__mm_hr, epsilon_r, sigma_e__s_m, sigma_h__ft);
+	}
+	
+	/**
+	 * @param tier Accuracy tier of the elevation angle and atmospheric absorption
+	 * @param f__ghz Frequency (GHz)
+	 * @param h_surface__ft Height of antenna above MSL (ft)
+	 * @param T_c__f Temperature of clouds (f)
+	 * @param M__g_m3 Water density of clouds (g/m^3)
+	 * @param h_c__ft Columnar height of clouds (ft)
+	 * @param h_r__ft Columnar height of liquid rain (ft)
+	 * @param rr__mm_hr Rain rate (mm/hr)
+	 * @param epsilon_r Relative dielectric constant of the sea surface
+	 * @param sigma_e__s_m Conductivity of the sea surface (S/m)
+	 * @param sigma_h__ft rms height deviation of the sea surface (ft)
+	 */
+	public LinkLossCalculator(AccuracyTier tier, double f__ghz, double h_surface__ft, double T_c__f, double M__g_m3, double h_c__ft, double h_r__ft,
+			double rr__mm_hr, double epsilon_r, double sigma_e__s_m, double sigma_h__ft) {
+		this.tier = tier;
+		this.f__ghz = f__ghz;
+		this.h_surface__km = h_surface__ft * FT_TO_KM;
+		this.h_c__km = h_c__ft * FT_TO_KM;
+		this.h_r__km = h_r__ft * FT_TO_KM;
+		this.M__g_m3 = M__g_m3;
+		this.rr__mm_hr = rr__mm_hr;
+
+		double T_c__k = (5.0/9.0)*(T_c__f-32.0) + 273.15;
+		this.K_i = CloudsAttenuationCalculator.specificAttenuationCoefficient(f__ghz, T_c__k);
+		this.rain = new RainAttenuationCalculator.Coefficients(f__ghz);
+		this.setup = new PropagationSetup(epsilon_r, sigma_e__s_m, 0, sigma_h__ft*FT_TO_KM*1000.0, K_A__M, C__M_GHZ/f__ghz,
+				h_surface__km*1000.0);
+	}
+
+
+	/** Calculate every term of one target
+	 *
+	 * @param h_high__ft Height of target above antenna (ft)
+	 * @param d__nm 1-way straight-line distance between antenna and target (nm)
+	 * @return Terms of the target
+	 * @throws IllegalArgumentException when the straight-line elevation angle is negative
+	 */
+	public Terms compute(double h_high__ft, double d__nm) {
+		return compute(h_high__ft, d__nm, new Terms(), new PropagationSetup.Factors());
+	}
+
+	/** Calculate every term of one target into caller-owned storage
+	 *
+	 * @param h_high__ft Height of target above antenna (ft)
+	 * @param d__nm 1-way straight-line distance between antenna and target (nm)
+	 * @param out Receives the terms
+	 * @param factors Scratch for the propagation factors
+	 * @return out
+	 */
+	public Terms compute(double h_high__ft, double d__nm, Terms out, PropagationSetup.Factors factors) {
+		// One elevation angle and one cosine for the atmosphere; the sine and cosine are shared again by the local terms
+		double theta_0__rad = elevationAngle(h_high__ft, d__nm);
+		return compute(h_high__ft, d__nm, theta_0__rad, atmosphereLoss(h_high__ft, theta_0__rad), null, out, factors);
+	}
+
+	/** Calculate the total 2-way loss of many targets
+	 *
+	 * @param h_high__ft Heights of targets above antenna (ft)
+	 * @param d__nm 1-way straight-line distances between antenna and targets (nm)
+	 * @param total__db Receives the total 2-way loss of each target (dB)
+	 */
+	public void computeTotal(double[] h_high__ft, double[] d__nm, double[] total__db) {
+		if(h_high__ft.length != d__nm.length || total__db.length != d__nm.length)
+			throw new IllegalArgumentException("Target arrays must have the same length");
+
+		Terms terms = new Terms();
+		PropagationSetup.Factors factors = new PropagationSetup.Factors();
+		for(int i=0; i<d__nm.length; ++i)
+			total__db[i] = compute(h_high__ft[i], d__nm[i], terms, factors).getTotalLoss();
+	}
+
+	/** Calculate every term of many targets
+	 *
+	 * @param h_high__ft Heights of targets above antenna (ft)
+	 * @param d__nm 1-way straight-line distances between antenna and targets (nm)
+	 * @param out Receives the terms of each target. Null entries are allocated
+	 */
+	public void compute(double[] h_high__ft, double[] d__nm, Terms[] out) {
+		if(h_high__ft.length != d__nm.length || out.length != d__nm.length)
+			throw new IllegalArgumentException("Target arrays must have the same length");
+
+		PropagationSetup.Factors factors = new PropagationSetup.Factors();
+		for(int i=0; i<d__nm.length; ++i) {
+			if(out[i] == null) out[i] = new Terms();
+			compute(h_high__ft[i], d__nm[i], out[i], factors);
+		}
+	}
+
+	/** Calculate every term of one target over terrain
+	 *
+	 * The atmospheric terms are those of the smooth Earth. The terrain replaces the propagation factor where it decides the path:
+	 * a target hidden by land takes the 2-way knife-edge loss of the horizon obstacle, and a target whose reflection point is on
+	 * land or hidden from the antenna sees the direct ray alone. Over open water the smooth-Earth factors are kept.
+	 *
+	 * @param h_high__ft Height of target above antenna (ft)
+	 * @param d__nm 1-way straight-line distance between antenna and target (nm)
+	 * @param terrain Profile of the radial through the target, from an antenna at the height of this calculator
+	 * @param out Receives the terms
+	 * @param factors Scratch for the propagation factors
+	 * @return out
+	 * @throws IllegalArgumentException when the straight-line elevation angle is negative, the target is beyond the profile or
+	 * 		the profile starts at another antenna height
+	 */
+	public Terms compute(double h_high__ft, double d__nm, RadialProfile terrain, Terms out, PropagationSetup.Factors factors) {
+		if(Math.abs(terrain.getAntennaHeight() - h_surface__km*1000.0) > 1e-3)
+			throw new IllegalArgumentException("Profile antenna at " + terrain.getAntennaHeight() + " m, calculator at " + h_surface__km*1000.0 + " m");
+
+		double theta_0__rad = elevationAngle(h_high__ft, d__nm);
+		return compute(h_high__ft, d__nm, theta_0__rad, atmosphereLoss(h_high__ft, theta_0__rad), terrain, out, factors);
+	}
+
+	/** Complete the terms of one target from its elevation angle and atmospheric loss
+	 *
+	 * Clouds, rain and the propagation factor depend on the weather, the surface and the terrain of this calculator; the elevation
+	 * angle and atmospheric loss depend only on the frequency, antenna height and tier, so they may come from another calculator
+	 * sharing those (see sharesAtmosphere).
+	 *
+	 * @param terrain Profile of the radial through the target, or null over the smooth Earth
+	 */
+	Terms compute(double h_high__ft, double d__nm, double theta_0__rad, double atmosphere__db, RadialProfile terrain, Terms out,
+			PropagationSetup.Factors factors) {
+		double d__km = d__nm * NM_TO_KM;
+		double h_high__km = h_high__ft * FT_TO_KM;
+		double cos_theta_0 = FastMath.cos(theta_0__rad);
+		double sin_theta_0 = FastMath.sin(theta_0__rad);
+
+		out.tier = tier;
+		out.theta_0__rad = theta_0__rad;
+		out.atmosphere__db = atmosphere__db;
+		out.clouds__db = CloudsAttenuationCalculator.calculate(K_i, sin_theta_0, h_c__km, M__g_m3);
+		out.rain__db = RainAttenuationCalculator.calculate(rain, cos_theta_0, sin_theta_0, h_r__km, rr__mm_hr, 0);
+
+		// Pattern-propagation factor: the diffraction factor where it applies, otherwise the interference (reflection) factor
+		setup.evaluate(d__km*1000.0, (h_surface__km + h_high__km)*1000.0, factors);
+		double F__db = (factors.getDiffractionFactor() != 0) ? factors.getDiffractionFactorInDecibels() : factors.getReflectionFactorInDecibels();
+		out.psi_0__rad = factors.getGrazingAngle();
+		out.propagation__db = -2.0*F__db;
+		if(terrain == null) return out;
+
+		// Terrain decides the path where it hides the target or the reflection point
+		double h__m = (h_surface__km + h_high__km)*1000.0;
+		int k = terrain.index(d__km*1000.0);
+		if(!terrain.isVisible(k, h__m) && terrain.terrainHeight(terrain.horizonIndex(k)) > 0.0) {
+			out.psi_0__rad = 0.0;
+			out.propagation__db = 2.0*terrain.diffractionLoss(k, h__m, setup.LAMBDA);
+		}
+		else if(factors.getGrazingAngle() > 0.0 && !terrain.isReflecting(terrain.index(factors.getReflectionRange()))) {
+			out.psi_0__rad = 0.0;
+			out.propagation__db = 0.0;
+		}
+		return out;
+	}
+
+	/** Initial elevation angle of a target at the tier of this calculator (rad)
+	 *
+	 * @throws IllegalArgumentException when the straight-line elevation angle is negative, and only then
+	 */
+	double elevationAngle(double h_high__ft, double d__nm) {
+		return AtmosphericAbsorption.approxElevationAngle(tier, h_surface__km, h_high__ft * FT_TO_KM, d__nm * NM_TO_KM);
+	}
+
+	/** 2-way atmospheric loss along the ray of a target at the tier of this calculator (dB) */
+	double atmosphereLoss(double h_high__ft, double theta_0__rad) {
+		return AtmosphericAbsorption.computeAtmosphericLossCosKnown(tier, h_surface__km, h_high__ft * FT_TO_KM, FastMath.cos(theta_0__rad), f__ghz);
+	}
+
+	/** Whether another calculator has the same elevation angles and atmospheric loss: same tier, frequency and antenna height */
+	boolean sharesAtmosphere(LinkLossCalculator other) {
+		return tier == other.tier && f__ghz == other.f__ghz && h_surface__km == other.h_surface__km;
+	}
+
+	/** Height of the antenna above MSL (m) */
+	double antennaHeight() { return h_surface__km*1000.0; }
+
+	/** Resolve the initial elevation angles of many targets, at the tier of the calculator, for computeWeatherLoss
+	 *
+	 * @param h_high__ft Heights of targets above antenna (ft)
+	 * @param d__nm 1-way straight-line distances between antenna and targets (nm)
+	 * @param sin_theta_0 Receives the sine of each elevation angle
+	 * @param cos_theta_0 Receives the cosine of each elevation angle
+	 * @throws IllegalArgumentException when a straight-line elevation angle is negative
+	 * @note The angles depend only on the geometry, so one set serves every frequency and weather over the same antenna height
+	 */
+	public void elevationAngles(float[] h_high__ft, float[] d__nm, float[] sin_theta_0, float[] cos_theta_0) {
+		if(h_high__ft.length != d__nm.length || sin_theta_0.length != d__nm.length || cos_theta_0.length != d__nm.length)
+			throw new IllegalArgumentException("Target arrays must have the same length");
+
+		for(int i=0; i<d__nm.length; ++i) {
+			double theta_0__rad = AtmosphericAbsorption.approxElevationAngle(tier, h_surface__km, h_high__ft[i]*FT_TO_KM, d__nm[i]*NM_TO_KM);
+			sin_theta_0[i] = (float)FastMath.sin(theta_0__rad);
+			cos_theta_0[i] = (float)FastMath.cos(theta_0__rad);
+		}
+	}
+
+	/** Single-precision atmosphere, cloud and rain loss of many targets
+	 *
+	 * Structure-of-arrays counterpart of compute for coverage products. All three terms are fused into one pass over float inputs
+	 * and output, with the atmosphere integrated as at AccuracyTier.FAST whatever the tier of the calculator. The FAST bound holds
+	 * for angles from elevationAngles of a FAST calculator; more exact angles near grazing leave the FAST integration less accurate.
+	 *
+	 * @param h_high__ft Heights of targets above antenna (ft)
+	 * @param sin_theta_0 Sines of the initial elevation angles, see elevationAngles
+	 * @param cos_theta_0 Cosines of the initial elevation angles
+	 * @param loss__db Receives the 2-way weather loss of each target (dB)
+	 * @note The propagation factor is left to compute. Its two-ray phase comes from a path difference that float resolves only to
+	 * 		about 1e-7 of the range, centimeters at 100 km, which is a large fraction of a wavelength
+	 */
+	public void computeWeatherLoss(float[] h_high__ft, float[] sin_theta_0, float[] cos_theta_0, float[] loss__db) {
+		if(sin_theta_0.length != h_high__ft.length || cos_theta_0.length != h_high__ft.length || loss__db.length != h_high__ft.length)
+			throw new IllegalArgumentException("Target arrays must have the same length");
+
+		FloatKernels kernels = floatKernels();
+		float ft_to_km = (float)FT_TO_KM;
+
+		for(int i=0; i<h_high__ft.length; ++i)
+			loss__db[i] = kernels.loss(h_high__ft[i]*ft_to_km, sin_theta_0[i], cos_theta_0[i]);
+	}
+
+	/** Fill a coverage field with the single-precision weather loss of a grid of targets
+	 *
+	 * Rows of heights are computed in parallel, each resolving its elevation angles at the tier of the calculator.
+	 *
+	 * @param h_high__ft Heights of targets above antenna, one per row (ft)
+	 * @param d__nm 1-way straight-line distances between antenna and targets, one per column (nm)
+	 * @param loss__db Field of shape [h_high__ft.length][d__nm.length]. Receives the 2-way weather loss of each target (dB),
+	 * 		NaN where the straight-line elevation angle is negative
+	 * @throws IllegalArgumentException if the shape of the field does not match the grid
+	 */
+	public void computeWeatherLoss(float[] h_high__ft, float[] d__nm, LossField loss__db) {
+		int[] shape = loss__db.shape();
+		if(shape.length != 2 || shape[0] != h_high__ft.length || shape[1] != d__nm.length)
+			throw new IllegalArgumentException("Field of shape " + Arrays.toString(shape) + " does not match the grid");
+
+		FloatKernels kernels = floatKernels();
+		loss__db.fillRows((index, row) -> {
+			double h__km = h_high__ft[index[0]]*FT_TO_KM;
+			for(int j=0; j<row.length; ++j) {
+				double theta_0__rad;
+				try {
+					theta_0__rad = AtmosphericAbsorption.approxElevationAngle(tier, h_surface__km, h__km, d__nm[j]*NM_TO_KM);
+				} catch(IllegalArgumentException e) {
+					row[j] = Float.NaN;
+					continue;
+				}
+				row[j] = kernels.loss((float)h__km, (float)FastMath.sin(theta_0__rad), (float)FastMath.cos(theta_0__rad));
+			}
+		});
+	}
+
+	private FloatKernels floatKernels() {
+		FloatKernels kernels = float_kernels;
+		if(kernels == null) {
+			float_kernels = kernels = new FloatKernels(AtmosphericAbsorption.floatKernel(h_surface__km, f__ghz),
+					new RainAttenuationCalculator.FloatKernel(rain, h_r__km, rr__mm_hr, 0),
+					(float)CloudsAttenuationCalculator.calculate(K_i, 1.0, h_c__km, M__g_m3));
+		}
+		return kernels;
+	}
+
+	public PropagationSetup getPropagationSetup() { return setup; }
+}
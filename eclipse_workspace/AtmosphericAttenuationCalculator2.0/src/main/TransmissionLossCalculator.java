@@ -54,6 +54,42 @@ public class TransmissionLossCalculator {
 	}
 	
 	
+	/** Calculate total 2-way atmospheric loss of radar ray at an accuracy tier
+	 * 
+	 * @param tier Accuracy tier of the atmospheric absorption and elevation angle. Its blake_bound__db is attached to the result
+	 * @param f__ghz Frequency (GHz)
+	 * @param h_surface__ft Height of antenna above MSL (ft)
+	 * @param h_high__ft Height of target above antenna (ft)
+	 * @param d__nm 1-way straight-line distance between antenna and target (nm)
+	 * @param T_c__f Temperature of clouds (f)
+	 * @param M__g_m3 Water density of clouds (g/m^3)
+	 * @param h_c__ft Columnar height of clouds (ft)
+	 * @param h_r__ft Columnar height of liquid rain (ft)
+	 * @param rr__mm_hr Rain rate (mm/hr)
+	 * @return Total 2-way attenuation (dB) with the tier's error bound
+	 */
+	public static AccuracyTier.Result calcTotalAttenuation(AccuracyTier tier, double f__ghz, double h_surface__ft, double h_high__ft, double d__nm, 
+			double T_c__f, double M__g_m3, double h_c__ft, double h_r__ft,	double rr__mm_hr) {
+		
+		double d__km = d__nm * 1.852;
+		double h_surface__km = h_surface__ft * 0.0003048;
+		double h_high__km = h_high__ft * 0.0003048;
+		double h_c__km = h_c__ft * 0.0003048;
+		double h_r__km = h_r__ft * 0.0003048;
+		
+		double T_c__k = (5.0/9.0)*(T_c__f-32.0) + 273.15;
+		
+		double theta_0__rad = AtmosphericAbsorption.approxElevationAngle(tier, h_surface__km, h_high__km, d__km);
+		
+		double total_attenuation__db = 0.0;
+		total_attenuation__db += AtmosphericAbsorption.computeAtmosphericLossElevAngleKnown(tier, h_surface__km, h_high__km, theta_0__rad, f__ghz);
+		total_attenuation__db += CloudsAttenuationCalculator.calculate(f__ghz, theta_0__rad, h_c__km, T_c__k, M__g_m3);
+		total_attenuation__db += RainAttenuationCalculator.calculate(f__ghz, theta_0__rad, h_r__km, rr__mm_hr, 0);
+		
+		return new AccuracyTier.Result(total_attenuation__db, tier, tier.blake_bound__db);
+	}
+	
+	
 	/** Calculate the temporal difference between the method found in ITU REC. P.676-8 (old method) and Blake's method (new method)
 	 * 
 	 */
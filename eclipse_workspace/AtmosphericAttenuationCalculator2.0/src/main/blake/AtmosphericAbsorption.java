@@ -7,6 +7,14 @@ import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.exception.TooManyEvaluationsException;
 import org.apache.commons.math3.exception.MaxCountExceededException;
 
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import main.AccuracyTier;
+import main.util.Interpolation;
+import main.util.LossField;
+import main.util.ResultCache;
+
 /** Atmospheric Absorption Calculator
  * 
  * This calculator is primarily based on "Radar Range-Performance Analysis", by Lamont V. Blake, ch. 5
@@ -46,6 +54,56 @@ public class AtmosphericAbsorption {
 			
 			return mid_point *= delta_h/3.0;
 		}
+		
+		/** Composite Simpson rule with N (even) intervals, nodes at from + i*delta_h */
+		public static double composite(double from, double to, UnivariateFunction f, int N) {
+			double delta_h = (to-from)/(double)N;
+			
+			double sum = f.value(from) + f.value(to);
+			for(int i=1; i<N; ++i)
+				sum += (i % 2 == 0) ? 2.0*f.value(from + i*delta_h) : 4.0*f.value(from + i*delta_h);
+			
+			return sum*delta_h/3.0;
+		}
+		
+		/** Adaptive Simpson rule to an absolute tolerance
+		 * 
+		 * @note Starts from INITIAL_PANELS panels so that the first estimate cannot step over the kinks of the tabulated vapor density
+		 */
+		public static double adaptive(double from, double to, UnivariateFunction f, double tolerance) {
+			double width = (to-from)/INITIAL_PANELS;
+			double sum = 0.0;
+			double f_a = f.value(from);
+			for(int i=0; i<INITIAL_PANELS; ++i) {
+				double a = from + i*width, b = (i == INITIAL_PANELS-1) ? to : a + width;
+				double f_b = f.value(b), f_m = f.value(0.5*(a+b));
+				double whole = (b-a)*(f_a + 4.0*f_m + f_b)/6.0;
+				sum += adaptive(a, b, f, tolerance/INITIAL_PANELS, f_a, f_m, f_b, whole, MAX_DEPTH);
+				f_a = f_b;
+			}
+			return sum;
+		}
+		
+		private static final int INITIAL_PANELS = 8;
+		private static final int MAX_DEPTH = 20;
+		
+		private static double adaptive(double a, double b, UnivariateFunction f, double tolerance, double f_a, double f_m, double f_b, double whole, int depth) {
+			double m = 0.5*(a+b);
+			double f_lm = f.value(0.5*(a+m)), f_rm = f.value(0.5*(m+b));
+			double left = (m-a)*(f_a + 4.0*f_lm + f_m)/6.0;
+			double right = (b-m)*(f_m + 4.0*f_rm + f_b)/6.0;
+			double delta = left + right - whole;
+			
+			// A NaN integrand never meets the tolerance, so it ends the recursion like convergence does
+			if(depth <= 0 || !(Math.abs(delta) > 15.0*tolerance)) return left + right + delta/15.0;
+			return adaptive(a, m, f, 0.5*tolerance, f_a, f_lm, f_m, left, depth-1) + adaptive(m, b, f, 0.5*tolerance, f_m, f_rm, f_b, right, depth-1);
+		}
+		
+		/** Integrate at the resolution of an accuracy tier */
+		public static double integrate(AccuracyTier tier, double from, double to, UnivariateFunction f) {
+			if(tier.simpson_intervals > 0) return composite(from, to, f, tier.simpson_intervals);
+			return adaptive(from, to, f, tier.adaptive_tolerance);
+		}
 	}	
 	/** Class to house integrand of X integral
 	 * 
@@ -68,16 +126,22 @@ public class AtmosphericAbsorption {
 	 */
 	private static class Loss implements UnivariateFunction {
 		private final double num, surface_height__km, f__ghz;
+		private final double[] table;
 		Loss(double num, double surface_height__km, double f__ghz) {
+			this(num, surface_height__km, f__ghz, null);
+		}
+		Loss(double num, double surface_height__km, double f__ghz, double[] table) {
 			this.num = num;
 			this.surface_height__km = surface_height__km;
 			this.f__ghz = f__ghz;
+			this.table = table;
 		}
 		
 		@Override
 		public double value(double h) { 
 			double refractivity = getRefractivity(h);
-			double coefficients = computeCoefficients(h+surface_height__km, f__ghz);
+			double h__km = h+surface_height__km;
+			double coefficients = (table != null && h__km <= TABLE_TOP__KM) ? Interpolation.uniform(0.0, TABLE_STEP__KM, table, h__km) : computeCoefficients(h__km, f__ghz);
 			double N = 1.0 + h/A_0;
 			return coefficients / FastMath.sqrt(1.0 - num/(refractivity*refractivity*N*N)); 
 		}
@@ -98,6 +162,86 @@ public class AtmosphericAbsorption {
 			return refractivity / FastMath.sqrt(1.0 - num/(refractivity*refractivity*N*N)); 
 		}
 	}
+	/** Single-precision 2-way loss of many targets above one surface at one frequency
+	 *
+	 * The absorption coefficient and the refraction term are tabulated once on the TABLE_STEP__KM grid of heights above the
+	 * surface, then every target is integrated in float with the Simpson rule of AccuracyTier.FAST. The refraction term is kept as
+	 * delta(h) = 1 - (N_0/(n(h)*(1 + h/A_0)))^2, so the integrand c(h)/sqrt(sin^2 + cos^2*delta(h)) never subtracts nearly equal floats.
+	 *
+	 * @note Error analysis. Discretization is that of AccuracyTier.FAST (same rule, same table step), except that the table nodes
+	 * 		sit at heights above the surface instead of above MSL; the two agree to 5e-4 relative. Rounding: each integrand value takes
+	 * 		two interpolations, a sqrt and a division, about 6 ulp; the 11-term weighted sum adds at most 11 ulp more, so the relative
+	 * 		rounding error of a loss stays below 2e-6. main.validation.GoldenReference measures the whole kernel against REFERENCE
+	 * @note Heights above TABLE_TOP__KM take the coefficient at the top of the table, where it is below 1e-6 dB/km.
+	 * 		The elevation angle must be positive
+	 */
+	public static final class FloatKernel {
+		private static final int INTERVALS = AccuracyTier.FAST.simpson_intervals;
+
+		private final float[] coefficient, delta;
+		private final float inverse_step;
+		private final int last;
+
+		private FloatKernel(double h_surface__km, double f__ghz) {
+			int n = (int)Math.round(TABLE_TOP__KM/TABLE_STEP__KM) + 1;
+			coefficient = new float[n];
+			delta = new float[n];
+			for(int i=0; i<n; ++i) {
+				double h = i*TABLE_STEP__KM;
+				double ratio = N_0/(getRefractivity(h)*(1.0 + h/A_0));
+				coefficient[i] = (float)computeCoefficients(h_surface__km + h, f__ghz);
+				delta[i] = (float)((1.0-ratio)*(1.0+ratio));
+			}
+			inverse_step = (float)(1.0/TABLE_STEP__KM);
+			last = n-1;
+		}
+
+		/** 2-way loss of one target
+		 *
+		 * @param h_high__km Height of target above surface	(km)
+		 * @param sin_theta_0 Sine of the initial elevation angle
+		 * @param cos_theta_0 Cosine of the initial elevation angle
+		 * @return 2-way attenuation					(dB)
+		 */
+		public float loss(float h_high__km, float sin_theta_0, float cos_theta_0) {
+			float sin2 = sin_theta_0*sin_theta_0, cos2 = cos_theta_0*cos_theta_0;
+			float delta_h = h_high__km/INTERVALS;
+
+			float sum = integrand(0.0f, sin2, cos2) + integrand(h_high__km, sin2, cos2);
+			for(int i=1; i<INTERVALS; ++i)
+				sum += ((i & 1) == 0 ? 2.0f : 4.0f)*integrand(i*delta_h, sin2, cos2);
+
+			return 2.0f*sum*delta_h/3.0f;
+		}
+
+		/** 2-way loss of many targets
+		 *
+		 * @param h_high__km Heights of targets above surface	(km)
+		 * @param sin_theta_0 Sines of the initial elevation angles
+		 * @param cos_theta_0 Cosines of the initial elevation angles
+		 * @param out Receives the 2-way attenuation of each target	(dB)
+		 */
+		public void compute(float[] h_high__km, float[] sin_theta_0, float[] cos_theta_0, float[] out) {
+			if(sin_theta_0.length != h_high__km.length || cos_theta_0.length != h_high__km.length || out.length != h_high__km.length)
+				throw new IllegalArgumentException("Target arrays must have the same length");
+
+			for(int i=0; i<h_high__km.length; ++i)
+				out[i] = loss(h_high__km[i], sin_theta_0[i], cos_theta_0[i]);
+		}
+
+		private float integrand(float h, float sin2, float cos2) {
+			float u = h*inverse_step;
+			int i = (int)u;
+			if(i >= last) {
+				i = last-1;
+				u = last;
+			}
+			float t = u - i;
+			float c = coefficient[i] + t*(coefficient[i+1]-coefficient[i]);
+			float d = delta[i] + t*(delta[i+1]-delta[i]);
+			return c / (float)Math.sqrt(sin2 + cos2*d);
+		}
+	}
 	
 	
 	/** Radius of Earth (km) */
@@ -109,6 +253,19 @@ public class AtmosphericAbsorption {
 	/** Refractivity coefficient */
 	private static final double C_E = 0.1439;
 	
+	/** Height grid of the AccuracyTier.FAST coefficient tables (km) */
+	private static final double TABLE_STEP__KM = 0.1;
+	private static final double TABLE_TOP__KM = 40.0;
+	
+	/** Maximum number of frequencies with a coefficient table */
+	private static final int MAX_TABLES = 256;
+	
+	/** Version of the losses and elevation angles in a ResultCache. Bump it whenever they change */
+	public static final int CACHE_VERSION = 1;
+	
+	/** Absorption coefficients (dB/km) on the height grid, per frequency */
+	private static final ConcurrentHashMap<Double, double[]> coefficient_tables = new ConcurrentHashMap<>();
+	
 	/** Table of Oxygen resonances
 	 * @see Radar Range-Performance Analysis (Lamont V. Blake) page 201 
 	*/ 
@@ -160,6 +317,7 @@ public class AtmosphericAbsorption {
 			{ 30.0, 3.778e-4 },
 			{ 32.0, 2.710e-4 }
 	};
+	private static final double[] vap_dens = Interpolation.column(vap_dens_tab, 1);
 
 //	
 //
@@ -191,7 +349,94 @@ public class AtmosphericAbsorption {
 	public static double computeAtmosphericLossElevAngleKnown(double h_surface__km, double h_high__km, double theta_0__rad, double f__ghz) {
 		return computeLoss(h_surface__km, h_high__km, theta_0__rad, f__ghz, 50);
 	}
-//	
+	/** Compute 2-way atmospheric loss with the cosine of the initial elevation angle known. Default of N = 50
+	 * 
+	 * @param h_low__km Height of surface above MSL	(km)
+	 * @param h_high__km Height of target above surface	(km)
+	 * @param cos_theta_0 Cosine of the initial elevation angle of antenna
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 2-way attenuation					(dB)
+	 * @note Lets callers that also need the angle's sine or cosine for other terms evaluate it once
+	 */
+	public static double computeAtmosphericLossCosKnown(double h_surface__km, double h_high__km, double cos_theta_0, double f__ghz) {
+		return computeLossCosKnown(h_surface__km, h_high__km, cos_theta_0, f__ghz, 50);
+	}
+	
+	/** Compute 2-way atmospheric loss with known terminal heights and straight line distance at an accuracy tier
+	 * 
+	 * @param tier Accuracy tier. Its blake_bound__db applies to the result
+	 * @param h_low__km Height of surface above MSL	(km)
+	 * @param h_high__km Height of target above surface	(km)
+	 * @param d__km Straight-line distance			(km)
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 2-way attenuation					(dB)
+	 */
+	public static double computeAtmosphericLoss(AccuracyTier tier, double h_surface__km, double h_high__km, double d__km, double f__ghz) {
+		double theta_0__rad = approxElevationAngle(tier, h_surface__km, h_high__km, d__km);
+		return computeAtmosphericLossCosKnown(tier, h_surface__km, h_high__km, FastMath.cos(theta_0__rad), f__ghz);
+	}
+	/** Compute 2-way atmospheric loss with known initial elevation angle at an accuracy tier
+	 * 
+	 * @param tier Accuracy tier. Its blake_bound__db applies to the result
+	 * @param h_low__km Height of surface above MSL	(km)
+	 * @param h_high__km Height of target above surface	(km)
+	 * @param theta_0__rad Initial elevation angle of antenna		(km)
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 2-way attenuation					(dB)
+	 */
+	public static double computeAtmosphericLossElevAngleKnown(AccuracyTier tier, double h_surface__km, double h_high__km, double theta_0__rad, double f__ghz) {
+		return computeAtmosphericLossCosKnown(tier, h_surface__km, h_high__km, FastMath.cos(theta_0__rad), f__ghz);
+	}
+	/** Compute 2-way atmospheric loss with the cosine of the initial elevation angle known at an accuracy tier
+	 * 
+	 * @param tier Accuracy tier. Its blake_bound__db applies to the result
+	 * @param h_low__km Height of surface above MSL	(km)
+	 * @param h_high__km Height of target above surface	(km)
+	 * @param cos_theta_0 Cosine of the initial elevation angle of antenna
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 2-way attenuation					(dB)
+	 * @note Integrates heights above the surface over [0, h_high__km]
+	 */
+	public static double computeAtmosphericLossCosKnown(AccuracyTier tier, double h_surface__km, double h_high__km, double cos_theta_0, double f__ghz) {
+		double num = cos_theta_0*cos_theta_0*N_0*N_0;
+		
+		Loss loss = new Loss(num, h_surface__km, f__ghz, tier.coefficient_table ? coefficientTable(f__ghz) : null);
+		return 2*SimpsonIntegrator.integrate(tier, 0.0, h_high__km, loss);
+	}
+	/** Compute 2-way atmospheric loss at an accuracy tier, reusing the results of earlier runs
+	 * 
+	 * @param cache Persistent cache of the losses and elevation angles
+	 * @param tier Accuracy tier. Its blake_bound__db applies to the result
+	 * @param h_low__km Height of surface above MSL	(km)
+	 * @param h_high__km Height of target above surface	(km)
+	 * @param d__km Straight-line distance			(km)
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 2-way attenuation					(dB)
+	 */
+	public static double computeAtmosphericLoss(ResultCache cache, AccuracyTier tier, double h_surface__km, double h_high__km, double d__km, double f__ghz) {
+		return cache.computeIfAbsent(ResultCache.namespace("blake.loss", CACHE_VERSION, tier.name()), new double[] { h_surface__km, h_high__km, d__km, f__ghz },
+				() -> computeAtmosphericLossCosKnown(tier, h_surface__km, h_high__km, FastMath.cos(approxElevationAngle(cache, tier, h_surface__km, h_high__km, d__km)), f__ghz));
+	}
+	/** Compute the 1-way absorption coefficient of oxygen and water vapor at an accuracy tier
+	 *
+	 * @param tier Accuracy tier. Tiers with coefficient_table interpolate the table like the loss integrals do
+	 * @param h__km Altitude from MSL				(km)
+	 * @param f__ghz Frequency 						(Ghz)
+	 * @return 1-way attenuation					(dB/km)
+	 */
+	public static double computeAbsorptionCoefficient(AccuracyTier tier, double h__km, double f__ghz) {
+		if(tier.coefficient_table && h__km <= TABLE_TOP__KM) return Interpolation.uniform(0.0, TABLE_STEP__KM, coefficientTable(f__ghz), h__km);
+		return computeCoefficients(h__km, f__ghz);
+	}
+	/** Single-precision kernel of the 2-way loss above one surface at one frequency
+	 *
+	 * @param h_surface__km Height of surface above MSL	(km)
+	 * @param f__ghz Frequency 						(Ghz)
+	 */
+	public static FloatKernel floatKernel(double h_surface__km, double f__ghz) {
+		return new FloatKernel(h_surface__km, f__ghz);
+	}
+//
 //
 ////////////////////////////////
 //	
@@ -229,6 +474,33 @@ public class AtmosphericAbsorption {
 	public static double approxElevationAngle(double h_surface__km, double h_high__km, double d__km) throws IllegalArgumentException {
 		return approxElevationAngle(h_surface__km, h_high__km, d__km, 50);
 	}
+	/** Accounting for atmospheric refraction, approximate the initial elevation angle of the antenna at an accuracy tier
+	 * 
+	 * @param tier Accuracy tier supplying the search tolerance, iteration cap and integration of the ray distance
+	 * @param h_surface__km h_surface__km Altitude of surface above MSL
+	 * @param h_high__km Altitude of target above surface
+	 * @param d__km Straight-line distance between terminals
+	 * @return theta_0__rad -> approximate initial elevation angle
+	 * @throws IllegalArgumentException when theta_t__rad (straight-line) elevation angle is negative
+	 */
+	public static double approxElevationAngle(AccuracyTier tier, double h_surface__km, double h_high__km, double d__km) throws IllegalArgumentException {
+		return searchElevationAngle(h_surface__km, h_high__km, d__km, tier.elevation_tolerance__km, tier.elevation_iterations, tier);
+	}
+	/** Accounting for atmospheric refraction, approximate the initial elevation angle of the antenna at an accuracy tier, reusing
+	 * the results of earlier runs
+	 * 
+	 * @param cache Persistent cache of the elevation angles
+	 * @param tier Accuracy tier supplying the search tolerance, iteration cap and integration of the ray distance
+	 * @param h_surface__km h_surface__km Altitude of surface above MSL
+	 * @param h_high__km Altitude of target above surface
+	 * @param d__km Straight-line distance between terminals
+	 * @return theta_0__rad -> approximate initial elevation angle
+	 * @throws IllegalArgumentException when theta_t__rad (straight-line) elevation angle is negative
+	 */
+	public static double approxElevationAngle(ResultCache cache, AccuracyTier tier, double h_surface__km, double h_high__km, double d__km) throws IllegalArgumentException {
+		return cache.computeIfAbsent(ResultCache.namespace("blake.elevation", CACHE_VERSION, tier.name()), new double[] { h_surface__km, h_high__km, d__km },
+				() -> approxElevationAngle(tier, h_surface__km, h_high__km, d__km));
+	}
 //	
 //
 ////////////////////////////////
@@ -246,6 +518,15 @@ public class AtmosphericAbsorption {
 	 * @return theta_0__rad -> approximate initial elevation angle
 	 */
 	private static double approxElevationAngle(double h_surface__km, double h_high__km, double d__km, int N) throws IllegalArgumentException {
+		return searchElevationAngle(h_surface__km, h_high__km, d__km, 0.5, 15, null);
+	}
+	/** Search for the initial elevation angle whose refracted ray reaches the target
+	 * 
+	 * @param tolerance__km Stop once the straight-line distance is within this of d__km
+	 * @param iterations Cap on the number of search steps
+	 * @param tier Integration of the ray distance, null for the fixed 5-interval rule
+	 */
+	private static double searchElevationAngle(double h_surface__km, double h_high__km, double d__km, double tolerance__km, int iterations, AccuracyTier tier) throws IllegalArgumentException {
 		// Earth radials of lower & upper terminals
 		double r_1__km = h_surface__km + A_0;
 		double r_2__km = h_high__km + A_0 + h_surface__km;
@@ -270,7 +551,7 @@ public class AtmosphericAbsorption {
 		
 		int j = 0;
 		// Iterate until error is < 1 meter or 30 times, whichever comes first
-		while(Math.abs(d_error) > 0.5 && ++j < 15) {
+		while(Math.abs(d_error) > tolerance__km && ++j < iterations) {
 		//while(++j < 5) {
 			double d_test = 0.0;
 			
@@ -278,7 +559,7 @@ public class AtmosphericAbsorption {
 			theta_0__rad += (error > 0.0) ? delta : -delta;
 			
 			// Calculate straight line distance at given elevation angle
-			d_test = calcDistance(h_surface__km , h_high__km, theta_0__rad);
+			d_test = calcDistance(h_surface__km , h_high__km, theta_0__rad, tier);
 				
 			// Update error
 			d_error = d_test - d__km;
@@ -321,7 +602,7 @@ public class AtmosphericAbsorption {
 	 * @param N Number of iterations in numerical integration
 	 * @return d -> Straight line distance in km
 	 */
-	private static double calcDistance(double h_surface__km, double h_high__km, double theta_0__rad) {
+	private static double calcDistance(double h_surface__km, double h_high__km, double theta_0__rad, AccuracyTier tier) {
 		// Earth radials of lower & upper terminals
 		double r_1__km = h_surface__km + A_0;
 		double r_2__km = h_high__km + A_0;
@@ -332,7 +613,7 @@ public class AtmosphericAbsorption {
 
 		
 		X x = new X(denom);
-		x__km = SimpsonIntegrator.integrate(0.0, h_high__km, x, 5);
+		x__km = (tier == null) ? SimpsonIntegrator.integrate(0.0, h_high__km, x, 5) : SimpsonIntegrator.integrate(tier, 0.0, h_high__km, x);
 	
 		// Central angle at Earth center
 		double phi = x__km / r_1__km;
@@ -354,7 +635,10 @@ public class AtmosphericAbsorption {
 	 * @return 2-way attenuation in dB
 	 */
 	private static double computeLoss(double surface_height__km, double h_high__km, double theta_0__rad, double f__ghz, int N) {	
-		double num = FastMath.cos(theta_0__rad)*FastMath.cos(theta_0__rad)*N_0*N_0;
+		return computeLossCosKnown(surface_height__km, h_high__km, FastMath.cos(theta_0__rad), f__ghz, N);
+	}
+	private static double computeLossCosKnown(double surface_height__km, double h_high__km, double cos_theta_0, double f__ghz, int N) {	
+		double num = cos_theta_0*cos_theta_0*N_0*N_0;
 		
 
 		
@@ -426,6 +710,22 @@ public class AtmosphericAbsorption {
 		return output;
 	}
 	
+	/** Absorption coefficients of f__ghz on the height grid, memoized per frequency */
+	private static double[] coefficientTable(double f__ghz) {
+		double[] table = coefficient_tables.get(f__ghz);
+		if(table != null) return table;
+		
+		// Evict an arbitrary entry to stay bounded
+		if(coefficient_tables.size() >= MAX_TABLES) {
+			Iterator<Double> it = coefficient_tables.keySet().iterator();
+			if(it.hasNext()) coefficient_tables.remove(it.next());
+		}
+		return coefficient_tables.computeIfAbsent(f__ghz, f -> {
+			double[] column = new double[(int)Math.round(TABLE_TOP__KM/TABLE_STEP__KM) + 1];
+			for(int i=0; i<column.length; ++i) column[i] = computeCoefficients(i*TABLE_STEP__KM, f);
+			return column;
+		});
+	}
 	private static double computeCoefficients(double h__km, double f__ghz) {
 		TempPres atmos = computeTempPressure(h__km*1000);
 		if(f__ghz > 1.2) return computeOxygenCoefficient(h__km, f__ghz, atmos) + computeWaterVaporCoefficient(h__km, f__ghz, atmos);
@@ -506,15 +806,8 @@ public class AtmosphericAbsorption {
 		return gamma + gamma_res;
 	}
 	private static double interpolateVaporDensity(double h__km) {
-		if(h__km < 0.001) return vap_dens_tab[0][1];
-		if(h__km > 32.00) return vap_dens_tab[15][1];
-		
-		int i = 1;
-		while(h__km >= vap_dens_tab[i][0] && i < 15) ++i;
-		
-		if(h__km < vap_dens_tab[i][0]) return ((vap_dens_tab[i][1]-vap_dens_tab[i-1][1])*(h__km-vap_dens_tab[i-1][0]))/(vap_dens_tab[i][0]-vap_dens_tab[i-1][0]) + vap_dens_tab[i-1][1];
-		else if (h__km == vap_dens_tab[i][1]) return vap_dens_tab[i][1];
-		else return vap_dens_tab[15][1];
+		// Heights are tabulated every 2 km from 0 to 32 km
+		return Interpolation.uniform(0.0, 2.0, vap_dens, h__km);
 	}
 	private static double getRefractivity(double h__km) {
 		return 1.0 + 0.000313*Math.exp(-C_E*h__km);
@@ -547,7 +840,8 @@ public class AtmosphericAbsorption {
 		int i=0;
 		
 		final int M = 25000000;
-		double[][] output = new double[M][4];
+		// Row i is sample i: elevation angle, loss, time. The index is kept out of the float columns, which are exact only to 2^24
+		LossField output = LossField.allocate(M, 3);
 		
 		
 		// Determine time cost of function
@@ -560,12 +854,12 @@ public class AtmosphericAbsorption {
 			loss__db = computeAtmosphericLossElevAngleKnown(h_low__km, h_high__km, theta_0__rad, f__ghz);
 			sum_time += System.nanoTime()-begin_time;
 
-			output[i][3] = (System.nanoTime()-begin_time)/1.0e6;			
-			output[i][0] = i;
-			output[i][1] = theta_0__rad;
-			output[i][2] = loss__db;
+			output.set(output.offset(i, 2), (float)((System.nanoTime()-begin_time)/1.0e6));
+			output.set(output.offset(i, 0), (float)theta_0__rad);
+			output.set(output.offset(i, 1), (float)loss__db);
 
-			//for(int j=0; j<4; ++j) System.out.print(output[i][j] + ", ");
+			//System.out.print(i + ", ");
+			//for(int j=0; j<3; ++j) System.out.print(output.get(output.offset(i, j)) + ", ");
 			//System.out.println();
 		}
 		
@@ -1,249 +0,0 @@
-package main.blake;
-
-import java.io.FileWriter;
-import java.io.IOException;
-
-import org.apache.commons.math3.util.FastMath;
-
-
-public class GenLookupTable {
-	private static class TempPres {
-		public final double T__k;
-		public final double p__mbar;
-		
-		TempPres(double T, double p) {
-			this.T__k = T;
-			this.p__mbar = p;
-		}
-	}
-	
-	private static final double A_0 = 6370.0;
-			
-	private static double[][] o_res_tab = {
-			{ 56.2648, 118.7505},
-			{ 58.4466, 62.4863 },
-			{ 59.5910, 60.3061 },
-			{ 60.4348, 59.1642 },
-			{ 61.1506, 58.3239 },
-			{ 61.8002, 57.6125 },
-			{ 62.4112, 56.9682 },
-			{ 62.9980, 56.3634 },
-			{ 63.5685, 55.7839 },
-			{ 64.1272, 55.2214 },
-			{ 64.6779, 54.6728 },
-			{ 65.2240, 54.1294 },
-			{ 65.7626, 53.5960 },
-			{ 66.2978, 53.0695 },
-			{ 66.8313, 52.5458 },
-			{ 67.3627, 52.0259 },
-			{ 67.8923, 51.5091 },
-			{ 68.4205, 50.9949 },
-			{ 68.9478, 50.4830 },
-			{ 69.4741, 49.9730 },
-			{ 70.0000, 49.4648 },
-			{ 70.5249, 48.9582 },
-			{ 71.0497, 48.4530 }
-	};
-	
-	// f horizontal
-	// h vertical
-	private static final double[][] o_tab = {
-			{ 1.8101158575669396E-4, 6.791736025315347E-4, 0.0013850795481703604, 0.002177047317464036, 0.0029606109346711003, 0.0036801724561077867, 0.004312180398550709, 0.00485321477099328, 0.005310097171227565, 0.005693626382725795, 0.006015228612806161, 0.006285428116913475, 0.006513304649246776, 0.006706429092106924, 0.00687100152322154, 0.007012054483547778, 0.00713365887673624, 0.007239107575919144, 0.007331069648508237, 0.007411715896128606, 0.007482819325538014, 0.007545834852421534, 0.0076019622873933655, 0.007652196073923624, 0.00769736461460047, 0.00773816144556113, 0.007775170033900031, 0.007808883581246118, 0.007839720907661668, 0.007868039249283818, 0.00789414461692715, 0.007918300219316146, 0.007940733344044635, 0.007961641004121266, 0.007981194592124935, 0.00799954373300753, 0.00801681948696585, 0.00803313702291446, 0.008048597858910845, 0.008063291746881923, 0.00807729826400636, 0.008090688161227006, 0.00810352450991634, 0.008115863680168221, 0.008127756178134726, 0.00813924736495169, 0.008150378075856533, 0.008161185154904936, 0.008171701918089618, 0.008181958555536861 },
-			{ 1.8187295585370784E-4, 6.803738200727609E-4, 0.001381698238183338, 0.0021615456816668393, 0.002925952368349848, 0.00362173057742553, 0.004228022945795955, 0.004743499945547822, 0.005176281796137411, 0.005537817033814654, 0.00583974810952642, 0.006092562722175243, 0.006305174989210225, 0.0064849367027844055, 0.006637817862520227, 0.006768631762516165, 0.0068812506817061865, 0.006978792654496525, 0.007063775431891487, 0.007138240148615291, 0.00720384930614587, 0.007261963891820613, 0.007313703934404927, 0.007359996071040675, 0.007401610990461396, 0.007439193002707749, 0.0074732834836117295, 0.007504339544982569, 0.007532748972347844, 0.00755884223397121, 0.0075829021822732745, 0.007605171929010951, 0.007625861268544891, 0.007645151941432893, 0.007663201967454974, 0.007680149228464774, 0.007696114443739254, 0.007711203651168603, 0.007725510284729135, 0.007739116920727529, 0.007752096751166613, 0.007764514831402453, 0.007776429140382606, 0.007787891484673904, 0.007798948271816356, 0.007809641173979453, 0.007820007699215557, 0.007830081684621206, 0.007839893723289963, 0.007849471534958566 },
-			{ 1.8273390295118512E-4, 6.814581456400727E-4, 0.0013778424068281341, 0.0021450732191762444, 0.0028899357582298116, 0.0035618342542882786, 0.004142648177363065, 0.0046330832056498995, 0.005042467460960271, 0.005382812903300431, 0.005665911826552528, 0.005902170477659085, 0.006100310038188712, 0.006267448557865484, 0.006409319693406184, 0.006530516450856983, 0.0066347144944469425, 0.006724860663367499, 0.006803325779919717, 0.0068720259069049985, 0.006932517533322221, 0.006986071942461752, 0.0070337332586259, 0.007076363817190893, 0.00711467972905394, 0.00714927886624434, 0.007180662981978748, 0.007209255278799084, 0.007235414431447626, 0.0072594458369201215, 0.007281610685954617, 0.0073021333147008875, 0.007321207192112683, 0.007338999819812191, 0.0073556567608223525, 0.007371304967158185, 0.007386055540440893, 0.007400006031918791, 0.007413242366642003, 0.007425840459610263, 0.007437867578409573, 0.0074493834963515445, 0.007460441471801903, 0.007471089082753316, 0.007481368940393845, 0.007491319301163121, 0.007500974593353367, 0.007510365871532025, 0.007519521209802683, 0.0075284660430773994 },
-			{ 1.8359381215947267E-4, 6.824187904615868E-4, 0.0013734931846620829, 0.002127614520364614, 0.0028525741743368467, 0.0035005421701898983, 0.004056162103727781, 0.00452210782308063, 0.0049088196273396004, 0.005228786641754394, 0.0054938871861763255, 0.005714404438181749, 0.005898842382102149, 0.006054073125673096, 0.00618558954512552, 0.006297764603457744, 0.0063940802227667555, 0.006477316239991048, 0.0065497012632141725, 0.0066130310513334315, 0.006668760643344308, 0.006718075844919408, 0.006761948712833166, 0.006801180719351302, 0.006836436453749844, 0.006868270052108536, 0.006897146026419727, 0.00692345576516843, 0.0069475306745298265, 0.006969652700174103, 0.006990062796573887, 0.007008967779845749, 0.007026545900993686, 0.007042951401037727, 0.007058318251982446, 0.007072763243491411, 0.007086388541192226, 0.007099283816286077, 0.007111528025736297, 0.0071231909063838635, 0.007134334233843599, 0.007145012887189065, 0.007155275752638255, 0.007165166493253344, 0.007174724206715781, 0.007183983989266024, 0.007192977420697799, 0.007201732982708933, 0.007210276420809757, 0.0072186310582776445 },
-			{ 1.8445201847895533E-4, 6.832476099053468E-4, 0.0013686317157640328, 0.0021091562153939753, 0.002813885203401377, 0.0034379185532055186, 0.003968675196705496, 0.004410718887093525, 0.0047755022949010776, 0.005075906265613358, 0.005323834328428397, 0.005529408403005736, 0.005700894042567376, 0.005844907578653071, 0.0059666983844352435, 0.006070420801363985, 0.006159366649158845, 0.006236153427210476, 0.00630287250989964, 0.006361204247141804, 0.006412506825831869, 0.006457884777669342, 0.006498241870631958, 0.0065343220742688675, 0.006566741424314424, 0.006596012931566129, 0.0066225661577150345, 0.006646762685402062, 0.006668908412374322, 0.0066892633764829255, 0.006708049650815768, 0.0067254577223527815, 0.006741651672566016, 0.006756773406481424, 0.006770946122036022, 0.006784277169783486, 0.006796860420923149, 0.006808778236877183, 0.006820103114448721, 0.006830899065638387, 0.0068412227794855665, 0.00685112460408574, 0.006860649379650265, 0.006869837147689311, 0.006878723756782706, 0.006887341381705097, 0.006895718969695695, 0.0069038826252581, 0.006911855942925014, 0.00691966029583381 },
-			{ 1.8530780327242168E-4, 6.83936099409499E-4, 0.001363239249800359, 0.002089687186796441, 0.0027738910871442576, 0.003374033035080778, 0.003880301938039275, 0.004299062657190247, 0.004642677313635742, 0.004924334554330267, 0.005155905666452963, 0.005347316657579671, 0.0055065764025810085, 0.005640037883624692, 0.0057527058437825745, 0.005848518489914377, 0.005930581852767038, 0.006001356156197244, 0.006062800730353091, 0.006116485495404499, 0.006163676388396614, 0.006205400825709614, 0.006242497991544214, 0.006275657624340121, 0.006305450079367706, 0.006332349757208224, 0.0063567534674099984, 0.006378994907044284, 0.006399356143495855, 0.006418076774520429, 0.0064353612772476525, 0.006451384937093545, 0.006466298656888326, 0.006480232878135514, 0.0064933007944773065, 0.006505600997944835, 0.006517219668324488, 0.00652823239268611, 0.0065387056840995016, 0.0065486982545493325, 0.00655826208610127, 0.00656744333576274, 0.00657628310268529, 0.006584818080964267, 0.006593081116995235, 0.006601101686908183, 0.00660890630683597, 0.006616518886542012, 0.00662396103512328, 0.006631252326032782 },
-			{ 1.8616039051813293E-4, 6.844753922404906E-4, 0.0013572972435333965, 0.0020691987827255853, 0.0027326188328558754, 0.003308960464456916, 0.003791160330716554, 0.004187285905597265, 0.0045105037159053896, 0.004774228489982307, 0.004990245496991342, 0.005168253773931212, 0.005315990187872815, 0.00543953894078421, 0.005543660489414182, 0.0056320803474642755, 0.005707723652930783, 0.005772898742760766, 0.005829438248107254, 0.005878806683951653, 0.005922182316136812, 0.005960519539799025, 0.005994596573302214, 0.0060250520979890166, 0.0060524135612375195, 0.00607711916973909, 0.006099535084828782, 0.006119968950045626, 0.006138680598902064, 0.0061558905820257295, 0.006171786997922846, 0.006186530996255793, 0.00620026123623818, 0.006213097517882739, 0.006225143754814801, 0.006236490420115024, 0.006247216568196525, 0.0062573915138596625, 0.0062670762327822595, 0.0062763245345915, 0.006285184049429275, 0.006293697060893278, 0.006301901211905283, 0.006309830105042233, 0.006317513814873139, 0.006324979326652249, 0.0063322509131549624, 0.006339350459374613, 0.006346297743123425, 0.00635311067821865 },
-			{ 1.870089428345953E-4, 6.848562593841347E-4, 0.0013507874719213674, 0.0020476850285848437, 0.0026901002931272165, 0.00324278067422183, 0.0037013713771174754, 0.004075535255599487, 0.0043791370737430455, 0.004625738743001314, 0.004826989667230256, 0.00499233446885777, 0.00512922550153797, 0.005243474768124069, 0.00533960012562481, 0.005421118680816286, 0.005490780070580032, 0.005550746393594221, 0.005602729033856962, 0.005648092135643223, 0.005687930823741447, 0.005723130484466337, 0.005754411889860096, 0.005782365733380733, 0.005807479222330988, 0.005830156684935235, 0.005850735643300801, 0.005869499431508293, 0.005886687165042636, 0.005902501666964415, 0.005917115808001493, 0.0059306776078454, 0.00594331436303949, 0.005955136005478041, 0.005966237849290549, 0.005976702848834874, 0.005986603463804114, 0.005996003206967705, 0.006004957934274163, 0.006013516924799546, 0.00602172378848314, 0.006029617232115161, 0.006037231708153446, 0.006044597966286694, 0.006051743523956625, 0.006058693069091552, 0.00606546880592881, 0.006072090752889201, 0.006078576999917554, 0.006084943931444612 },
-			{ 1.8785255726856337E-4, 6.850691119016071E-4, 0.0013436921488423064, 0.0020251428345032124, 0.0026463722118002303, 0.0031755782036245067, 0.0036110585286317034, 0.0039639565219497675, 0.004248728886742434, 0.004479009207084666, 0.004666265298644975, 0.004819663518542801, 0.004946361909199536, 0.005051898727735896, 0.005140552131298411, 0.005215635843526391, 0.005279729803875417, 0.005334855719199652, 0.005382609239716638, 0.005424259151562656, 0.005460821898180614, 0.005493117773148948, 0.0055218135138295, 0.005547454784487752, 0.005570491112314149, 0.005591295160303483, 0.0056101777253325935, 0.005627399488912772, 0.0056431802850082004, 0.005657706456895077, 0.005671136733680897, 0.005683606952719039, 0.0056952338766334204, 0.005706118295756839, 0.005716347563262341, 0.005725997677357132, 0.005735134999873949, 0.005743817681438202, 0.005752096848644998, 0.005760017597267179, 0.005767619826632918, 0.005774938943360449, 0.0057820064571702115, 0.0057888504871725175, 0.00579549619359538, 0.005801966147176691, 0.005808280646247902, 0.005814457989766777, 0.005820514713126005, 0.0058264657924023975 },
-			{ 1.8869026083855525E-4, 6.851040061096033E-4, 0.0013359940573377477, 0.0020015721959122787, 0.002601476233487293, 0.003107441976459443, 0.003520347111847582, 0.0038526940595367204, 0.004119426005379539, 0.004334176585716043, 0.00450819056786099, 0.004650335727752956, 0.0047674685716496985, 0.0048648537903223585, 0.0049465338248828325, 0.005015624673338657, 0.0050745427146387835, 0.005125175250424711, 0.005169007731086015, 0.005207218546913006, 0.005240749830169712, 0.005270360589020356, 0.005296666822232524, 0.005320172008696253, 0.005341290445544469, 0.005360365241104146, 0.005377682286580974, 0.005393481181842128, 0.005407963838131574, 0.005421301296807492, 0.005433639168796537, 0.005445102000587209, 0.0054557967993966484, 0.005465815895625922, 0.005475239279846738, 0.005484136520726771, 0.005492568346890762, 0.005500587957832843, 0.00550824211525474, 0.005515572055583891, 0.005522614256170267, 0.005529401081208751, 0.0055359613283643555, 0.005542320693074332, 0.005548502164323677, 0.0055545263631567665, 0.005560411833158029, 0.005566175290500936, 0.00557183183984458, 0.005577395161285659 },
-			{ 1.895210058271675E-4, 6.849506519703575E-4, 0.0013276766891143006, 0.001976976384289641, 0.0025554588743663493, 0.003038464937304503, 0.0034293637368053064, 0.0037418901263574266, 0.00399137009409559, 0.004191370032084756, 0.004352874543979402, 0.004484435951347322, 0.004592604421668613, 0.004682372834149277, 0.004757552853966779, 0.0048210689451152885, 0.0048751803222879695, 0.0049216459557430165, 0.004961846613694091, 0.004996875177611905, 0.005027603732800925, 0.005054733690259165, 0.0050788334846430805, 0.005100367135301685, 0.005119716048344849, 0.005137195785532973, 0.00515306905859481, 0.005167555872317858, 0.005180841498227389, 0.00519308278577038, 0.005204413190515362, 0.0052149468054778075, 0.005224781612752617, 0.0052340021214270635, 0.005242681519447948, 0.005250883438282651, 0.005258663407364267, 0.005266070058649697, 0.005273146128835678, 0.005279929296910733, 0.00528645288706092, 0.005292746460967302, 0.005298836318839484, 0.005304745924826547, 0.005310496269510191, 0.005316106179845286, 0.0053215925850399635, 0.005326970745361219, 0.005332254449635582, 0.005337456186227756 },
-			{ 1.9034366481680856E-4, 6.845984251023072E-4, 0.0013187243928627647, 0.0019513621249805993, 0.002508371452386905, 0.0029687436484648116, 0.0033382356931048913, 0.0036316842666102387, 0.0038646971379056603, 0.0040507108435519175, 0.0042004170812685255, 0.004322039165457707, 0.004421818381523878, 0.004504478974622065, 0.004573607605691873, 0.0046319438357679855, 0.0046815963021745515, 0.004724201756618005, 0.004761041753606034, 0.004793128455792556, 0.004821268045935525, 0.004846107898697578, 0.004868171932956079, 0.004887887314393365, 0.004905604785841519, 0.004921614268972666, 0.004936156930394638, 0.004949434583948615, 0.004961617070781156, 0.004972848092789612, 0.004983249854595766, 0.004992926781193831, 0.005001968513656673, 0.005010452337291145, 0.005018445160818814, 0.0050260051382482445, 0.005033183004749678, 0.005040023182345664, 0.005046564699357642, 0.005052841958396063, 0.005058885380584552, 0.0050647219481746, 0.0050703756633674775, 0.00507586793773985, 0.005081217923959148, 0.005086442799317232, 0.005091558008884729, 0.005096577474701315, 0.005101513776297683, 0.005106378306937333 },
-			{ 1.911570254651598E-4, 6.840363828449846E-4, 0.0013091225307558915, 0.0019247397589013968, 0.002460269975518785, 0.0028983778509217408, 0.003247090339862834, 0.003522212719401846, 0.00373953699569301, 0.0039123122111830175, 0.004050908765624558, 0.004163210585381832, 0.004255149617510627, 0.004331185920667856, 0.004394687634330066, 0.0044482163978588245, 0.004493736985421602, 0.004532770038504005, 0.004566503288192889, 0.004595872852624953, 0.004621623025144019, 0.004644350570964335, 0.004664537812183218, 0.004682577545769457, 0.004698791968212346, 0.004713447167332716, 0.004726764309052371, 0.004738928340172635, 0.004750094809465515, 0.004760395252333821, 0.004769941470734732, 0.004778828957336294, 0.004787139652165643, 0.004794944175123805, 0.004802303644317454, 0.004809271165090922, 0.0048158930557119835, 0.004822209861275045, 0.0048282571963750714, 0.004834066448629096, 0.004839665368556763, 0.0048450785662169866, 0.004850327930991127, 0.0048554329877478816, 0.004860411200126896, 0.004865278229690854, 0.004870048158106959, 0.004874733678242954, 0.004879346259033375, 0.004883896288138131 },
-			{ 1.9195978501878547E-4, 6.832532848311596E-4, 0.0012988576422683497, 0.0018971233848712127, 0.0024112149872330493, 0.002827469993193122, 0.003156054495612837, 0.0034136078581594575, 0.0036160130027180905, 0.003776279024258892, 0.0039044309127524756, 0.0040080058269687585, 0.004092627827799608, 0.004162498354141788, 0.0042207741024825095, 0.004269846038718215, 0.004311541857565521, 0.004347272155253981, 0.0043781361262759545, 0.004404998387072514, 0.00442854521416629, 0.0044493260514041925, 0.004467784411822739, 0.004484281087654043, 0.004499111736305538, 0.004512520319593963, 0.004524709459516237, 0.0045358484819444, 0.004546079712420021, 0.00455552344003223, 0.0045642818585614085, 0.004572442216494061, 0.004580079350726088, 0.004587257736880873, 0.0045940331580350355, 0.0046004540703366275, 0.004606562726427329, 0.004612396104240194, 0.004617986678551092, 0.00462336306482323, 0.004628550558819427, 0.0046335715907370265, 0.004638446108926029, 0.004643191905344192, 0.004647824892603246, 0.004652359340632076, 0.004656808079522243, 0.004661182673948877, 0.0046654935736148645, 0.0046697502434010826 },
-			{ 1.927505445659329E-4, 6.822376185341796E-4, 0.0012879176142284547, 0.001868530979324994, 0.002361271369013935, 0.0027561247325638837, 0.003065253834243319, 0.0033059976653628488, 0.0034942416242256364, 0.0036427077291001572, 0.0037610556156185007, 0.0038564711080688176, 0.003934273559815522, 0.003998412328549369, 0.004051840232506327, 0.004096785002121773, 0.004134944053519158, 0.004167623924919162, 0.004195840435865549, 0.004220391099392435, 0.004241907900039535, 0.004260896106212997, 0.004277763077488687, 0.0042928398451084135, 0.004306397426691937, 0.004318659269761912, 0.004329810824000271, 0.004340006965277939, 0.004349377798781086, 0.004358033229090397, 0.004366066584868659, 0.00437355751322719, 0.0043805743058337445, 0.004387175779804619, 0.0043934128074778304, 0.004399329567530228, 0.0044049645736146635, 0.004410351524346742, 0.004415520009047761, 0.004420496096412363, 0.004425302827675115, 0.00442996063150037, 0.004434487674418252, 0.004438900157954932, 0.004443212571491102, 0.004447437908202715, 0.004451587850096956, 0.004455672927080602, 0.004459702654130966, 0.00446368564993818 },
-			{ 1.9352780303273856E-4, 6.80977630267403E-4, 0.0012762918557636985, 0.0018389844902316277, 0.0023105081003504764, 0.002684448413630611, 0.0029748122929580912, 0.0031995052466739365, 0.003374332161385936, 0.003511686241002205, 0.0036208458383810483, 0.0037086434864673887, 0.0037800985533680493, 0.003838915683483146, 0.0038878517649472773, 0.003928978849772924, 0.003963870846590397, 0.00399373611513974, 0.004019512118115888, 0.004041933508373615, 0.004061581550208313, 0.0040789203383743535, 0.004094323602613171, 0.0041080947381384675, 0.004120481916307942, 0.004131689588512096, 0.004141887321323176, 0.004151216639112904, 0.0041597963659925795, 0.004167726828004106, 0.004175093182700842, 0.004181968075490143, 0.00418841377273057, 0.004194483885300432, 0.004200224769491051, 0.004205676672032243, 0.004210874670987928, 0.004215849452850283, 0.004220627957463412, 0.004225233915733544, 0.004229688299929599, 0.004234009702374509, 0.004238214655199657, 0.004242317901376954, 0.004246332625301544, 0.0042502706496565755, 0.0042541426040613875, 0.004257958070018307, 0.004261725705878988, 0.0042654533549087645 },
-			{ 1.942899509309053E-4, 6.794613621141105E-4, 0.001263971476545462, 0.001808509902188089, 0.002258997977333243, 0.002612548529506381, 0.0028848514980388622, 0.003094248387954781, 0.0032563865101687597, 0.0033832939075849515, 0.0034838555537189133, 0.0035645511306211463, 0.0036301061057985437, 0.003683988471305961, 0.00372876742094404, 0.003766366940050575, 0.0037982441295072427, 0.003825514916535085, 0.003849043266312179, 0.0038695050514816936, 0.0038874342310867846, 0.00390325658311982, 0.00391731460015227, 0.0039298860496001725, 0.003941197946929929, 0.0039514371748802755, 0.003960758626638791, 0.0039692915040158575, 0.003977144228463873, 0.003984408300179734, 0.003991161352936829, 0.003997469589155734, 0.004003389733814723, 0.004008970612137961, 0.004014254431112182, 0.004019277826339556, 0.004024072721812989, 0.004028667039672814, 0.004033085288987582, 0.004037349056456732, 0.004041477417192365, 0.004045487280057677, 0.004049393679166692, 0.004053210020894146, 0.004056948293963663, 0.004060619248769258, 0.004064232550958342, 0.004067796913401387, 0.004071320209946514, 0.004074809573769567 },
-			{ 1.9503526386949698E-4, 6.776766952585175E-4, 0.0012509494664778025, 0.0017771372698838943, 0.002206817291669948, 0.0025405331713427314, 0.0027954902138851855, 0.002990339158042412, 0.0031404989731317365, 0.0032576015214197816, 0.0033501299202443827, 0.0034242136194643042, 0.0034842914554833963, 0.0035336033927716006, 0.003574539365771044, 0.003608882901698112, 0.0036379808856162937, 0.003662862402705642, 0.003684322608892211, 0.003702982507246847, 0.0037193320076887547, 0.0037337612837602136, 0.00374658385433317, 0.0037580537530947987, 0.0037683784297958965, 0.003777728538411788, 0.0037862454320497637, 0.0037940469522683984, 0.0038012319381726225, 0.003807883766092095, 0.003814073149023272, 0.003819860366310877, 0.00382529705144433, 0.0038304276346619406, 0.003835290514039254, 0.0038399190116122513, 0.003844342158245598, 0.003848585341257088, 0.003852670841431752, 0.003856618280408904, 0.0038604449950703492, 0.0038641663521802204, 0.0038677960138915985, 0.003871346162667272, 0.00387482769253066, 0.003878250372269113, 0.003881622985180646, 0.0038849534491291714, 0.003888248920008799, 0.003891515881180686 },
-			{ 1.957618958489438E-4, 6.756114001696834E-4, 0.0012372208747171872, 0.0017449007174336825, 0.0021540454726170733, 0.0024685104720351967, 0.002706843820416196, 0.0028878835595032306, 0.003026756123518756, 0.003134671379408755, 0.003219705496514024, 0.003287642267547307, 0.0033426421801452085, 0.003387726238451607, 0.0034251136708968767, 0.0034564551003483514, 0.0034829936486327467, 0.0035056769756548066, 0.003525235935681108, 0.0035422403993852843, 0.0035571393240754782, 0.003570289847850179, 0.003581978652576701, 0.003592437821126035, 0.0036018567307558274, 0.0036103910622373382, 0.0036181696886382034, 0.003625299989926246, 0.003631871987833649, 0.003637961588627688, 0.003643633145523976, 0.003648941498001005, 0.003653933605816983, 0.0036586498666953083, 0.0036631251853936654, 0.003667389846080383, 0.0036714702281159203, 0.0036753893964144883, 0.003679167590780264, 0.0036828226334244423, 0.0036863702698736434, 0.0036898244553835325, 0.0036931975965571557, 0.0036965007559741896, 0.0036997438261446853, 0.0037029356779175694, 0.003706084287531591, 0.003709196845741835, 0.0037122798518479643, 0.0037153391949600956 },
-			{ 1.96467872361751E-4, 6.732531940582137E-4, 0.0012227829856622013, 0.0017118384014587417, 0.002100764694985969, 0.002396588050081883, 0.0026190238234495102, 0.0027869812289349383, 0.002915236720517265, 0.003014557386061318, 0.003092610488029608, 0.0031548404718079875, 0.0032051386065620104, 0.0032463163330311144, 0.0032804307721518264, 0.0033090070959967276, 0.0033331909495262694, 0.003353853795626758, 0.003371666506684545, 0.003387151382290195, 0.003400719364495087, 0.003412696983752638, 0.0034233460978162164, 0.003432878513862264, 0.0034414669363898734, 0.0034492532475883086, 0.0034563548304823726, 0.003462869441459872, 0.003468878997274208, 0.003474452542273864, 0.003479648591158401, 0.0034845169921022523, 0.0034891004186054717, 0.0034934355718124564, 0.003497554155449597, 0.003501483670994389, 0.003505248069813258, 0.003508868290808412, 0.003512362705890675, 0.003515747490837607, 0.003519036935434969, 0.0035222437039639943, 0.003525379054887768, 0.003528453026858619, 0.0035314745968040564, 0.00353445181476799, 0.0035373919193231744, 0.003540301436682246, 0.003543186266080961, 0.003546051753560126 },
-			{ 1.971510833318853E-4, 6.705898059786347E-4, 0.001207635489322825, 0.0016779924362578492, 0.0020470594570033292, 0.002324872459558195, 0.002532137402137503, 0.0026877251877325398, 0.002806011674023131, 0.002897305197542497, 0.0029688650235532485, 0.0030258040763510704, 0.003071754228427389, 0.0031093269797426086, 0.0031404259218174298, 0.0031664580897491075, 0.0031884777493257676, 0.0032072851945343993, 0.0032234954429414303, 0.0032375866076615914, 0.003249934395200372, 0.0032608370177637717, 0.0032705334015110635, 0.0032792166489097026, 0.0032870441015829437, 0.003294144940302937, 0.0033006259812573867, 0.0033065761376080147, 0.0033120698836697922, 0.0033171699668222473, 0.00332192954700498, 0.0033263938969993008, 0.0033306017630253225, 0.003334586460652547, 0.003338376762991685, 0.003341997624770567, 0.0033454707759105313, 0.0033488152106998193, 0.0033520475929564226, 0.0033551825932156146, 0.0033582331706267484, 0.003361210809650806, 0.0033641257196309012, 0.0033669870037265856, 0.0033698028024571375, 0.0033725804161127515, 0.0033753264095074957, 0.0033780467019200824, 0.003380746644563854, 0.003383431087520049 },
-			{ 1.9780927593350143E-4, 6.676090498861589E-4, 0.001191780643277239, 0.0016434087799381502, 0.001993016132370655, 0.002253468652055117, 0.0024462869969524453, 0.0025902016435992107, 0.002699144056813641, 0.002782952403153666, 0.0028484814570411353, 0.0029005217517211065, 0.002942456129296713, 0.0029767059024204327, 0.0030050296326701947, 0.0030287233583795484, 0.003048755856816016, 0.0030658610723192053, 0.0030806020990816973, 0.003093416072166952, 0.003104646087033821, 0.0031145641920429937, 0.0031233881577205397, 0.0031312938525559267, 0.003138424479086009, 0.0031448975399062853, 0.0031508101440405186, 0.0031562430870906177, 0.0031612640163034803, 0.003165929906258452, 0.0031702890105444084, 0.0031743824117422604, 0.0031782452610021657, 0.0031819077759327598, 0.0031853960489504596, 0.003188732705969134, 0.003191937446152808, 0.0031950274865650474, 0.003198017930327238, 0.0032009220729126747, 0.0032037516581408373, 0.003206517093067541, 0.0032092276291233695, 0.0032118915154099193, 0.0032145161289274427, 0.0032171080856084966, 0.0032196733353169514, 0.0032222172433998986, 0.0032247446609205777, 0.0032272599853297623 },
-			{ 1.9844004733968177E-4, 6.642989058732758E-4, 0.0011752234232601062, 0.0016081370809694073, 0.0019387225013595042, 0.0021824794562071786, 0.00236156994108455, 0.002494489842474308, 0.002594689161638203, 0.0026715287407519392, 0.00273146469152577, 0.0027789753852933623, 0.0028172054077528377, 0.002848395682878609, 0.0028741681122292427, 0.0028957146754356737, 0.0029139243302802216, 0.002929469275742146, 0.002942864417368868, 0.0029545089461367295, 0.0029647158189611174, 0.002973732943667319, 0.002981758598664031, 0.002988952792989835, 0.002995445731629909, 0.003001344191872669, 0.003006736374959581, 0.0030116956328388555, 0.0030162833565172604, 0.0030205512335107344, 0.0030245430262145264, 0.003028295983349289, 0.0030318419680976727, 0.003035208365809736, 0.0030384188189516285, 0.003041493825727382, 0.0030444512304179964, 0.003047306627179071, 0.003050073694264997, 0.0030527644720071173, 0.0030553895950774135, 0.0030579584874082535, 0.003060479526457984, 0.0030629601821971545, 0.003065407135155398, 0.0030678263770504686, 0.0030702232968699843, 0.003072602754756107, 0.003074969145625629, 0.0030773264541209696 },
-			{ 1.9904083746333757E-4, 6.606476097073652E-4, 0.0011579716593097665, 0.0015722304852682613, 0.0018842672661843571, 0.0021120050801149166, 0.002278078137464161, 0.0024006619699786045, 0.002492694600403951, 0.0025630563425140663, 0.0026178125213422725, 0.0026611404795702657, 0.0026959576021336694, 0.002724334191535086, 0.0027477636856698905, 0.002767340717822751, 0.0027838798626123955, 0.002797995959250341, 0.002810159263129112, 0.002820733883399396, 0.0028300049628159274, 0.0028381981651944142, 0.0028454938322435286, 0.0028520373960425104, 0.002857947127185369, 0.002863319963698642, 0.002868235941334844, 0.002872761593405671, 0.002876952583524585, 0.002880855761726782, 0.002884510783141641, 0.0028879513919119726, 0.0028912064468405345, 0.0028943007462234383, 0.0028972556953996706, 0.0029000898502537587, 0.002902819362240127, 0.0029054583447387524, 0.002908019176193654, 0.0029105127521641756, 0.0029129486958696855, 0.002915335534839145, 0.0029176808497460268, 0.0029199914003121517, 0.0029222732322222926, 0.002924531768247033, 0.00292677188617945, 0.0029289979857183286, 0.0029312140460511075, 0.0029334236755835384 },
-			{ 1.9960892176548527E-4, 6.56643750663952E-4, 0.0011400361543429526, 0.0015357454045990652, 0.001829739556201379, 0.0020421426415547722, 0.0021958977829562984, 0.002308783100950278, 0.002393200442362323, 0.00245755000740319, 0.0025075159891965056, 0.0025469865553550937, 0.0025786631123813713, 0.0026044550094260874, 0.0026257352060717843, 0.0026435074569821073, 0.0026585171492831228, 0.0026713259276989194, 0.0026823627415800987, 0.002691959312451507, 0.002700375149591333, 0.00270781544717557, 0.0027144440620483113, 0.002720393044025644, 0.002725769717985714, 0.0027306620054292647, 0.0027351424649729836, 0.002739271390222989, 0.0027430992067513484, 0.0027466683427421965, 0.0027500147007042917, 0.0027531688241491385, 0.002756156829095879, 0.0027590011528427893, 0.0027617211597001155, 0.0027643336339714516, 0.0027668531834676695, 0.002769292571582267, 0.0027716629919830238, 0.0027739742969479448, 0.0027762351880518377, 0.002778453376117362, 0.0027806357159517025, 0.0027827883203015045, 0.002784916656602832, 0.0027870256294265637, 0.002789119650981991, 0.0027912027016121907, 0.0027932783818701095, 0.0027953499574866216 },
-			{ 2.0014140422087482E-4, 6.522763775001217E-4, 0.0011214307820335441, 0.0014987412477781065, 0.001775228428679739, 0.001972985730377718, 0.002115109140616272, 0.002218911195170377, 0.0022962393879916564, 0.002355017496697707, 0.002400559754705893, 0.0024364775569740214, 0.002465267616794185, 0.002488687839970814, 0.0025079984508684107, 0.00252411853395317, 0.0025377292387900137, 0.002549342960830406, 0.0025593504961732515, 0.002568053709238574, 0.0025756885176763267, 0.002582441303107975, 0.002588460790397313, 0.002593866758269516, 0.0025987565039453323, 0.002603209695289901, 0.0026072920512751644, 0.002611058161370264, 0.002614553665367212, 0.0026178169533954713, 0.002620880502574145, 0.0026237719360413373, 0.002626514868091127, 0.00262912958321589, 0.002631633585207241, 0.0026340420438817564, 0.002636368160610431, 0.0026386234690414295, 0.002640818083786474, 0.0026429609070861815, 0.0026450598013577488, 0.0026471217338987336, 0.0026491528987550093, 0.0026511588197722586, 0.0026531444380733186, 0.0026551141865896926, 0.002657072053787905, 0.0026590216383419064, 0.0026609661961904054, 0.002662908681166239 },
-			{ 2.0063521054752408E-4, 6.47535112238662E-4, 0.0011021725609549372, 0.0014612801168704024, 0.0017208223709768767, 0.0019046240069398896, 0.002035786360252094, 0.0021310971369592328, 0.002201836975119586, 0.002255459848986935, 0.0022969224712037946, 0.0023295722569291063, 0.0023557124816847128, 0.0023769589090583145, 0.0023944665035541095, 0.002409075617771605, 0.002421407865360895, 0.002431930119526115, 0.002440997988653096, 0.0024488858518934794, 0.0024558079434903995, 0.002461933377356729, 0.002467397005004153, 0.0024723073659824305, 0.002476752581119017, 0.0024808047710812215, 0.0024845234048214014, 0.0024879578625148723, 0.002491149415661383, 0.002494132770333765, 0.002496937279865914, 0.0024995879051636027, 0.002502105980700417, 0.0025045098297105, 0.0025068152614659755, 0.00250903597569885, 0.0025111838934095093, 0.002513269428944376, 0.002515301714933239, 0.002517288789172102, 0.0025192377506185895, 0.0025211548901868668, 0.0025230458008802395, 0.002524915470902433, 0.002526768362683733, 0.0025286084802015416, 0.0025304394265328522, 0.0025322644532233176, 0.0025340865027746106, 0.0025359082453237963 },
-			{ 2.01087081825191E-4, 6.42410271235975E-4, 0.0010822817021102367, 0.0014234264712532421, 0.001666608809917218, 0.0018371428397981674, 0.001957997346925089, 0.0020453848159684125, 0.0021100118137341397, 0.002158871711122963, 0.002196577167779565, 0.0022262246575835767, 0.0022499351621690688, 0.002269191352232116, 0.0022850501198832677, 0.002298278746807, 0.002309443763802292, 0.002318970033944357, 0.002327180761116664, 0.002334325057840415, 0.00234059725501526, 0.0023461506366101357, 0.002351107349872477, 0.002355565652067452, 0.0023596052758540777, 0.0023632914479961476, 0.0023666779320897146, 0.002369809355677313, 0.002372723006906365, 0.0023754502339407104, 0.002378017544013113, 0.0023804474733175643, 0.0023827592805719115, 0.002384969503811848, 0.002387092410297578, 0.0023891403622880157, 0.0023911241161448933, 0.0023930530682660213, 0.002394935458355858, 0.002396778538267347, 0.0023985887129074584, 0.0024003716583562863, 0.0024021324213078592, 0.0024038755031276417, 0.0024056049311831284, 0.002407324319599803, 0.0024090369211943697, 0.002410745672017925, 0.0024124532296855693, 0.002414162006462756 },
-			{ 2.0149356864821878E-4, 6.368929927869503E-4, 0.001061781627225328, 0.001385246763068781, 0.00161267363402699, 0.0017706229852570666, 0.0018818036764451395, 0.0019618112461990515, 0.002020775845891853, 0.0020652416817381085, 0.0020994916337253124, 0.002126384387704276, 0.002147869592528567, 0.002165305587943753, 0.002179658077964525, 0.002191626652783628, 0.002201726966499413, 0.0022103451737507064, 0.0022177746804261655, 0.002224241403725508, 0.002229921428761685, 0.002234953545459137, 0.0022394482810468358, 0.0022434944965420214, 0.0022471642652904847, 0.0022505165235155765, 0.002253599831962527, 0.0022564544864648703, 0.002259114146341259, 0.002261607102003363, 0.0022639572699708625, 0.002266184980047044, 0.0022683076026645517, 0.0022703400523264162, 0.0022722951942597347, 0.00227418417492006, 0.002276016692175892, 0.002277801217404245, 0.0022795451790139937, 0.002281255114850977, 0.0022829367993601546, 0.002284595350163516, 0.002286235317768923, 0.002287860761388802, 0.002289475313269636, 0.0022910822334770227, 0.0022926844567190065, 0.0022942846325016237, 0.0022958851596790683, 0.002297488216274494 },
-			{ 2.01851025980556E-4, 6.309753702803167E-4, 0.0010406989555184895, 0.0013468090481793243, 0.0015591007340198778, 0.0017051403106854144, 0.0018072605563898183, 0.0018804067200463796, 0.0019341346271397203, 0.0019745526640864946, 0.0020056288027715326, 0.0020299970919100746, 0.0020494465647959517, 0.0020652196760313313, 0.00207819751180874, 0.0020890170673552337, 0.002098147082675665, 0.0021059381007247483, 0.002112656165388329, 0.0021185059286795934, 0.002123646770740688, 0.002128204226712157, 0.0021322782078560245, 0.002135948998210622, 0.0021392816848631656, 0.002142329470034139, 0.002145136174663515, 0.002147738150405173, 0.0021501657538917337, 0.002152444493719374, 0.002154595930329453, 0.002156638387602904, 0.0021585875197415957, 0.002160456766020609, 0.0021622577179916964, 0.002164000417834602, 0.002165693602189408, 0.002167344902539655, 0.0021689610107557622, 0.0021705478165396294, 0.0021721105220817083, 0.002173653738140689, 0.002175181564902254, 0.002176697660307405, 0.0021782052980183516, 0.002179707416777538, 0.0021812066625883112, 0.002182705424884768, 0.0021842058676493125, 0.002185709956268056 },
-			{ 2.021556089049922E-4, 6.246505896620773E-4, 0.0010190634570854987, 0.0013081825772555265, 0.0015059715665675846, 0.0016407655628483397, 0.001734416830705057, 0.0018011949940015912, 0.0018500876259217524, 0.0018867822251424841, 0.0019149471347138449, 0.0019370048112974348, 0.0019545940944210574, 0.0019688496607537863, 0.001980574228033932, 0.0019903470112211633, 0.0019985935601108656, 0.0020056317040976625, 0.0020117023971657866, 0.0020169908214558267, 0.0020216410820333352, 0.0020257666070719656, 0.002029457620293285, 0.0020327865852418567, 0.0020358122234567745, 0.0020385825158592647, 0.002041136969757042, 0.0020435083489976696, 0.002045724007228446, 0.0020478069246285323, 0.0020497765209044777, 0.002051649297904156, 0.002053439351349149, 0.0020551587812037936, 0.002056818022935505, 0.0020584261165851624, 0.002059990926611491, 0.00206151932251737, 0.00206301732803863, 0.002064490244984975, 0.0020659427565295372, 0.0020673790137480095, 0.0020688027084366884, 0.002070217134637116, 0.0020716252408229923, 0.0020730296743327083, 0.0020744328193355427, 0.0020758368293840937, 0.002077243655416887, 0.0020786550699232313 },
-			{ 2.024032694846422E-4, 6.179130696976541E-4, 9.969079715462816E-4, 0.0012694373720526458, 0.0014533647459363944, 0.001577564181836604, 0.00166331502553366, 0.0017241935025331778, 0.0017686285375345568, 0.0018019029580822509, 0.0018274009922576212, 0.0018473463537319172, 0.0018632377720638115, 0.0018761098978740474, 0.0018866930055625826, 0.0018955130658753808, 0.0019029559295977334, 0.0019093094190350554, 0.0019147915134292701, 0.0019195695920145401, 0.0019237738095722757, 0.0019275065488110676, 0.0019308492031805716, 0.0019338671132984597, 0.0019366132068559122, 0.001939130715216249, 0.0019414552238289605, 0.0019436162360855385, 0.0019456383777486498, 0.0019475423330347495, 0.0019493455783504228, 0.0019510629620229014, 0.0019527071657880382, 0.001954289074745102, 0.001955818075904202, 0.0019573023006190403, 0.001958748822617691, 0.0019601638206695328, 0.0019615527129124076, 0.0019629202683355386, 0.0019642706997454566, 0.0019656077416429787, 0.001966934715742645, 0.0019682545863229863, 0.001969570007170109, 0.0019708833615412376, 0.0019721967963085055, 0.00197351225123105, 0.0019748314841333725, 0.001976156092631127 },
-			{ 2.0258975498221692E-4, 6.107586032519484E-4, 9.742682911798243E-4, 0.001230643792249879, 0.0014013556675390609, 0.0015155961605351673, 0.0015939914335708668, 0.001649413596617652, 0.0016897456093250556, 0.0017198828454835146, 0.0017429410111334197, 0.0017609576525055846, 0.0017753011007452064, 0.0017869133654350917, 0.0017964578782668568, 0.0018044116281732993, 0.001811124032486513, 0.0018168554287308406, 0.001821802786795263, 0.0018261172281512053, 0.0018299161827614527, 0.00183329196808763, 0.0018363179377633054, 0.0018390529518630633, 0.0018415446701243305, 0.001843832007879357, 0.0018459469884527424, 0.0018479161551340855, 0.0018497616580480196, 0.001851502098465866, 0.0018531531903252837, 0.0018547282827009691, 0.001856238775567454, 0.0018576944529935233, 0.0018591037519481192, 0.0018604739805252232, 0.0018618114961583337, 0.0018631218519781975, 0.0018644099176481656, 0.001865679979631517, 0.0018669358247906255, 0.001868180810406646, 0.0018694179230800288, 0.0018706498284826144, 0.00187187891354815, 0.001873107322385433, 0.0018743369869583474, 0.0018755696533858655, 0.00187680690456194, 0.0018780501796720433 },
-			{ 2.0016371339987815E-4, 5.999964375758857E-4, 9.522549501128221E-4, 0.0011985584392842365, 0.0013615947802257202, 0.0014702701394882925, 0.00154464932415272, 0.0015971365391920602, 0.0016352837026544704, 0.0016637621402248758, 0.001685536691492703, 0.0017025422910047548, 0.0017160763624066188, 0.001727031038712122, 0.0017360340362406021, 0.001743536326360827, 0.001749868065136943, 0.0017552751151317157, 0.0017599434162914385, 0.0017640155770325332, 0.001767602378862582, 0.0017707908901696988, 0.0017736502784745168, 0.0017762360342414665, 0.001778593081344484, 0.001780758095933272, 0.0017827612549360195, 0.0017846275684948226, 0.0017863779053766836, 0.0017880297893794605, 0.0017895980232033619, 0.0017910951811061578, 0.0017925320008819366, 0.0017939176979528415, 0.0017952602187330372, 0.0017965664462946179, 0.0017978423683087897, 0.0017990932149539883, 0.0018003235727654455, 0.0018015374790984818, 0.0018027385008828403, 0.0018039298005801617, 0.0018051141916639957, 0.0018062941854800213, 0.001807472030982141, 0.0018086497485547653, 0.0018098291589053706, 0.0018110119078311802, 0.0018121994875195057, 0.001813393254925099 },
-			{ 1.9779457384439228E-4, 5.893345487185286E-4, 9.304114317326543E-4, 0.001166772474168073, 0.0013222775733491724, 0.001425516431156579, 0.0014959845146643503, 0.0015456197871381028, 0.0015816472600189647, 0.001608518247009259, 0.0016290500032472015, 0.0016450773581839048, 0.0016578287008715646, 0.001668147680869748, 0.0016766273391190475, 0.001683693411675849, 0.0016896573872443425, 0.001694751108890197, 0.0016991498394759261, 0.0017029879504645608, 0.0017063697930284928, 0.0017093773603757522, 0.0017120757737505556, 0.0017145172673764238, 0.0017167441218828609, 0.0017187908504517077, 0.0017206858467576228, 0.0017224526404434012, 0.0017241108630810416, 0.001725676998250269, 0.0017271649690108219, 0.0017285866017374024, 0.0017299519951126656, 0.0017312698157606222, 0.0017325475366918642, 0.0017337916308377479, 0.001735007729069058, 0.0017362007499439835, 0.0017373750068119737, 0.0017385342966729962, 0.001739681974254437, 0.0017408210140470487, 0.0017419540624831766, 0.001743083482005678, 0.0017442113884351279, 0.0017453396827742118, 0.0017464700783753004, 0.0017476041242275105, 0.001748743224983741, 0.0017498886582388486 },
-			{ 1.954780119216336E-4, 5.787617029167164E-4, 9.087310083083056E-4, 0.0011352896532199107, 0.0012834173954930095, 0.0013813554980117546, 0.0014480224765704374, 0.0014948923393635128, 0.0015288678093189586, 0.0015541845491113722, 0.0015735157229405563, 0.0015885986999241764, 0.0016005947991656448, 0.0016103006420640647, 0.0016182756772363928, 0.0016249212181295278, 0.0016305307019557607, 0.0016353224238741955, 0.001639461334562726, 0.0016430738537597626, 0.00164625812743803, 0.0016490912529800881, 0.0016516344494911103, 0.0016539368117462771, 0.0016560380725013728, 0.001657970660416895, 0.001659761250882209, 0.0016614319471935505, 0.001663001189139558, 0.0016644844583810186, 0.0016658948308120659, 0.0016672434126007985, 0.0016685396870190928, 0.0016697917922813715, 0.0016710067456098172, 0.0016721906250766318, 0.0016733487180611661, 0.001674485643135564, 0.0016756054506698384, 0.001676711706292776, 0.0016778075604635154, 0.0016788958067305772, 0.0016799789307303226, 0.001681059151567943, 0.0016821384569036257, 0.0016832186328140535, 0.0016843012892991767, 0.0016853878821447964, 0.001686479731723817, 0.00168757803921631 },
-			{ 1.9320984629589603E-4, 5.682672522375976E-4, 8.872079677102014E-4, 0.0011041144603338698, 0.0012450275897040587, 0.0013378069919608977, 0.0014007871550341558, 0.0014449810782062357, 0.001476974287647937, 0.001500791460105925, 0.0015189653536248832, 0.0015331386431844459, 0.0015444076212719792, 0.0015535233886425524, 0.0015610129201507619, 0.001567253944041476, 0.001572522479465443, 0.001577023757999504, 0.0015809127924366888, 0.001584308343074281, 0.0015873025811947595, 0.001589967891859481, 0.0015923617394163214, 0.0015945301985502815, 0.0015965105515642348, 0.0015983332226978115, 0.001600023235369569, 0.0016016013217866637, 0.001603084776279517, 0.0016044881176498595, 0.0016058236077386905, 0.0016071016607217127, 0.0016083311686168088, 0.001609519762006347, 0.0016106740202727003, 0.0016117996421976804, 0.0016129015852266461, 0.001613984179795798, 0.0016150512236904188, 0.0016161060603172726, 0.0016171516439463897, 0.0016181905943406722, 0.0016192252426990058, 0.0016202576704546648, 0.0016212897421700382, 0.001622323133531631, 0.0016233593552614633, 0.0016243997736113608, 0.00162544562798683, 0.0016264980461508569 },
-			{ 1.9098602256406244E-4, 5.578411309893678E-4, 8.658376215029449E-4, 0.001073252104023854, 0.0012071214932509735, 0.0012948897733078984, 0.0013543010144328545, 0.001395910842285784, 0.001425993139248742, 0.0014483665437389286, 0.0014654272634310424, 0.0014787261503823813, 0.0014892965798554033, 0.0014978456821504746, 0.0015048691052281485, 0.001510721848795196, 0.0015156631607808758, 0.001519885703044929, 0.0015235349317179665, 0.0015267222450531625, 0.0015295340739913106, 0.0015320382777022387, 0.0015342887154178063, 0.0015363285628579655, 0.001538192750691049, 0.0015399097799532664, 0.0015415030893081657, 0.0015429920958651298, 0.001544392995423843, 0.0015457193834850932, 0.0015469827413642603, 0.001548192819806913, 0.001549357944027402, 0.001550485258002833, 0.0015515809214370763, 0.0015526502695727762, 0.0015536979436360267, 0.0015547279979133838, 0.0015557439881185686, 0.001556749044688954, 0.001557745933875343, 0.0015587371088915138, 0.0015597247529279506, 0.0015607108154743546, 0.0015616970431135773, 0.001562685005727476, 0.0015636761188791463, 0.001564671662995763, 0.0015656727998640699, 0.0015666805868602362 },
-			{ 1.888025983979415E-4, 5.47473855452148E-4, 8.446163101414237E-4, 0.001042708505883078, 0.0011697124271723028, 0.001252621919693104, 0.0013085850744036258, 0.0013477044903453651, 0.0013759484047607016, 0.0013969346252594903, 0.001412926815680671, 0.001425386965343104, 0.0014352876955469785, 0.0014432937498714733, 0.0014498706177244686, 0.0014553514410509767, 0.0014599793529042355, 0.0014639349458413055, 0.0014673545051603683, 0.0014703423677716425, 0.001472979461034211, 0.0014753293064445451, 0.0014774423091060659, 0.0014793588679261557, 0.0014811116615508623, 0.0014827273496510868, 0.0014842278538416678, 0.001485631332517039, 0.0014869529301890837, 0.001488205358872119, 0.0014893993530934858, 0.0014905440289042964, 0.001491647169310041, 0.001492715452830075, 0.0014937546377527832, 0.0014947697116190679, 0.0014957650132239734, 0.0014967443327536965, 0.0014977109944178486, 0.0014986679249840277, 0.0014996177108945919, 0.0015005626460864359, 0.0015015047722021161, 0.0015024459125437804, 0.0015033877008575316, 0.001504331605827929, 0.0015052789519976225, 0.0015062309376959369, 0.0015071886504552136, 0.0015081530803092906 },
-			{ 1.8665572986702728E-4, 5.371565267691304E-4, 8.235414050480693E-4, 0.0010124902809132935, 0.0011328136766945475, 0.0012110207263811973, 0.0012636589378443993, 0.0013003829574527522, 0.0013268618030250253, 0.0013465178953696929, 0.0013614864915928112, 0.0013731437517738403, 0.0013824037486642627, 0.0013898904477058014, 0.0013960403631068995, 0.0014011656591035773, 0.001405494016070024, 0.0014091944614347343, 0.0014123944979487213, 0.0014151917035066944, 0.0014176617397363307, 0.001419863979417323, 0.001421845525016344, 0.0014236441211268928, 0.001425290294223607, 0.0014268089446148229, 0.0014282205446863171, 0.0014295420505779544, 0.0014307876028092257, 0.0014319690697572902, 0.001433096472921411, 0.0014341783224075685, 0.0014352218836145621, 0.0014362333907547405, 0.001437218218964287, 0.0014381810239180795, 0.0014391258557653003, 0.0014400562526372292, 0.0014409753178024967, 0.0014418857836540266, 0.0014427900650319262, 0.0014436903038639519, 0.0014445884067008593, 0.001445486076409149, 0.0014463848390370837, 0.0014472860666756625, 0.0014481909969822448, 0.0014491007499120487, 0.001450016342104603, 0.0014509386992933877 },
-			{ 1.8454165887123243E-4, 5.268808368179503E-4, 8.026113073092995E-4, 9.826047101534456E-4, 0.0010964384635496673, 0.001170102699182812, 0.0012195408121908997, 0.0012539653048148597, 0.001278752806603468, 0.0012971360078428231, 0.0013111260065377958, 0.0013220162251305896, 0.0013306644241581212, 0.0013376554161121535, 0.0013433979322848351, 0.0013481840440072502, 0.0013522266436202172, 0.0013556836987697093, 0.0013586743184099514, 0.0013612896238265843, 0.0013636002486409923, 0.0013656616056468035, 0.0013675176458976942, 0.0013692035818946608, 0.0013707478875227888, 0.001372173785478777, 0.001373500366508264, 0.0013747434407483247, 0.0013759161918344396, 0.0013770296841891132, 0.0013780932598952136, 0.0013791148517313132, 0.0013801012319749973, 0.0013810582115788667, 0.0013819908006984009, 0.0013829033388966696, 0.0013837996013897538, 0.0013846828862350124, 0.0013855560862658092, 0.0013864217487442514, 0.001387282125068621, 0.0013881392123843218, 0.0013889947885697444, 0.0013898504417747017, 0.0013907075954589468, 0.0013915675296970326, 0.0013924313993722067, 0.0013933002497677008, 0.0013941750299722925, 0.0013950566044434382 },
-			{ 1.8245670162947062E-4, 5.166390768586311E-4, 7.818254427007559E-4, 9.530597060273342E-4, 0.0010605999111807079, 0.0011298835412185183, 0.0011762475251912178, 0.0012084687643542362, 0.0012316387120589307, 0.0012488061717587796, 0.0012618624206965107, 0.00127202127865577, 0.0012800864504971157, 0.001286605229766287, 0.0012919597603543269, 0.0012964229060298436, 0.0013001934350425814, 0.0013034187593867204, 0.001306209981605537, 0.0013086520674426407, 0.0013108108590015163, 0.0013127379967146264, 0.0013144744304752246, 0.0013160529620688398, 0.0013175001116428173, 0.0013188375054035966, 0.0013200829195031173, 0.0013212510738597973, 0.0013223542419298464, 0.001323402723514598, 0.0013244052145897707, 0.0013253690989615695, 0.0013263006800431102, 0.0013272053663748284, 0.0013280878211282278, 0.0013289520833554267, 0.0013298016669172428, 0.001330639641659116, 0.0013314687003796453, 0.0013322912143607383, 0.0013331092796364543, 0.001333924755722883, 0.0013347392981796886, 0.001335554386100149, 0.001336371345412131, 0.0013371913687035648, 0.0013380155321522315, 0.0013388448100331914, 0.0013396800871919683, 0.0013405221698030946 },
-			{ 1.80397238185487E-4, 5.064241487272023E-4, 7.611842527336304E-4, 9.238637708319904E-4, 0.0010253110037911112, 0.0010903781346623595, 0.0011337945363062794, 0.0011639087790942327, 0.0011855347059457238, 0.0012015432392094034, 0.0012137102448936997, 0.0012231731042835516, 0.0012306837331253451, 0.0012367535415209652, 0.0012417392793972284, 0.0012458954849404772, 0.0012494074626453315, 0.0012524125695806685, 0.0012550142862285925, 0.0012572917212264989, 0.0012593061594019883, 0.0012611056545479727, 0.0012627283040425941, 0.0012642046189765828, 0.0012655592634656652, 0.001266812347377714, 0.0012679803984945676, 0.0012690771015997475, 0.00127011386607686, 0.001271100265927119, 0.0012720443838877716, 0.0012729530827676168, 0.0012738322210430492, 0.0012746868254041959, 0.0012755212297863685, 0.0012763391881140103, 0.0012771439662797753, 0.0012779384176114757, 0.0012787250451255867, 0.0012795060531437074, 0.001280283390297387, 0.0012810587855234734, 0.001281833778324811, 0.0012826097443163875, 0.001283387916877524, 0.001284169405573624, 0.0012849552118865929, 0.0012857462426939556, 0.0012865433218575255, 0.0012873472002186642 },
-			{ 1.7835970290727926E-4, 4.962295783132841E-4, 7.406891814081895E-4, 8.950259488011323E-4, 9.905845401660242E-4, 0.0010516005185351163, 0.0010921959447754985, 0.0011202990403030974, 0.0011404539273615355, 0.001155359789235651, 0.0011666815422898163, 0.0011754833090323598, 0.0011824674830591088, 0.001188111221187579, 0.0011927470658177482, 0.0011966121045818478, 0.0011998788322924454, 0.001202675046421627, 0.0012050969851875588, 0.0012072181947579389, 0.0012090956337697757, 0.001210773952477512, 0.0012122885422113335, 0.001213667741572839, 0.001214934454834807, 0.001216107354404841, 0.001217201784845368, 0.0012182304499810798, 0.0012192039404585594, 0.0012201311426422274, 0.0012210195583362534, 0.0012218755568427129, 0.001222704575211083, 0.0012235112784810308, 0.001224299688784791, 0.0012250732900279556, 0.0012258351132819632, 0.0012265878068404923, 0.0012273336940049361, 0.0012280748209926025, 0.001228812996849156, 0.00122954982685346, 0.001230286740598803, 0.0012310250156978401, 0.001231765797873207, 0.001232510118049891, 0.0012332589069498562, 0.0012340130075974502, 0.001234773186070512, 0.001235540140772967 },
-			{ 1.7634057597094141E-4, 4.860495310257278E-4, 7.203426573655942E-4, 8.665557721993977E-4, 9.564330831705735E-4, 0.0010135638635532973, 0.001051464495301573, 0.001077651522255185, 0.0010964075278223355, 0.0011102662086728385, 0.0011207860265366664, 0.0011289610274316506, 0.0011354463411219094, 0.0011406864895999011, 0.001144990982644613, 0.0011485803221285423, 0.001151614838578499, 0.0011542132579977955, 0.001156464950220161, 0.0011584381887330872, 0.0011601858330975707, 0.0011617493098705091, 0.0011631614481152793, 0.001164448529927785, 0.0011656317940796947, 0.0011667285528544947, 0.0011677530314520702, 0.0011687170058237383, 0.0011696302922910647, 0.0011705011269593558, 0.0011713364623338845, 0.0011721422011248212, 0.0011729233819684777, 0.0011736843280249598, 0.0011744287666842228, 0.0011751599266175408, 0.001175880616938638, 0.0011765932921420186, 0.0011773001056624214, 0.0011780029542760103, 0.00117870351508854, 0.0011794032764907481, 0.0011801035641789588, 0.0011808055631193472, 0.0011815103361623625, 0.0011822188398784783, 0.0011829319380792685, 0.0011836504134024929, 0.0011843749772716525, 0.0011851062784856033 },
-			{ 1.7271573212326307E-4, 4.6973198307028103E-4, 6.892310692422227E-4, 8.240122429576145E-4, 9.060409151323603E-4, 9.578625167313214E-4, 9.921057507535202E-4, 0.0010157039583528632, 0.0010325757437197427, 0.001045026987236922, 0.001054470656388801, 0.0010618055083600033, 0.0010676226439838546, 0.0010723224992759768, 0.0010761835377675697, 0.0010794039438324083, 0.0010821277029015254, 0.0010844613656721706, 0.0010864850923153358, 0.0010882600919315149, 0.0010898337357997873, 0.0010912431367233245, 0.0010925176967864867, 0.0010936809487200106, 0.0010947519054884637, 0.0010957460622612286, 0.0010966761491956643, 0.0010975527032572195, 0.0010983845070312854, 0.0010991789286743064, 0.0010999421876154711, 0.0011006795639483815, 0.001101395564727463, 0.0011020940570001792, 0.0011027783749569223, 0.0011034514067899805, 0.0011041156655316596, 0.0011047733471579617, 0.0011054263785056913, 0.0011060764569920524, 0.0011067250836997624, 0.001107373591063597, 0.001108023166141426, 0.001108674870256116, 0.0011093296556406685, 0.0011099883795977928, 0.00111065181658913, 0.0011113206685929742, 0.0011119955740082664, 0.0011126771153335262 },
-			{ 1.689986838017593E-4, 4.531995385551554E-4, 6.581762529924945E-4, 7.819773884775607E-4, 8.565716160466202E-4, 9.034078000560383E-4, 9.34235929322506E-4, 9.554259184227498E-4, 9.705495023845016E-4, 9.816973265611279E-4, 9.901457074676014E-4, 9.967042817522463E-4, 0.0010019044529749454, 0.0010061056515596632, 0.0010095575177787386, 0.0010124375471858061, 0.0010148745911071969, 0.001016963938081126, 0.0010187772363018399, 0.0010203691701301666, 0.0010217820447568323, 0.0010230489930467355, 0.0010241962566449238, 0.0010252448336863524, 0.0010262116858537926, 0.001027110634146413, 0.001027953031619387, 0.0010287482742324806, 0.0010295041927571354, 0.0010302273563103518, 0.0010309233095373764, 0.0010315967594889315, 0.0010322517240086888, 0.001032891650418432, 0.0010335195110972952, 0.0010341378809502002, 0.001034749000579323, 0.0010353548280932065, 0.0010359570818282205, 0.0010365572757578536, 0.0010371567489847948, 0.0010377566904186638, 0.0010383581595164956, 0.0010389621037874904, 0.0010395693736261068, 0.0010401807349294317, 0.0010407968798691052, 0.0010414184361199692, 0.0010420459747930955, 0.0010426800172770756 },
-			{ 1.6532098345199806E-4, 4.3697100095147834E-4, 6.281031465582836E-4, 7.416570708545351E-4, 8.094060450713491E-4, 8.516903934734001E-4, 8.794172806114687E-4, 8.984282854354745E-4, 9.11974030028015E-4, 9.219475331937752E-4, 9.295003403251622E-4, 9.353610407724256E-4, 9.400069098939493E-4, 9.437602821878453E-4, 9.468447690140183E-4, 9.494192092037153E-4, 9.515988220713606E-4, 9.53468761301752E-4, 9.550930210999011E-4, 9.565204226009866E-4, 9.577887210553745E-4, 9.589274765657907E-4, 9.599600948240832E-4, 9.609053003954708E-4, 9.61778215490682E-4, 9.625911602042205E-4, 9.633542532925625E-4, 9.640758682335751E-4, 9.647629830025191E-4, 9.654214509072306E-4, 9.660562121723796E-4, 9.666714606139709E-4, 9.672707759610344E-4, 9.678572296734467E-4, 9.684334701461626E-4, 9.690017917591823E-4, 9.69564191177236E-4, 9.701224135178864E-4, 9.706779904175212E-4, 9.71232271579008E-4, 9.717864510451725E-4, 9.723415891815863E-4, 9.728986311507199E-4, 9.73458422502894E-4, 9.740217223868477E-4, 9.745892147863285E-4, 9.751615181126898E-4, 9.757391934228035E-4, 9.763227514829558E-4, 9.769126588603713E-4 },
-			{ 1.616797334616186E-4, 4.21048323485229E-4, 5.990048598006665E-4, 7.030126037261645E-4, 7.644689324796424E-4, 8.026031691856284E-4, 8.275173492534915E-4, 8.445590073137494E-4, 8.566821470054959E-4, 8.655986593740463E-4, 8.723463457080459E-4, 8.7758019365899E-4, 8.817284627172801E-4, 8.850799680313735E-4, 8.878348414975321E-4, 8.901351153244445E-4, 8.92083742064792E-4, 8.937567637428203E-4, 8.952112984335157E-4, 8.964909032085593E-4, 8.976292504986949E-4, 8.986526958908619E-4, 8.995821024126956E-4, 9.004341568693697E-4, 9.012223332625087E-4, 9.019576071789868E-4, 9.026489919333557E-4, 9.033039454378681E-4, 9.039286821685938E-4, 9.045284146661164E-4, 9.05107542162384E-4, 9.056697991419963E-4, 9.062183732634642E-4, 9.067559996461758E-4, 9.072850367792125E-4, 9.078075280302817E-4, 9.083252517909303E-4, 9.088397625932863E-4, 9.093524250078197E-4, 9.098644417339846E-4, 9.103768769927032E-4, 9.108906760971545E-4, 9.114066818987694E-4, 9.119256486656576E-4, 9.124482538414405E-4, 9.129751080464846E-4, 9.135067636154902E-4, 9.140437219112484E-4, 9.145864396111128E-4, 9.151353341279319E-4 },
-			{ 1.580722749482489E-4, 4.0543410677570935E-4, 5.708738123590856E-4, 6.660043457733977E-4, 7.21685184314898E-4, 7.560408008466635E-4, 7.784070752952308E-4, 7.93670810193037E-4, 8.045125975414077E-4, 8.124786154552318E-4, 8.18503132444167E-4, 8.231743872676222E-4, 8.268763081121322E-4, 8.298674572515669E-4, 8.323268095853517E-4, 8.343812726927598E-4, 8.361227715580415E-4, 8.37619164039278E-4, 8.389213964190502E-4, 8.400683037411222E-4, 8.410898978742889E-4, 8.420096625502714E-4, 8.428461829296512E-4, 8.436143208553618E-4, 8.443260746449089E-4, 8.449912164001205E-4, 8.456177701455073E-4, 8.462123745748421E-4, 8.467805611143576E-4, 8.473269691291001E-4, 8.478555139778791E-4, 8.48369519347906E-4, 8.488718222786767E-4, 8.493648571239142E-4, 8.498507231386965E-4, 8.503312392385648E-4, 8.508079886369002E-4, 8.512823554417434E-4, 8.517555548243597E-4, 8.52228658017409E-4, 8.527026131305162E-4, 8.531782625639002E-4, 8.536563576406595E-4, 8.541375709539054E-4, 8.54622506827588E-4, 8.55111710213295E-4, 8.556056742846887E-4, 8.561048469430424E-4, 8.566096364088115E-4, 8.571204160431886E-4 },
-			{ 1.544961879164742E-4, 3.901314899888378E-4, 5.437016186420797E-4, 6.305917461816981E-4, 6.809800196202836E-4, 7.118999037611741E-4, 7.319608908455086E-4, 7.456212355907889E-4, 7.553100264417357E-4, 7.624220911798402E-4, 7.677976000816711E-4, 7.719643378683504E-4, 7.752661865146627E-4, 7.779344339350119E-4, 7.80129010609004E-4, 7.819632265355153E-4, 7.835191024344492E-4, 7.8485715169409E-4, 7.860227858042238E-4, 7.870506075677376E-4, 7.879673495652681E-4, 7.887939238575499E-4, 7.895468765552777E-4, 7.90239436369289E-4, 7.908822813954729E-4, 7.91484107281312E-4, 7.920520533564579E-4, 7.925920258335308E-4, 7.931089454968167E-4, 7.936069393584988E-4, 7.940894902940414E-4, 7.945595548517046E-4, 7.950196567341569E-4, 7.954719615222008E-4, 7.959183368175878E-4, 7.963604009649969E-4, 7.967995627639324E-4, 7.972370540240986E-4, 7.976739564000073E-4, 7.981112236247469E-4, 7.985497000222973E-4, 7.989901359932689E-4, 7.994332010264058E-4, 7.998794946774283E-4, 8.003295558701248E-4, 8.007838708064363E-4, 8.012428797183255E-4, 8.017069826513452E-4, 8.021765444354942E-4, 8.026518989714132E-4 },
-			{ 1.509492921244612E-4, 3.751440410839274E-4, 5.174789939034887E-4, 5.967334093434546E-4, 6.42279111890403E-4, 6.700791672806245E-4, 6.880568023779122E-4, 7.002726605703774E-4, 7.089249383491602E-4, 7.152704601666436E-4, 7.200639959144797E-4, 7.237786476822622E-4, 7.267221643122585E-4, 7.291012711286548E-4, 7.310587731133905E-4, 7.326957672136609E-4, 7.340853868511716E-4, 7.35281560236762E-4, 7.363247394990137E-4, 7.372457372792008E-4, 7.380683507634542E-4, 7.388111909332741E-4, 7.39488980012924E-4, 7.401134863345058E-4, 7.406942077205097E-4, 7.412388776792519E-4, 7.417538449431437E-4, 7.42244361255495E-4, 7.427148018677426E-4, 7.431688361199812E-4, 7.436095605967116E-4, 7.440396039442309E-4, 7.44461210030471E-4, 7.448763044090559E-4, 7.45286547807544E-4, 7.456933794536482E-4, 7.460980523855875E-4, 7.46501662396428E-4, 7.469051718901649E-4, 7.473094296461006E-4, 7.477151872739222E-4, 7.481231129776411E-4, 7.485338031197093E-4, 7.489477919780613E-4, 7.49365560011708E-4, 7.497875408898714E-4, 7.502141274916596E-4, 7.506456770451286E-4, 7.510825155440642E-4, 7.515249415563139E-4 },
-			{ 1.4742964849387506E-4, 3.6047564695393587E-4, 4.921956812075402E-4, 5.643871760301748E-4, 6.055087319962837E-4, 6.304794778289541E-4, 6.465764583244739E-4, 6.574923014581855E-4, 6.652136407422747E-4, 6.708716692449906E-4, 6.751437583208252E-4, 6.784536092794037E-4, 6.810764053831701E-4, 6.831967746178409E-4, 6.849421370926745E-4, 6.864026303957698E-4, 6.876434202217605E-4, 6.887125353913506E-4, 6.896459879042209E-4, 6.904711988269149E-4, 6.912093398037845E-4, 6.918769644043177E-4, 6.924871646253238E-4, 6.930504038417196E-4, 6.935751254638375E-4, 6.940682036361672E-4, 6.945352810688064E-4, 6.949810251355231E-4, 6.954093240479251E-4, 6.958234385891257E-4, 6.962261205365362E-4, 6.96619705866921E-4, 6.970061886926433E-4, 6.973872803462462E-4, 6.977644569243233E-4, 6.981389977945966E-4, 6.9851201697567E-4, 6.98884488857123E-4, 6.992572693964362E-4, 6.996311136789983E-4, 7.000066905369217E-4, 7.003845947762697E-4, 7.007653574494964E-4, 7.011494545222049E-4, 7.015373142147834E-4, 7.019293232455335E-4, 7.023258321592567E-4, 7.027271598913453E-4, 7.031335976902831E-4, 7.035454124997152E-4 },
-			{ 1.439355608878666E-4, 3.461304043618332E-4, 4.678403988294094E-4, 5.335102182771856E-4, 5.705958901152359E-4, 5.930040313125484E-4, 6.074052018492863E-4, 6.171522018260591E-4, 6.240381719415572E-4, 6.290801142560767E-4, 6.328853482632359E-4, 6.358329998322083E-4, 6.381689340803195E-4, 6.400579195920394E-4, 6.416135684044032E-4, 6.429161925542959E-4, 6.440238205328424E-4, 6.449792004716215E-4, 6.458143722563927E-4, 6.465537243768325E-4, 6.472160818338865E-4, 6.478161599901446E-4, 6.483655947506138E-4, 6.488736842295317E-4, 6.493479305123648E-4, 6.497944406959587E-4, 6.502182274157652E-4, 6.506234366103849E-4, 6.510135219548953E-4, 6.513913797532531E-4, 6.517594541992694E-4, 6.521198202100277E-4, 6.524742491256851E-4, 6.528242612055886E-4, 6.53171167865832E-4, 6.535161058851303E-4, 6.538600652768947E-4, 6.542039121323729E-4, 6.545484074451094E-4, 6.548942227044583E-4, 6.55241952876443E-4, 6.555921272603592E-4, 6.559452186092286E-4, 6.563016508242691E-4, 6.566618054726132E-4, 6.570260273295905E-4, 6.573946291089652E-4, 6.577678955143996E-4, 6.581460867213062E-4, 6.585294413789057E-4 },
-			{ 1.4046557807285436E-4, 3.3211251265388226E-4, 4.444008073890933E-4, 5.040591452794952E-4, 5.374684744860987E-4, 5.575584339720037E-4, 5.704321089135522E-4, 5.791292055770911E-4, 5.852662154241431E-4, 5.897565039099846E-4, 5.931440707124312E-4, 5.957678670896714E-4, 5.978473915831542E-4, 5.995295821533696E-4, 6.009156693311919E-4, 6.020771637575541E-4, 6.030657059651905E-4, 6.039193209671051E-4, 6.04666497944169E-4, 6.053289158237809E-4, 6.05923303753972E-4, 6.064627359011248E-4, 6.069575485130698E-4, 6.074159998912509E-4, 6.078447523150502E-4, 6.082492286820564E-4, 6.086338796943754E-4, 6.09002386308511E-4, 6.093578147501449E-4, 6.097027363682506E-4, 6.100393211461336E-4, 6.103694112777884E-4, 6.10694579517811E-4, 6.110161757992365E-4, 6.11335364737533E-4, 6.116531560000749E-4, 6.119704290500183E-4, 6.122879534240286E-4, 6.126064054414297E-4, 6.129263820445403E-4, 6.132484123194025E-4, 6.135729671306629E-4, 6.139004672152685E-4, 6.142312900104063E-4, 6.1456577543698E-4, 6.14904230817349E-4, 6.152469350724067E-4, 6.15594142316284E-4, 6.159460849455859E-4, 6.163029763028913E-4 },
-			{ 1.3701849567111365E-4, 3.1842616928169805E-4, 4.218634957832175E-4, 4.7599011769159375E-4, 5.060553851019221E-4, 5.24050791013777E-4, 5.355500119370773E-4, 5.433049160719357E-4, 5.487710017685579E-4, 5.527677132433101E-4, 5.557818876649476E-4, 5.581163088076151E-4, 5.599667873827978E-4, 5.614642674419748E-4, 5.626988870604933E-4, 5.637342795174713E-4, 5.646163725650211E-4, 5.653789700499741E-4, 5.660473895095263E-4, 5.666408906633677E-4, 5.671743321085592E-4, 5.676593237155149E-4, 5.681050424812666E-4, 5.685188194476972E-4, 5.689065681429177E-4, 5.692731015535683E-4, 5.696223695344796E-4, 5.699576386574533E-4, 5.702816298940179E-4, 5.705966250505524E-4, 5.709045497970005E-4, 5.712070389865432E-4, 5.715054884510966E-4, 5.718010963779651E-4, 5.720948965939307E-4, 5.723877855151062E-4, 5.726805441028018E-4, 5.729738558550893E-4, 5.732683216310959E-4, 5.735644719293189E-4, 5.738627771075338E-4, 5.741636559293473E-4, 5.744674827433104E-4, 5.74774593539046E-4, 5.750852910767813E-4, 5.753998492488908E-4, 5.757185168021665E-4, 5.760415205257843E-4, 5.763690679909389E-4, 5.767013499128808E-4 },
-			{ 1.335933579034075E-4, 3.050754691870029E-4, 4.0021398476812627E-4, 4.4925896785188014E-4, 4.7628666074069694E-4, 4.923917826160202E-4, 5.026555095260321E-4, 5.095656423073556E-4, 5.144311995515358E-4, 5.179866281668663E-4, 5.206672243267306E-4, 5.227432472409128E-4, 5.243892475120668E-4, 5.257218359799858E-4, 5.268212216661679E-4, 5.277439932548676E-4, 5.285309735039019E-4, 5.292121965177371E-4, 5.298101488263422E-4, 5.303419316925397E-4, 5.308207353811686E-4, 5.312568641677834E-4, 5.316584617093236E-4, 5.320320326860293E-4, 5.3238282347582E-4, 5.327151037122617E-4, 5.330323771198678E-4, 5.333375411986191E-4, 5.336330094476503E-4, 5.339208058343941E-4, 5.342026384780481E-4, 5.344799576096312E-4, 5.347540015262367E-4, 5.350258332975122E-4, 5.352963702901352E-4, 5.355664080714507E-4, 5.358366398820543E-4, 5.361076725912972E-4, 5.36380039843086E-4, 5.366542129433257E-4, 5.369306099216334E-4, 5.372096031089635E-4, 5.374915255025349E-4, 5.377766761349195E-4, 5.380653246214902E-4, 5.383577150269059E-4, 5.386540691647988E-4, 5.389545894237519E-4, 5.392594611958044E-4, 5.39568854970212E-4 },
-			{ 1.3018945891468038E-4, 2.920643090951126E-4, 3.7943674686367527E-4, 4.238213236090352E-4, 4.4809359801546754E-4, 4.6249472713337254E-4, 4.716489628739475E-4, 4.778023332104435E-4, 4.8213079650404744E-4, 4.8529198252834617E-4, 4.876747699337828E-4, 4.895202001754857E-4, 4.909837609837494E-4, 4.92169229672442E-4, 4.931479350005032E-4, 4.939701707598434E-4, 4.946722012742567E-4, 4.952806964895949E-4, 4.958156177468761E-4, 4.962921418042036E-4, 4.967219719342657E-4, 4.971142490694223E-4, 4.974761963430871E-4, 4.978135824488755E-4, 4.98131059684231E-4, 4.984324139140769E-4, 4.987207517061415E-4, 4.989986420375376E-4, 4.99268224739129E-4, 4.995312943013673E-4, 4.997893652315933E-4, 5.000437234582632E-4, 5.002954670827738E-4, 5.005455389271489E-4, 5.007947527110376E-4, 5.010438142434005E-4, 5.012933386845581E-4, 5.01543864689454E-4, 5.01795866059613E-4, 5.020497613928286E-4, 5.023059221142706E-4, 5.025646791919802E-4, 5.028263287774037E-4, 5.030911369632497E-4, 5.033593438131045E-4, 5.036311667875365E-4, 5.039068036678829E-4, 5.041864350602414E-4, 5.044702265472433E-4, 5.047583305432048E-4 },
-			{ 1.268063434718487E-4, 2.793962977253813E-4, 3.595152410946115E-4, 3.9963273360754973E-4, 4.21408861393895E-4, 4.342756315295021E-4, 4.424344795538197E-4, 4.4791050114310167E-4, 4.517589722048779E-4, 4.5456818904270003E-4, 4.5668527457777346E-4, 4.583250498522059E-4, 4.5962592575843694E-4, 4.6068019874920876E-4, 4.615512617417902E-4, 4.622837878542645E-4, 4.629099739913969E-4, 4.634534899939233E-4, 4.6393204632292137E-4, 4.6435910495467783E-4, 4.647450446478258E-4, 4.650979703925719E-4, 4.654242858007247E-4, 4.6572910446433357E-4, 4.660165499794809E-4, 4.66289977743032E-4, 4.665521409656911E-4, 4.66805316360481E-4, 4.6705140031295516E-4, 4.672919831906172E-4, 4.6752840728665084E-4, 4.677618123879084E-4, 4.679931718960775E-4, 4.6822332167418374E-4, 4.684529832448316E-4, 4.6868278256894925E-4, 4.6891326534123667E-4, 4.691449095213286E-4, 4.6937813565701183E-4, 4.696133154330422E-4, 4.6985077878569556E-4, 4.7009081985158825E-4, 4.7033370196406546E-4, 4.7057966186756775E-4, 4.708289132868342E-4, 4.7108164996147015E-4, 4.7133804823554465E-4, 4.7159826927533504E-4, 4.718624609750917E-4, 4.7213075960008007E-4 },
-			{ 1.234438068216368E-4, 2.6707467286019905E-4, 3.404319609680672E-4, 3.766487920871789E-4, 3.961665833906121E-4, 4.0765322924378835E-4, 4.149198855055488E-4, 4.197901357242026E-4, 4.232099635496613E-4, 4.257051653651914E-4, 4.2758534330054334E-4, 4.2904181101243675E-4, 4.301976954275921E-4, 4.311350307867455E-4, 4.319101236903204E-4, 4.325626323058123E-4, 4.3312112681145946E-4, 4.3360660341970034E-4, 4.340347675413359E-4, 4.3441755421379577E-4, 4.3476416313939465E-4, 4.350817773750881E-4, 4.353760713644808E-4, 4.356515759338582E-4, 4.3591194443162723E-4, 4.3616014943054904E-4, 4.3639862992817343E-4, 4.3662940277252145E-4, 4.3685414790575636E-4, 4.3707427422158817E-4, 4.372909709120084E-4, 4.3750524784274696E-4, 4.3771796755514794E-4, 4.3792987082066025E-4, 4.3814159718996005E-4, 4.3835370162601255E-4, 4.385666680509309E-4, 4.3878092044388083E-4, 4.3899683198306006E-4, 4.3921473261594057E-4, 4.394349153591306E-4, 4.3965764156577943E-4, 4.3988314534949103E-4, 4.4011163731568945E-4, 4.403433077216828E-4, 4.40578329163305E-4, 4.4081685886756384E-4, 4.4105904065604417E-4, 4.41305006632094E-4, 4.415548786354062E-4 },
-			{ 1.2010189349888398E-4, 2.551022261207661E-4, 3.221684940029319E-4, 3.548252614607498E-4, 3.7230245437083325E-4, 3.82549005850086E-4, 3.890166860866925E-4, 3.933456090735703E-4, 3.963829241832026E-4, 3.985981565001408E-4, 4.0026722861783413E-4, 4.0156039917645504E-4, 4.025871276687127E-4, 4.034202828124855E-4, 4.041098482643834E-4, 4.0469101089799094E-4, 4.0518910932680805E-4, 4.056227586548343E-4, 4.0600587936225936E-4, 4.063490476549224E-4, 4.066604142950974E-4, 4.0694634235154944E-4, 4.07211857865697E-4, 4.0746097353998567E-4, 4.076969246987289E-4, 4.079223436475706E-4, 4.081393901289946E-4, 4.083498500560456E-4, 4.085552110350216E-4, 4.0875672070490757E-4, 4.089554322171997E-4, 4.0915223999422184E-4, 4.093479080687058E-4, 4.0954309271186266E-4, 4.0973836062786116E-4, 4.099342036799315E-4, 4.1013105088332175E-4, 4.1032927822963743E-4, 4.1052921677929105E-4, 4.107311593623309E-4, 4.109353661545532E-4, 4.1114206933958987E-4, 4.113514770243026E-4, 4.1156377654113954E-4, 4.117791372448012E-4, 4.1199771288987636E-4, 4.1221964365976353E-4, 4.1244505790419825E-4, 4.1267407363232655E-4, 4.12906799799933E-4 },
-			{ 1.1678089488240966E-4, 2.434812361808253E-4, 3.0470559107987136E-4, 3.341181911511736E-4, 3.497538016186852E-4, 3.588872129920664E-4, 3.646400170977973E-4, 3.684855735648093E-4, 3.711817790252046E-4, 3.731475546538879E-4, 3.7462862253043834E-4, 3.7577640015215265E-4, 3.7668813540777345E-4, 3.774285173675883E-4, 3.7804189201719754E-4, 3.785594624273901E-4, 3.790036896656479E-4, 3.793910695983567E-4, 3.797339347115306E-4, 3.800416527048037E-4, 3.803214417033335E-4, 3.805789358767681E-4, 3.8081858500711447E-4, 3.8104394139768487E-4, 3.8125786897313366E-4, 3.814626977586549E-4, 3.8166033944015516E-4, 3.818523748106298E-4, 3.82040120649538E-4, 3.8222468137896005E-4, 3.824069893287813E-4, 3.8258783639181354E-4, 3.827678991091819E-4, 3.829477586984022E-4, 3.8312791715609725E-4, 3.833088102902102E-4, 3.8349081833281075E-4, 3.8367427463337325E-4, 3.838594728191964E-4, 3.8404667272421436E-4, 3.8423610532247685E-4, 3.844279768527927E-4, 3.8462247228265145E-4, 3.84819758229715E-4, 3.8501998543588156E-4, 3.8522329087061445E-4, 3.8542979952576294E-4, 3.856396259525917E-4, 3.858528755825582E-4, 3.860696458659917E-4 },
-			{ 1.1348134530691902E-4, 2.3221341101269032E-4, 2.880232438685206E-4, 3.1448403138672326E-4, 3.2845965751726895E-4, 3.3659487118237235E-4, 3.417085867184707E-4, 3.451228531451612E-4, 3.4751507495581603E-4, 3.4925871755466756E-4, 3.505724489810892E-4, 3.5159084166262755E-4, 3.524002415096327E-4, 3.5305804328571936E-4, 3.536035698753576E-4, 3.540644772777183E-4, 3.544606658999795E-4, 3.5480674661039004E-4, 3.551136399555484E-4, 3.553896394498659E-4, 3.5564113445966505E-4, 3.558731115852671E-4, 3.560895087435614E-4, 3.5629346935040613E-4, 3.564875275278486E-4, 3.566737449049287E-4, 3.5685381293569984E-4, 3.5702913031328244E-4, 3.572008621685127E-4, 3.5736998578819496E-4, 3.5753732624796544E-4, 3.5770358442295037E-4, 3.578693591831488E-4, 3.5803516511276204E-4, 3.5820144675565953E-4, 3.5836859014375496E-4, 3.585369321846203E-4, 3.587067683507713E-4, 3.588783590128302E-4, 3.5905193468315156E-4, 3.592277003789773E-4, 3.594058392701438E-4, 3.595865157423732E-4, 3.597698779808078E-4, 3.5995606015782857E-4, 3.6014518429300195E-4, 3.603373618401939E-4, 3.605326950467168E-4, 3.6073127812124385E-4, 3.609331982407066E-4 },
-			{ 1.1020401655599474E-4, 2.212998396078296E-4, 2.721007686088413E-4, 2.958797408691848E-4, 3.083608168589175E-4, 3.1560176213340764E-4, 3.2014460929913937E-4, 3.231743292420549E-4, 3.252958286595158E-4, 3.2684178617621817E-4, 3.280066576186638E-4, 3.2890996787797726E-4, 3.296283377099623E-4, 3.3021266183620344E-4, 3.30697790688897E-4, 3.311082241091448E-4, 3.314615852549605E-4, 3.3177080935284587E-4, 3.32045562276183E-4, 3.3229318328530045E-4, 3.325193257015271E-4, 3.3272840112074314E-4, 3.3292389303309793E-4, 3.331085819032889E-4, 3.33284709137868E-4, 3.33454098174946E-4, 3.33618245036555E-4, 3.337783868309126E-4, 3.3393555412952275E-4, 3.3409061141265054E-4, 3.342442885893746E-4, 3.3439720577294686E-4, 3.3454989291094994E-4, 3.347028054555628E-4, 3.3485633696084434E-4, 3.350108292766774E-4, 3.3516658084929745E-4, 3.3532385351982914E-4, 3.354828781235487E-4, 3.3564385912568395E-4, 3.358069784786742E-4, 3.359723988468304E-4, 3.361402663142902E-4, 3.3631071266881284E-4, 3.364838573357329E-4, 3.366598090220615E-4, 3.3683866711940453E-4, 3.3702052290536093E-4, 3.372054605758853E-4, 3.3739355813532107E-4 }
-			};
-	private static final double[] h_tab = { 0.0, 0.25, 0.5, 0.75, 1.0, 1.25, 1.5, 1.75, 2.0, 2.25, 2.5, 2.75, 3.0, 3.25, 3.5, 3.75, 4.0, 4.25, 4.5, 4.75, 5.0, 5.25, 5.5, 5.75, 6.0, 6.25, 6.5, 6.75, 7.0, 7.25, 7.5, 7.75, 8.0, 8.25, 8.5, 8.75, 9.0, 9.25, 9.5, 9.75, 10.0, 10.25, 10.5, 10.75, 11.0, 11.25, 11.5, 11.75, 12.0, 12.25, 12.5, 12.75, 13.0, 13.25, 13.5, 13.75, 14.0, 14.25, 14.5, 14.75, 15.0, 15.25, 15.5, 15.75};
-	private static final double[] f_tab = { 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 2.0, 2.1, 2.2, 2.3, 2.4, 2.5, 2.6, 2.7, 2.8, 2.9, 3., 3.1, 3.2, 3.3, 3.4, 3.5, 3.6, 3.7, 3.8, 3.9, 4.0, 4.1, 4.2, 4.3, 4.4, 4.5, 4.6, 4.7, 4.8, 4.9, 5.0 };		
-	
-	private static TempPres computeTempPressure(double h__m) {
-		double r__m = A_0 * 1000.0;
-		
-		double h_g__m = (r__m*h__m) / (r__m + h__m);
-		
-		double R 	= 8.31432;
-		double g_0	= 9.80665;
-		double M 	= 0.0289644;
-		
-		double T__k, p__mbar;
-		if(h_g__m < 11000.0) {
-			double P_b 	= 1013.25;
-			double T_b 	= 288.16;
-			double L_b	= -0.0065;
-			
-			T__k 	= T_b + L_b*h_g__m;
-			p__mbar = P_b*FastMath.pow(T_b/(T_b + L_b*h_g__m), (g_0*M)/(R*L_b));
-		}
-		else if(h_g__m < 25000.0) {
-			double P_b 	= 226.33426;
-			double T_b	= 216.66;
-			
-			T__k 	= T_b;
-			p__mbar = P_b*FastMath.exp((-g_0*M*(h_g__m-11000.0))/(R*T_b));
-		}
-		else {
-			double P_b	= 24.890272;
-			double T_b 	= 216.66;
-			double L_b  = 0.0030;
-			
-			T__k 	= T_b + L_b*(h_g__m-25000.0);
-			p__mbar = P_b*FastMath.pow(T_b/(T_b + L_b*(h_g__m-25000.0)), (g_0*M)/(R*L_b));
-		}
-		
-		TempPres output = new TempPres(T__k, p__mbar);
-		return output;
-	}
-	private static double computeOxygenCoefficient(double h__km, double f__ghz) {	
-		double g_h;
-		
-		if(h__km <= 8.0) 			g_h = 0.640;
-		else if(h__km <= 25.0) 		g_h = 0.640 + 0.04218*(h__km-8.0);
-		else						g_h = 1.357;
-		
-		TempPres output = computeTempPressure(h__km*1.0e3);
-		double T__k = output.T__k;
-		double p__mbar = output.p__mbar;
-		
-		double p_0__mbar = 1013.25;
-		double T_0__k = 300.0;
-				
-		double delta_f__ghz = g_h * p__mbar/p_0__mbar * T_0__k/T__k;
-		double F_0 = delta_f__ghz / (f__ghz*f__ghz + delta_f__ghz*delta_f__ghz);
-				
-		double A = 0;
-		for(int i=0; i<23; ++i) {
-			double[] F_N = new double[2];
-			for(int j=0; j<2; ++j) {
-				double f_ = o_res_tab[i][j]-f__ghz, f = o_res_tab[i][j]+f__ghz;
-				F_N[j] = delta_f__ghz/(f_*f_ + delta_f__ghz*delta_f__ghz) +  delta_f__ghz/(f*f   + delta_f__ghz*delta_f__ghz); 
-			}
-			
-			double N = 2.0*i+1.0;
-			double[] mu = { (N*(2.0*N+3.0))/(N+1.0), ((N+1.0)*(2.0*N-1.0))/N };
-			double mu_0 = (2.0*(N*N + N + 1.0)*(2.0*N + 1.0)) / (N*(N+1.0));
-			
-			double E_N_over_k = 2.06844*N*(N+1.0);
-			
-			A += (F_N[0]*mu[0] + F_N[1]*mu[1] + F_0*mu_0)*Math.exp(-E_N_over_k/T__k);
-		}
-		
-		return 2.0058*p__mbar*f__ghz*f__ghz*A/(T__k*T__k*T__k);
-	}
-	
-	
-	
-	public static void main(String[] args) {
-		double h = 1.0, f = 0.5;
-		
-		
-		int h_index = 0;
-		while(h > h_tab[h_index]) ++h_index;
-		
-		double h_pos = h_tab[h_index+1];
-		double h_neg = h_tab[h_index];
-		
-		int f_index = 0;
-		while(f > f_tab[f_index]) ++f_index;
-		
-		double f_pos = f_tab[f_index+1];
-		double f_neg = f_tab[f_index];
-		
-		
-//		if(h__km < vap_dens_tab[i][0]) return ((vap_dens_tab[i][1]-vap_dens_tab[i-1][1])*(h__km-vap_dens_tab[i-1][0]))/(vap_dens_tab[i][0]-vap_dens_tab[i-1][0]) + vap_dens_tab[i-1][1];
-
-		
-		
-		
-		
-		
-		
-		
-		
-		/*
-		FileWriter file;
-		try {
-			file = new FileWriter("array.txt");
-			
-			file.write("{ ");
-			for(double f = 0.10; f < 5.00; f+=0.1) {
-				file.write(f + ", ");
-			}
-			file.write(" }");
-			
-			//for(double h = 0.00; h < 16.00; h+=0.25) {
-			//	file.write("{ ");
-			//	for(double f = 0.10; f < 5.0; f += 0.1)
-			//			file.write(computeOxygenCoefficient(h, f) + ", ");
-			//	file.write("},\n");
-			//}
-			
-			file.close();
-		} catch (IOException e) {
-			System.out.println(e.getMessage());
-			System.exit(0);
-		}
-		*/
-
-	}
-}
-
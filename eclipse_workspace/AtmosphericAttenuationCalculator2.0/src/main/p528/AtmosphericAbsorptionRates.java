@@ -1,5 +1,7 @@
 package main.p528;
 
+import main.util.Interpolation;
+
 
 /** Rec. ITU-R P.528-4 Annex II Section XIV
  * 
@@ -34,35 +36,26 @@ public class AtmosphericAbsorptionRates {
 			{ 15000.0, 0.017, 0.02500 },
 			{ 17000.0, 0.018, 0.04500 }
 	};
+	private static final double[] f_tab 		= Interpolation.column(table, 0);
+	private static final double[] gamma_oo_tab 	= Interpolation.column(table, 1);
+	private static final double[] gamma_ow_tab 	= Interpolation.column(table, 2);
 	
 	
 	public static AbsorptionData compute(Path path) {
-		AbsorptionData output = new AbsorptionData();
+		return compute(path, new AbsorptionData());
+	}
+	
+	public static AbsorptionData compute(Path path, AbsorptionData output) {
 		// <<Step 1>> Find the correct rows of in the table
-		int i = 1;
-		while(i < 18 && path.input.f >= table[i][0]) { ++i; }
-		double f_prime 	= table[i-1][0];
-		double f_pprime = table[i][0];
-		double gamma_oo_prime = table[i-1][1];
-		double gamma_oo_pprime = table[i][1];
-		double gamma_ow_prime = table[i-1][2];
-		double gamma_ow_pprime = table[i][2];
-		
+		int i = Interpolation.search(f_tab, path.input.f);
 		
-		// <<Step 2>> Compute the interpolation scale factor
-		double R = Math.log10(path.input.f/f_prime) /Math.log10(f_pprime/f_prime);
 		
-		// <<Step 3>> Interpolate y_oo
-		double X = R*Math.log10(gamma_oo_pprime/gamma_oo_prime) + Math.log10(gamma_oo_prime);
-		output.gamma_oo = Math.pow(10.0, X);
+		// <<Steps 2-3>> Interpolate y_oo in log-log
+		output.gamma_oo = Interpolation.logLog(f_tab, gamma_oo_tab, i, path.input.f);
 		
-		// <<Step 4>> INterpolate y_ow
-		if(path.input.f >= 3400.0) {
-			double Y = R*Math.log10(gamma_ow_pprime/gamma_ow_prime) + Math.log10(gamma_ow_prime);
-			output.gamma_ow = Math.pow(10.0, Y);
-			return output;
-		}
-		output.gamma_ow = 0.0;
+		// <<Step 4>> Interpolate y_ow. The water vapor rate is zero below 3400 MHz
+		if(path.input.f >= 3400.0) output.gamma_ow = Interpolation.logLog(f_tab, gamma_ow_tab, i, path.input.f);
+		else output.gamma_ow = 0.0;
 		
 		return output;
 	}
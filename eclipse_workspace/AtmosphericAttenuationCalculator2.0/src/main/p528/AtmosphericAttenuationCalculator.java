@@ -3,6 +3,10 @@ package main.p528;
 import java.io.File;
 import java.io.PrintWriter;
 import java.io.IOException;
+import java.util.Arrays;
+
+import main.AccuracyTier;
+import main.util.ResultCache;
 
 /** Class to calculate the atmospheric attenuation of radar transmission. Rec. ITU-R P.528-4, Annex II
  * 
@@ -12,6 +16,9 @@ import java.io.IOException;
  * @note References https://github.com/NTIA/p528
  */
 public class AtmosphericAttenuationCalculator {
+	/** Version of the losses in a ResultCache. Bump it whenever they change */
+	public static final int CACHE_VERSION = 1;
+	
 	/** Calculate atmospheric attenuation in dB/km
 	 * 
 	 * @param f		Frequency 				(GHz)
@@ -23,27 +30,131 @@ public class AtmosphericAttenuationCalculator {
 	 * @note Follows the step-by-step method of Annex II, Section III
 	 */
 	public static Path compute(double f, double h_r1, double h_r2, double q, double d) {
+		P528Context ctx = new P528Context();
+		compute(ctx, P528Environment.DEFAULT, f, h_r1, h_r2, q, d);
+		return ctx.path;
+	}
+	
+	
+	/** Calculate atmospheric attenuation in dB/km in a given environment
+	 * 
+	 * @param env	Environment of the evaluation
+	 * @param f		Frequency 				(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @return	dB
+	 * @note Safe to call from any thread. Uses the context of the calling thread
+	 */
+	public static double compute(P528Environment env, double f, double h_r1, double h_r2, double q, double d) {
+		return compute(P528Context.local(), env, f, h_r1, h_r2, q, d);
+	}
+	
+	
+	/** Calculate atmospheric attenuation at an accuracy tier
+	 * 
+	 * @param tier	Accuracy tier supplying the solver settings. Its p528_bound__db is attached to the result
+	 * @param env	Environment of the evaluation. Its solver settings are replaced by the tier's
+	 * @param f		Frequency 				(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @return	Loss (dB) with the tier's error bound
+	 * @note Safe to call from any thread. Uses the context of the calling thread
+	 */
+	public static AccuracyTier.Result compute(AccuracyTier tier, P528Environment env, double f, double h_r1, double h_r2, double q, double d) {
+		double A = compute(P528Context.local(), env.withTier(tier), f, h_r1, h_r2, q, d);
+		return new AccuracyTier.Result(A, tier, tier.p528_bound__db);
+	}
+	
+	
+	/** Calculate atmospheric attenuation at an accuracy tier, reusing the results of earlier runs
+	 * 
+	 * @param cache	Persistent cache of the losses
+	 * @param tier	Accuracy tier supplying the solver settings. Its p528_bound__db is attached to the result
+	 * @param env	Environment of the evaluation. Its solver settings are replaced by the tier's
+	 * @param f		Frequency 				(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @return	Loss (dB) with the tier's error bound
+	 * @note Safe to call from any thread. Entries are named by the tier and every constant of the environment
+	 */
+	public static AccuracyTier.Result compute(ResultCache cache, AccuracyTier tier, P528Environment env, double f, double h_r1, double h_r2, double q, double d) {
+		P528Environment tiered = env.withTier(tier);
+		double A = cache.computeIfAbsent(ResultCache.namespace("p528.loss", CACHE_VERSION, tier.name(), tiered.parameters()),
+				new double[] { f, h_r1, h_r2, q, d }, () -> compute(P528Context.local(), tiered, f, h_r1, h_r2, q, d));
+		return new AccuracyTier.Result(A, tier, tier.p528_bound__db);
+	}
+	
+	
+	/** Calculate atmospheric attenuation in dB/km reusing the scratch state of ctx
+	 * 
+	 * @param ctx	Scratch state. Must not be shared between threads
+	 * @param f		Frequency 				(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @return	dB
+	 * @note Does not allocate once the terminal heights of ctx are unchanged
+	 */
+	public static double compute(P528Context ctx, double f, double h_r1, double h_r2, double q, double d) {
+		return compute(ctx, P528Environment.DEFAULT, f, h_r1, h_r2, q, d);
+	}
+	
+	/** Calculate atmospheric attenuation in dB/km in a given environment reusing the scratch state of ctx
+	 * 
+	 * @param ctx	Scratch state. Must not be shared between threads
+	 * @param env	Environment of the evaluation
+	 * @return	dB
+	 */
+	public static double compute(P528Context ctx, P528Environment env, double f, double h_r1, double h_r2, double q, double d) {
 		f = f*1000.0; // Convert to MHz to comply with Rec. ITU-R P.528-4
 		
-		Path path = new Path(h_r1, h_r2, f, q, d);
+		Path path = ctx.path;
+		
+		// <<Step 4>> Determine if path is in line-of-sight region or transhorizon
+		if(prepare(ctx, env, f, h_r1, h_r2, q, d)) {
+				path.atten.A = ctx.los.compute(ctx.lowTerminal(h_r1), ctx.highTerminal(h_r2), path);
+				return path.atten.A;	
+		}
+		
+		path.atten.A = -999;
+		// HANDLE OTHER MODES HERE
+		return path.atten.A;
+	}
+	
+	
+	/** Steps 1-3, shared by every mode
+	 * 
+	 * @param f	Frequency (MHz)
+	 * @return true if the path is in the line-of-sight region
+	 */
+	private static boolean prepare(P528Context ctx, P528Environment env, double f, double h_r1, double h_r2, double q, double d) {
+		Path path = ctx.path;
+		path.set(env, h_r1, h_r2, f, q, d);
 		
 		
 		// <<Step 1>> Compute the geometric properties of each terminal
-		TerminalGeometry low_terminal 	= new TerminalGeometry(h_r1);
-		TerminalGeometry high_terminal 	= new TerminalGeometry(h_r2);
+		TerminalGeometry.Geom lt = ctx.lowTerminal(h_r1);
+		TerminalGeometry.Geom ht = ctx.highTerminal(h_r2);
 
 		
 		// <<Step 2>> Compute the maximum line-of-sight distance between the terminals
-		path.d_ML = low_terminal.geom.d + high_terminal.geom.d;
+		path.d_ML = lt.d + ht.d;
 		
 				
 		// <<Step 3>> Compute the smooth Earth diffraction loss
-		double term = Math.pow(Constants.A_E*Constants.A_E/path.input.f, 1.0/3.0);
+		double term = Math.pow(env.A_E*env.A_E/path.input.f, 1.0/3.0);
 		double d_3 = path.d_ML + 0.5*term;
 		double d_4 = path.d_ML + 1.5*term;
 		
-		double A_d_3 = SmoothEarthDiffraction.compute(low_terminal.geom, high_terminal.geom, path, d_3);
-		double A_d_4 = SmoothEarthDiffraction.compute(low_terminal.geom, high_terminal.geom, path, d_4);
+		double A_d_3 = SmoothEarthDiffraction.compute(lt, ht, path, d_3);
+		double A_d_4 = SmoothEarthDiffraction.compute(lt, ht, path, d_4);
 		
 		double M_d = (A_d_4 - A_d_3) / (d_4 - d_3);
 		path.atten.A_d0 = A_d_4 - M_d*d_4;
@@ -51,18 +162,60 @@ public class AtmosphericAttenuationCalculator {
 		path.atten.A_dML = M_d*path.d_ML + path.atten.A_d0;
 		path.d_d = -(path.atten.A_d0/M_d);
 		
+		return path.input.d < path.d_ML;
+	}
+	
+	
+	/** Calculate atmospheric attenuation at several time percentages in one pass
+	 * 
+	 * @param ctx	Scratch state. Must not be shared between threads
+	 * @param f		Frequency 				(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentages		(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @param A		Receives the loss for each q	(dB)
+	 * @note Geometry, line-of-sight loss, absorption and the percentile-independent variability terms are shared across q
+	 */
+	public static void compute(P528Context ctx, double f, double h_r1, double h_r2, double[] q, double d, double[] A) {
+		compute(ctx, P528Environment.DEFAULT, f, h_r1, h_r2, q, d, A);
+	}
+	
+	/** Calculate atmospheric attenuation at several time percentages in one pass in a given environment
+	 * 
+	 * @param ctx	Scratch state. Must not be shared between threads
+	 * @param env	Environment of the evaluation
+	 * @param A		Receives the loss for each q	(dB)
+	 */
+	public static void compute(P528Context ctx, P528Environment env, double f, double h_r1, double h_r2, double[] q, double d, double[] A) {
+		if(A.length < q.length) throw new IllegalArgumentException("Output array is shorter than the time percentages");
 		
-		// <<Step 4>> Determine if path is in line-of-sight region or transhorizon
-		if(path.input.d < path.d_ML) {
-				LOSAttenuationCalculator los = new LOSAttenuationCalculator();
-				double total_attenuation = los.compute(low_terminal.geom, high_terminal.geom, path);
-				path.atten.A = total_attenuation;
-				return path;	
+		Path path = ctx.path;
+		if(!prepare(ctx, env, f*1000.0, h_r1, h_r2, 0.5, d)) {
+			Arrays.fill(A, 0, q.length, -999);
+			return;
 		}
+		ctx.los.compute(ctx.lowTerminal(h_r1), ctx.highTerminal(h_r2), path, q, A);
+	}
+	
+	
+	/** Calculate atmospheric attenuation over many frequencies of one link
+	 * 
+	 * @param ctx	Scratch state. Must not be shared between threads
+	 * @param env	Environment of the evaluation
+	 * @param f		Frequencies 			(GHz)
+	 * @param h_r1	Height of low terminal 	(km)
+	 * @param h_r2	Height of high terminal (km)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @param A		Receives the loss for each f, or -999 beyond line-of-sight	(dB)
+	 * @note Terminal geometry, d_Lq and the fixed-psi rows of the LOS table are computed once and shared by every f.
+	 * 		Results are identical to calling compute for each f
+	 */
+	public static void computeSweep(P528Context ctx, P528Environment env, double[] f, double h_r1, double h_r2, double q, double d, double[] A) {
+		if(A.length < f.length) throw new IllegalArgumentException("Output array is shorter than the frequencies");
 		
-		path.atten.A = -999;
-		// HANDLE OTHER MODES HERE
-		return path;
+		for(int i=0; i<f.length; ++i) A[i] = compute(ctx, env, f[i], h_r1, h_r2, q, d);
 	}
 	
 	
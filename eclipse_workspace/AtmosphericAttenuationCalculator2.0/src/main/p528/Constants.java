@@ -1,35 +1,51 @@
 package main.p528;
 
+/** Default environment of Rec. ITU-R P.528-4. Use P528Environment to evaluate other ground or climate assumptions
+ */
 public class Constants {
 	private Constants() { }
 	
 	/** surface refractivity 	(301 N-Units)
 	 */
-	public static double N_S = 301.0;
+	public static final double N_S = 301.0;
 	
 	/** actual Earth radius (6370 km)
 	 */
-	public static double A_0 = 6370.0;
+	public static final double A_0 = 6370.0;
 	
 	/** effective Earth radius (8493 km)
 	 */
-	public static double A_E = 8493.0;	
+	public static final double A_E = 8493.0;	
 	
 	/** effective thickness of oxygen absorbing layer (3.25 km)
 	 */
-	public static double T_EO = 3.25;
+	public static final double T_EO = 3.25;
 	
 	/** effective thickness of water vapor absorbing layer (1.36 km)
 	 */
-	public static double T_OW = 1.36;
+	public static final double T_OW = 1.36;
 	
 	/** relative dielectric constant (15)
 	 */
-	public static double E_R = 15.0;		
+	public static final double E_R = 15.0;		
 	
 	/** conductivity (0.005 S/m)
 	 */
-	public static double SIGMA = 0.005;	
+	public static final double SIGMA = 0.005;	
 	
-	public static int LOS_ITERATIONS = 25;
+	/** maximum evaluations of the Step 9 psi search
+	 */
+	public static final int LOS_ITERATIONS = 25;
+	
+	/** tolerance of the Step 9 psi search on ray distance (0.001 km)
+	 */
+	public static final double LOS_TOLERANCE = 0.001;
+	
+	/** tolerance of the Step 7 d_0 search (0.001 km)
+	 */
+	public static final double D_0_TOLERANCE = 0.001;
+	
+	/** maximum evaluations of the Step 7 d_0 search
+	 */
+	public static final int D_0_ITERATIONS = 50;
 }
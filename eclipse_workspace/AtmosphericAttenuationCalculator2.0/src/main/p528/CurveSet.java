@@ -0,0 +1,262 @@
+package main.p528;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.stream.IntStream;
+
+/** Precomputed family of P.528 basic transmission loss curves over (h1, h2, f, q, d)
+ *
+ * The curves are generated in parallel with AtmosphericAttenuationCalculator and stored in a memory-mapped binary file.
+ * Queries interpolate multilinearly in h1, h2, log(f), q and log(d).
+ *
+ * File layout (little endian):
+ * 		magic (8 bytes), version (int), axis lengths n_h1, n_h2, n_f, n_q, n_d (int),
+ * 		axis values (double), losses (float, d fastest, then q, f, h2, h1)
+ *
+ * @author Collin Thornton
+ * @note Points beyond line-of-sight are stored as NaN and interpolate to NaN
+ */
+public class CurveSet {
+	private static final long MAGIC = 0x5035323843555256L;	// "P528CURV"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 8 + 4 + 5*4;
+
+	private final double[] h1_tab, h2_tab, f_tab, q_tab, d_tab;
+
+	// f and d axes in log space
+	private final double[] log_f_tab, log_d_tab;
+	private final FloatBuffer loss;
+	private final int[] stride = new int[5];
+
+
+	private CurveSet(double[] h1_tab, double[] h2_tab, double[] f_tab, double[] q_tab, double[] d_tab, FloatBuffer loss) {
+		this.h1_tab = h1_tab;
+		this.h2_tab = h2_tab;
+		this.f_tab = f_tab;
+		this.q_tab = q_tab;
+		this.d_tab = d_tab;
+		this.log_f_tab = log(f_tab);
+		this.log_d_tab = log(d_tab);
+		this.loss = loss;
+
+		stride[4] = 1;
+		stride[3] = d_tab.length;
+		stride[2] = stride[3]*q_tab.length;
+		stride[1] = stride[2]*f_tab.length;
+		stride[0] = stride[1]*h2_tab.length;
+	}
+
+
+	/** Compute the curve set over a grid and write it to file
+	 *
+	 * @param file	Output file
+	 * @param h1	Heights of terminal 1, ascending	(km)
+	 * @param h2	Heights of terminal 2, ascending	(km)
+	 * @param f		Frequencies, ascending				(GHz)
+	 * @param q		Time percentages, ascending			(0.01-0.99)
+	 * @param d		Distances, ascending				(km)
+	 * @throws IOException when the file cannot be written
+	 * @throws IllegalArgumentException if an axis is empty or not strictly ascending, f or d holds a value <= 0, or the file
+	 * 		would exceed 2 GB. Checked before computing
+	 * @note Every (h1, h2, f, d) is evaluated once for all q. Rows are distributed over the common fork-join pool
+	 */
+	public static void generate(File file, double[] h1, double[] h2, double[] f, double[] q, double[] d) throws IOException {
+		checkAxis(h1, "h1", false);
+		checkAxis(h2, "h2", false);
+		checkAxis(f, "f", true);
+		checkAxis(q, "q", false);
+		checkAxis(d, "d", true);
+
+		final int n_q = q.length, n_d = d.length;
+		final long size = (long)h1.length*h2.length*f.length*n_q*n_d;
+		// The file is mapped as a single buffer, here and in open, so it must fit in 2 GB
+		long bytes = HEADER_BYTES + 8L*(h1.length + h2.length + f.length + n_q + n_d) + 4L*size;
+		if(bytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Curve set file of " + bytes + " bytes exceeds 2 GB");
+
+		float[] values = new float[(int)size];
+		int rows = h1.length*h2.length*f.length;
+
+		IntStream.range(0, rows).parallel().forEach(row -> {
+			P528Context ctx = P528Context.local();
+			double[] A = new double[n_q];
+
+			int i_f = row % f.length;
+			int i_h2 = (row / f.length) % h2.length;
+			int i_h1 = row / (f.length*h2.length);
+			double h_low = Math.min(h1[i_h1], h2[i_h2]), h_high = Math.max(h1[i_h1], h2[i_h2]);
+
+			for(int i_d=0; i_d<n_d; ++i_d) {
+				AtmosphericAttenuationCalculator.compute(ctx, f[i_f], h_low, h_high, q, d[i_d], A);
+				for(int i_q=0; i_q<n_q; ++i_q) {
+					// -999 flags the unhandled transhorizon region
+					double value = (A[i_q] == -999) ? Double.NaN : A[i_q];
+					values[(row*n_q + i_q)*n_d + i_d] = (float)value;
+				}
+			}
+		});
+
+
+		try(RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+			raf.setLength(0);
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putLong(MAGIC).putInt(VERSION);
+			buffer.putInt(h1.length).putInt(h2.length).putInt(f.length).putInt(n_q).putInt(n_d);
+			for(double[] axis : new double[][] { h1, h2, f, q, d })
+				for(double x : axis) buffer.putDouble(x);
+			buffer.asFloatBuffer().put(values);
+		}
+	}
+
+
+	/** Memory-map a curve set written by generate
+	 *
+	 * @throws IOException when the file cannot be read, is not a curve set or holds an invalid axis
+	 */
+	public static CurveSet open(File file) throws IOException {
+		try(RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+
+			if(buffer.getLong() != MAGIC) 	throw new IOException("Not a P.528 curve set: " + file);
+			if(buffer.getInt() != VERSION) 	throw new IOException("Unsupported curve set version: " + file);
+
+			int[] n = new int[5];
+			for(int i=0; i<5; ++i) n[i] = buffer.getInt();
+
+			double[][] axes = new double[5][];
+			for(int i=0; i<5; ++i) {
+				axes[i] = new double[n[i]];
+				for(int j=0; j<n[i]; ++j) axes[i][j] = buffer.getDouble();
+			}
+			try {
+				checkAxis(axes[0], "h1", false);
+				checkAxis(axes[1], "h2", false);
+				checkAxis(axes[2], "f", true);
+				checkAxis(axes[3], "q", false);
+				checkAxis(axes[4], "d", true);
+			} catch(IllegalArgumentException e) {
+				throw new IOException("Malformed curve set: " + file, e);
+			}
+
+			long count = (long)n[0]*n[1]*n[2]*n[3]*n[4];
+			if(buffer.remaining() < 4L*count) throw new IOException("Truncated curve set: " + file);
+
+			// The mapping stays valid after the channel is closed
+			FloatBuffer loss = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+			return new CurveSet(axes[0], axes[1], axes[2], axes[3], axes[4], loss);
+		}
+	}
+
+
+	/** Interpolate the basic transmission loss
+	 *
+	 * @param h1	Height of terminal 1	(km)
+	 * @param h2	Height of terminal 2	(km)
+	 * @param f		Frequency				(GHz)
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @param d		Distance				(km)
+	 * @return dB
+	 * @throws IllegalArgumentException when a coordinate lies outside the grid
+	 */
+	public double lookup(double h1, double h2, double f, double q, double d) {
+		return interpolate(h1, h2, f, q, d, null);
+	}
+
+	/** Interpolate the basic transmission loss and estimate the interpolation error
+	 *
+	 * @param out	Receives { loss (dB), estimated absolute interpolation error (dB) }
+	 * @throws IllegalArgumentException when a coordinate lies outside the grid
+	 * @note The error is estimated from the second differences of the grid along each axis: t(1-t)/2 * |delta^2 A|
+	 */
+	public void lookup(double h1, double h2, double f, double q, double d, double[] out) {
+		out[0] = interpolate(h1, h2, f, q, d, out);
+	}
+
+
+	private double interpolate(double h1, double h2, double f, double q, double d, double[] out) {
+		int[] index = new int[5];
+		double[] t = new double[5];
+		locate(h1_tab, h1, 0, index, t, "h1");
+		locate(h2_tab, h2, 1, index, t, "h2");
+		locate(log_f_tab, Math.log(f), 2, index, t, "f");
+		locate(q_tab, q, 3, index, t, "q");
+		locate(log_d_tab, Math.log(d), 4, index, t, "d");
+
+		int base = 0;
+		for(int k=0; k<5; ++k) base += index[k]*stride[k];
+
+		// Sum the 32 corners of the enclosing cell
+		double value = 0.0;
+		for(int corner=0; corner<32; ++corner) {
+			double weight = 1.0;
+			int offset = base;
+			for(int k=0; k<5; ++k) {
+				if((corner & (16 >> k)) != 0) {
+					weight *= t[k];
+					offset += stride[k];
+				}
+				else weight *= 1.0 - t[k];
+			}
+			if(weight != 0.0) value += weight*loss.get(offset);
+		}
+
+		if(out != null) {
+			double error = 0.0;
+			int[] n = { h1_tab.length, h2_tab.length, f_tab.length, q_tab.length, d_tab.length };
+			for(int k=0; k<5; ++k) {
+				if(n[k] < 3) continue;
+
+				// Centre the second difference on the nearest interior node
+				int i = Math.min(Math.max(index[k] + (t[k] > 0.5 ? 1 : 0), 1), n[k]-2);
+				int node = base + (i - index[k])*stride[k];
+				double second = loss.get(node - stride[k]) - 2.0*loss.get(node) + loss.get(node + stride[k]);
+				error += 0.5*t[k]*(1.0-t[k])*Math.abs(second);
+			}
+			out[1] = error;
+		}
+		return value;
+	}
+
+	private static void locate(double[] axis, double x, int k, int[] index, double[] t, String name) {
+		int n = axis.length;
+		if(!(x >= axis[0] && x <= axis[n-1])) throw new IllegalArgumentException(name + " is outside the curve set");
+		if(n == 1) {
+			index[k] = 0;
+			t[k] = 0.0;
+			return;
+		}
+
+		int low = 0, high = n-1;
+		while(high - low > 1) {
+			int mid = (low + high) >>> 1;
+			if(axis[mid] <= x) low = mid;
+			else high = mid;
+		}
+		index[k] = low;
+		t[k] = (x - axis[low])/(axis[high] - axis[low]);
+	}
+
+	/** @param positive Whether the axis is interpolated in log space, so every value must be > 0 */
+	private static void checkAxis(double[] axis, String name, boolean positive) {
+		if(axis.length == 0) throw new IllegalArgumentException("Curve set axis " + name + " is empty");
+		if(positive && !(axis[0] > 0.0)) throw new IllegalArgumentException("Curve set axis " + name + " must be positive");
+		for(int i=1; i<axis.length; ++i)
+			if(!(axis[i] > axis[i-1])) throw new IllegalArgumentException("Curve set axis " + name + " must be strictly ascending");
+	}
+
+	private static double[] log(double[] axis) {
+		double[] out = new double[axis.length];
+		for(int i=0; i<axis.length; ++i) out[i] = Math.log(axis[i]);
+		return out;
+	}
+
+	public double[] getHeights1() 		{ return h1_tab.clone(); }
+	public double[] getHeights2() 		{ return h2_tab.clone(); }
+	public double[] getFrequencies() 	{ return f_tab.clone(); }
+	public double[] getPercentages() 	{ return q_tab.clone(); }
+	public double[] getDistances() 		{ return d_tab.clone(); }
+}
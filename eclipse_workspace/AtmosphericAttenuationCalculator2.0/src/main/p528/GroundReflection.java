@@ -11,24 +11,92 @@ public class GroundReflection {
 		double R_g;			// Real part of reflection coefficient
 		double phi_g;		// Imaginary part of reflection coefficient
 	}
+	
+	/** Grazing-angle independent part of Step 1 for one (f, ground) pair
+	 * 
+	 * @note Recomputed only when the frequency or ground constants change
+	 */
+	public static class Coefficients {
+		double f = Double.NaN;	// frequency 					(MHz)
+		double E_R, SIGMA;		// ground constants
+		double X, X2;			// X and X^2 of Step 1
+		
+		Coefficients() { }
+		
+		/**
+		 * @param f		Frequency 			(MHz)
+		 * @param type	Ground type
+		 */
+		public Coefficients(double f, GroundType type) { set(f, type.E_R, type.SIGMA); }
+		
+		/**
+		 * @param f		Frequency 					(MHz)
+		 * @param E_R	Relative dielectric constant
+		 * @param SIGMA	Conductivity				(S/m)
+		 */
+		public Coefficients(double f, double E_R, double SIGMA) { set(f, E_R, SIGMA); }
+		
+		void set(double f, double E_R, double SIGMA) {
+			if(f == this.f && E_R == this.E_R && SIGMA == this.SIGMA) return;
+			this.f = f;
+			this.E_R = E_R;
+			this.SIGMA = SIGMA;
+			X = 18000.0*SIGMA/f;
+			X2 = X*X;
+		}
+	}
+	
+	
 	public static GroundReflectionData compute(double psi, Path path) {
+		return compute(psi, path, new GroundReflectionData());
+	}
+	
+	public static GroundReflectionData compute(double psi, Path path, GroundReflectionData data) {
+		return compute(psi, path.ground, data);
+	}
+	
+	/** Compute the reflection coefficient at grazing angle psi
+	 * 
+	 * @param psi	Grazing angle (rad)
+	 * @param c		Coefficients of the frequency and ground
+	 */
+	public static GroundReflectionData compute(double psi, Coefficients c, GroundReflectionData data) {
+		double sin_psi = Math.sin(psi);
+		double cos_psi = Math.cos(psi);
 		
 		// <<Step 1>>
-		double X = 18000.0*Constants.SIGMA/path.input.f;
-		double Y = Constants.E_R - Math.cos(psi)*Math.cos(psi);
-		double T = Math.sqrt(Y*Y + X*X) + Y;
+		double Y = c.E_R - cos_psi*cos_psi;
+		double T = Math.sqrt(Y*Y + c.X2) + Y;
 		
 		double P = Math.sqrt(0.5*T);
-		double Q = X/(2.0*P);
+		double Q = c.X/(2.0*P);
 		double B = 1.0/(P*P + Q*Q);
 		double A = (2.0*P)/(P*P + Q*Q);
 		
 		
 		// <<Step 2>>
-		GroundReflectionData data = new GroundReflectionData();
-		data.R_g = Math.sqrt( (1.0 + B*Math.sin(psi)*Math.sin(psi) - A*Math.sin(psi)) / (1.0 + B*Math.sin(psi)*Math.sin(psi) + A*Math.sin(psi)) );
+		double BS = 1.0 + B*sin_psi*sin_psi;
+		data.R_g = Math.sqrt( (BS - A*sin_psi) / (BS + A*sin_psi) );
 		
-		data.phi_g = Math.atan2(-Q, Math.sin(psi)-P) - Math.atan2(Q, Math.sin(psi)+P);
+		data.phi_g = Math.atan2(-Q, sin_psi-P) - Math.atan2(Q, sin_psi+P);
 		return data;
 	}
+	
+	/** Compute the reflection coefficient over an array of grazing angles
+	 * 
+	 * @param psi	Grazing angles (rad)
+	 * @param c		Coefficients of the frequency and ground
+	 * @param R_g	Receives the real part for each psi
+	 * @param phi_g	Receives the imaginary part for each psi
+	 */
+	public static void compute(double[] psi, Coefficients c, double[] R_g, double[] phi_g) {
+		if(R_g.length < psi.length || phi_g.length < psi.length) throw new IllegalArgumentException("Output arrays are shorter than psi");
+		
+		GroundReflectionData data = new GroundReflectionData();
+		for(int i=0; i<psi.length; ++i) {
+			compute(psi[i], c, data);
+			R_g[i] = data.R_g;
+			phi_g[i] = data.phi_g;
+		}
+	}
 }
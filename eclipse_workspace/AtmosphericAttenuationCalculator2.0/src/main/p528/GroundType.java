@@ -0,0 +1,44 @@
+package main.p528;
+
+/** Registry of ground constants for GroundReflection
+ * 
+ * @author Collin Thornton
+ * @note Values follow Rec. ITU-R P.527 for frequencies up to a few hundred MHz. Permittivity and conductivity are frequency dependent above that
+ */
+public enum GroundType {
+	/** Average ground of Rec. ITU-R P.528-4 (Constants) */
+	AVERAGE		(Constants.E_R, Constants.SIGMA),
+	SEA			(70.0, 5.0),
+	FRESH_WATER	(80.0, 0.01),
+	WET_GROUND	(30.0, 0.01),
+	DRY_GROUND	(15.0, 0.001),
+	VERY_DRY_GROUND(3.0, 0.0001),
+	URBAN		(5.0, 0.001),
+	ICE			(3.0, 0.0001);
+	
+	/** relative dielectric constant */
+	public final double E_R;
+	
+	/** conductivity (S/m) */
+	public final double SIGMA;
+	
+	GroundType(double E_R, double SIGMA) {
+		this.E_R = E_R;
+		this.SIGMA = SIGMA;
+	}
+	
+	
+	private static final GroundType[] VALUES = values();
+	
+	/** Ground type of a raster code (the ordinal)
+	 * 
+	 * @throws IllegalArgumentException when the code is not a ground type
+	 */
+	public static GroundType fromCode(int code) {
+		if(code < 0 || code >= VALUES.length) throw new IllegalArgumentException("Unknown ground type code: " + code);
+		return VALUES[code];
+	}
+	
+	/** Raster code of this ground type */
+	public int code() { return ordinal(); }
+}
@@ -0,0 +1,74 @@
+package main.p528;
+
+/** Regular latitude/longitude raster of ground types, e.g. a land/sea mask around a coastal site
+ *
+ * @author Collin Thornton
+ * @note Cells hold GroundType codes. Points outside the raster take the fill type
+ */
+public class GroundTypeRaster {
+	private final double lat_0, lon_0;		// centre of the first cell				(deg)
+	private final double d_lat, d_lon;		// cell size							(deg)
+	private final int rows, cols;
+	private final byte[] codes;				// row-major, rows along latitude
+	private final GroundType fill;
+
+	// One environment per ground type, derived from the last base environment
+	private P528Environment base;
+	private P528Environment[] environments;
+
+
+	/**
+	 * @param lat_0	Latitude of the centre of the first cell 	(deg)
+	 * @param lon_0	Longitude of the centre of the first cell 	(deg)
+	 * @param d_lat	Cell height 								(deg)
+	 * @param d_lon	Cell width 									(deg)
+	 * @param rows	Number of cells along latitude
+	 * @param cols	Number of cells along longitude
+	 * @param codes	GroundType codes, row-major
+	 * @param fill	Ground type outside the raster
+	 */
+	public GroundTypeRaster(double lat_0, double lon_0, double d_lat, double d_lon, int rows, int cols, byte[] codes, GroundType fill) {
+		if(!(d_lat > 0.0 && d_lon > 0.0)) throw new IllegalArgumentException("Cell size must be positive");
+		if(rows <= 0 || cols <= 0 || codes.length != rows*cols) throw new IllegalArgumentException("Raster dimensions do not match the codes");
+		for(byte code : codes) GroundType.fromCode(code);
+
+		this.lat_0 = lat_0;
+		this.lon_0 = lon_0;
+		this.d_lat = d_lat;
+		this.d_lon = d_lon;
+		this.rows = rows;
+		this.cols = cols;
+		this.codes = codes.clone();
+		this.fill = fill;
+	}
+
+
+	/** Ground type of the cell nearest to (lat, lon)
+	 *
+	 * @param lat	Latitude 	(deg)
+	 * @param lon	Longitude 	(deg)
+	 */
+	public GroundType typeAt(double lat, double lon) {
+		long row = Math.round((lat - lat_0)/d_lat);
+		long col = Math.round((lon - lon_0)/d_lon);
+		if(row < 0 || row >= rows || col < 0 || col >= cols) return fill;
+		return GroundType.fromCode(codes[(int)row*cols + (int)col]);
+	}
+
+	/** Environment for a reflection point at (lat, lon)
+	 *
+	 * @param base	Environment supplying everything except the ground constants
+	 * @note The returned instances are shared per ground type, so TerminalGeometryCache and P528Context reuse them
+	 */
+	public synchronized P528Environment environmentAt(P528Environment base, double lat, double lon) {
+		if(base != this.base) {
+			this.base = base;
+			environments = new P528Environment[GroundType.values().length];
+		}
+
+		GroundType type = typeAt(lat, lon);
+		P528Environment env = environments[type.code()];
+		if(env == null) environments[type.code()] = env = base.withGround(type);
+		return env;
+	}
+}
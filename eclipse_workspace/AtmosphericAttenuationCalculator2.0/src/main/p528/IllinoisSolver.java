@@ -0,0 +1,58 @@
+package main.p528;
+
+import java.util.function.DoubleUnaryOperator;
+
+/** Bracketed root solver (Illinois variant of the regula falsi method)
+ *
+ * @author Collin Thornton
+ * @note Converges superlinearly on monotone functions while always keeping the root bracketed
+ */
+public class IllinoisSolver {
+	private int iterations;
+
+	/** Find the root of g within [a, b]
+	 *
+	 * @param g		Function to solve. Must satisfy g(a) < 0 <= g(b)
+	 * @param a		Lower end of bracket
+	 * @param g_a	g(a)
+	 * @param b		Upper end of bracket
+	 * @param g_b	g(b)
+	 * @param tol	Convergence tolerance on both the bracket width and the residual
+	 * @param max_iterations Maximum number of evaluations of g
+	 * @return End of the final bracket with g >= 0
+	 */
+	public double solve(DoubleUnaryOperator g, double a, double g_a, double b, double g_b, double tol, int max_iterations) {
+		iterations = 0;
+		int side = 0;
+		double residual = g_b;	// g_b is scaled by the Illinois step, so track the true residual separately
+
+		while(residual > tol && Math.abs(b-a) > tol && iterations < max_iterations) {
+			double x = b - g_b*(b-a)/(g_b-g_a);
+
+			// Fall back to bisection if the secant step leaves the bracket
+			if(!(x > Math.min(a, b) && x < Math.max(a, b))) x = 0.5*(a+b);
+
+			double g_x = g.applyAsDouble(x);
+			++iterations;
+
+			if(g_x >= 0.0) {
+				b = x;
+				g_b = g_x;
+				residual = g_x;
+				if(side == 1) g_a /= 2.0;
+				side = 1;
+			}
+			else {
+				a = x;
+				g_a = g_x;
+				if(side == -1) g_b /= 2.0;
+				side = -1;
+			}
+		}
+
+		return b;
+	}
+
+	/** Number of function evaluations used by the last call to solve */
+	public int getIterations() { return iterations; }
+}
@@ -1,7 +1,8 @@
 package main.p528;
 
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.function.DoubleUnaryOperator;
+
+import main.util.Interpolation;
 
 /** Rec. ITU-R P.528-4 Annex II Section VI
  * 
@@ -9,25 +10,6 @@ import java.util.Comparator;
  *
  */
 public class LOSAttenuationCalculator {
-	private class Tuple {
-		double psi, deltar, d;
-		
-		Tuple(double psi, double deltar, double d) {
-			this.psi = psi;
-			this.deltar = deltar;
-			this.d = d;
-		}
-	}
-	private class SortByDeltaR implements Comparator<Tuple> {
-		@Override
-		public int compare(Tuple o1, Tuple o2) {
-			if(o1.deltar > o2.deltar) 		return 1;
-			else if(o1.deltar == o2.deltar) return 0;
-			else 							return -1;
-		}
-		
-	}
-	
 	//private double A;	// Basic transmission loss (dB)
 	//private double K;	// variability coefficient 
 
@@ -35,9 +17,81 @@ public class LOSAttenuationCalculator {
 	private static double[] psitab = { 0.2, 0.5, 0.7, 1.0, 1.2, 1.5, 1.7, 2.0, 2.5, 3.0, 3.5, 
 			4.0, 5.0, 6.0, 7.0, 8.0, 10.0, 20.0, 45.30, 70.0, 80.0, 85.0, 88.0, 89.0 };
 	
-	public Tuple[] table = new Tuple[46];
+	// LOS table of Step 5, one array per column, sorted by deltar
+	final double[] table_psi = new double[46], table_deltar = new double[46], table_d = new double[46];
+	
+	// Rows 21-44 of the LOS table use fixed psi and do not depend on frequency. Kept while the terminals are unchanged
+	private final double[] fixed_deltar = new double[24], fixed_d = new double[24];
+	private TerminalGeometry.Geom fixed_lt, fixed_ht;
+	private P528Environment fixed_env;
+	private double fixed_h_r1 = Double.NaN, fixed_h_r2 = Double.NaN;
+	
+	/** Number of ray optics evaluations used to tune d_0 in the last call to compute (Step 7) */
+	public int d_0_iterations;
+	
+	/** Number of ray distance evaluations used to tune psi in the last call to compute (Step 9) */
+	public int psi_iterations;
+	
+	/** Ray distance error at the tuned psi (km) */
+	public double psi_residual;
+	
+	/** Whether the Step 9 psi search reached P528Environment.LOS_TOLERANCE */
+	public boolean psi_converged;
+	
+	private final IllinoisSolver d_0_solver = new IllinoisSolver();
+	
+	// Scratch reused across calls so that steady state evaluation does not allocate
+	private final RayOptics.RayOpticsData optics = new RayOptics.RayOpticsData();
+	private final RayOptics.RayOpticsData optics_scratch = new RayOptics.RayOpticsData();
+	private final GroundReflection.GroundReflectionData reflection = new GroundReflection.GroundReflectionData();
+	private final AtmosphericAbsorptionRates.AbsorptionData absorption = new AtmosphericAbsorptionRates.AbsorptionData();
+	private final VariabilityLoss.Terms variability = new VariabilityLoss.Terms();
+	private double r_ew;
+	
+	// Step 7 residual d(psi(x)) - d_0 over the path of the current call
+	private Path step7_path;
+	private TerminalGeometry.Geom step7_lt, step7_ht;
+	private double step7_target;
+	private final DoubleUnaryOperator step7_residual = x -> RayOptics.compute(extrapolateDtoPsi(x), step7_path, step7_lt, step7_ht, optics_scratch).d - step7_target;
 	
 	public double compute(TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path) {
+		computeLOS(lt, ht, path);
+		
+		
+		// <<Step 13>> Compute contribution of variability to loss
+		path.atten.A_Y = VariabilityLoss.compute(path.atten.A_LOS, lt, ht, path, optics, r_ew, variability);
+		
+		
+		// <<Step 14>> Sum the components
+		path.atten.A = path.atten.A_fs + path.atten.A_a + path.atten.A_LOS + path.atten.A_Y;	
+		
+		return path.atten.A;
+	}
+	
+	
+	/** Compute the loss at several time percentages. Everything except the variability is computed once
+	 * 
+	 * @param q	Time percentages	(0.01-0.99)
+	 * @param A	Receives the total loss for each q	(dB)
+	 * @note path.input.q is ignored and path.atten.A is left unset
+	 */
+	public void compute(TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, double[] q, double[] A) {
+		computeLOS(lt, ht, path);
+		
+		
+		// <<Step 13>> Compute contribution of variability to loss
+		VariabilityLoss.compute(path.atten.A_LOS, lt, ht, path, optics, r_ew, q, A, variability);
+		
+		
+		// <<Step 14>> Sum the components
+		double A_q = path.atten.A_fs + path.atten.A_a + path.atten.A_LOS;
+		for(int i=0; i<q.length; ++i) A[i] += A_q;
+	}
+	
+	
+	/** Steps 1-12, which do not depend on the time percentage
+	 */
+	private void computeLOS(TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path) {
 		double lambda = 0.2997925/path.input.f;
 		buildTable(lambda, path, lt, ht);
 		
@@ -55,78 +109,96 @@ public class LOSAttenuationCalculator {
 		else path.d_0 = path.d_d;
 		
 		// <<Step 7>> Tune path.d_0 
-		double temp_d = path.d_0 - 0.001;
-		RayOptics.RayOpticsData optics;
-		double psi;
-		do {
-			temp_d += 0.001;
-			psi = extrapolateDtoPsi(temp_d);
-			optics = RayOptics.compute(psi, path, lt, ht);
-		} while(optics.d < path.d_0 && temp_d + 0.001 <= path.d_ML);
-		path.d_0 = optics.d;
+		// --> Find the smallest table distance whose ray reaches d_0 by bracketing on [d_0, d_ML]
+		double d_target = path.d_0;
+		double d_reached = RayOptics.compute(extrapolateDtoPsi(d_target), path, lt, ht, optics).d;
+		d_0_iterations = 1;
+		
+		if(d_reached < d_target) {
+			double d_reached_ML = RayOptics.compute(extrapolateDtoPsi(path.d_ML), path, lt, ht, optics).d;
+			++d_0_iterations;
+			
+			if(d_reached_ML >= d_target) {
+				step7_path = path;
+				step7_lt = lt;
+				step7_ht = ht;
+				step7_target = d_target;
+				double temp_d = d_0_solver.solve(step7_residual, d_target, d_reached - d_target, path.d_ML, d_reached_ML - d_target, 
+						path.env.D_0_TOLERANCE, path.env.D_0_ITERATIONS);
+				step7_path = null;
+				step7_lt = step7_ht = null;
+				
+				d_0_iterations += d_0_solver.getIterations() + 1;
+				d_reached = RayOptics.compute(extrapolateDtoPsi(temp_d), path, lt, ht, optics).d;
+			}
+			else d_reached = d_reached_ML;
+		}
+		path.d_0 = d_reached;
 			
 		
 		// <<Step 8>> Compute line-of-sight loss at path.d_0 
 		double psi_d0 = extrapolateDtoPsi(path.d_0);
-		optics = RayOptics.compute(psi_d0, path, lt, ht);
-		path.atten.A_d0 = LOSPathLoss.compute(psi_d0, psi_limit, optics, path, 0.0);
+		RayOptics.compute(psi_d0, path, lt, ht, optics);
+		path.atten.A_d0 = LOSPathLoss.compute(psi_d0, psi_limit, optics, path, 0.0, reflection);
 		
 		
 		// <<Step 9>> Tune psi
-		psi = extrapolateDtoPsi(path.input.d);
-		optics = RayOptics.compute(psi, path, lt, ht);
-		
-		double delta = 0.01, error = optics.d - path.input.d;
-		int los_iterations = 0;
-		while(Math.abs(error) > 0.001 && los_iterations < Constants.LOS_ITERATIONS) {
-			if(error > 0) {
-				psi += delta;
-				delta /= 2.0;
-				psi -= delta;
-			}
-			else {
-				psi -= delta;
-			}
-			optics = RayOptics.compute(psi, path, lt, ht);
-			error = optics.d - path.input.d;
-			++los_iterations;
-		}
+		double psi = tunePsi(extrapolateDtoPsi(path.input.d), path, lt, ht);
+		RayOptics.compute(psi, path, lt, ht, optics);
 		//double d_r0 = optics.d;
 		
 		
 		// <<Step 10> Compute line-of-sight loss
-		path.atten.A_LOS = LOSPathLoss.compute(psi, psi_limit, optics, path);
+		path.atten.A_LOS = LOSPathLoss.compute(psi, psi_limit, optics, path, reflection);
 		
 		
 		// <<Step 11> Compute atmospheric attenuation
-		double r_eo = EffectiveRayLength.compute(Constants.A_E, Constants.T_EO, optics);
-		double r_ew = EffectiveRayLength.compute(Constants.A_E, Constants.T_OW, optics);
+		double r_eo = EffectiveRayLength.compute(path.env.A_E, path.env.T_EO, optics);
+		r_ew = EffectiveRayLength.compute(path.env.A_E, path.env.T_OW, optics);
 		
-		AtmosphericAbsorptionRates.AbsorptionData abs = AtmosphericAbsorptionRates.compute(path);
+		AtmosphericAbsorptionRates.AbsorptionData abs = AtmosphericAbsorptionRates.compute(path, absorption);
 		path.atten.A_a = -abs.gamma_oo*r_eo - abs.gamma_ow*r_ew;
 		
 		
 		// <<Step 12>> Compute free space loss
 		path.atten.A_fs = computeFPL(optics, path, lt, ht);
-		
-		
-		// <<Step 13>> Compute contribution of variability to loss
-		path.atten.A_Y = VariabilityLoss.compute(path.atten.A_LOS, lt, ht, path, optics, r_ew);
-		
-		
-		// <<Step 14>> Sum the components
-		path.atten.A = path.atten.A_fs + path.atten.A_a + path.atten.A_LOS + path.atten.A_Y;	
-		
-		return path.atten.A;
 	}
 	
 	
+	/** Tune psi until the ray distance is within LOS_TOLERANCE of path.input.d, with the halving search of the reference
+	 * 
+	 * @param psi	Initial estimate from the LOS table (rad)
+	 * @return psi	(rad)
+	 * @note Only the ray distance is evaluated while searching; the caller builds the full ray optics once at the result
+	 */
+	private double tunePsi(double psi, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht) {
+		double delta = 0.01;
+		psi_residual = RayOptics.computeDistance(psi, path, lt, ht) - path.input.d;
+		psi_iterations = 1;
+		
+		while(Math.abs(psi_residual) > path.env.LOS_TOLERANCE && psi_iterations <= path.env.LOS_ITERATIONS) {
+			if(psi_residual > 0) {
+				psi += delta;
+				delta /= 2.0;
+				psi -= delta;
+			}
+			else {
+				psi -= delta;
+			}
+			psi_residual = RayOptics.computeDistance(psi, path, lt, ht) - path.input.d;
+			++psi_iterations;
+		}
+		psi_converged = Math.abs(psi_residual) <= path.env.LOS_TOLERANCE;
+		
+		return psi;
+	}
+	
 	private double computeFPL(RayOptics.RayOpticsData optics, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht) {
 		
 		//! SOMETHING IS INCORRECT WITH THETA_FS... EITHER optics.a_a (which would imply an error with psi) OR terminal.theta IS BROKEN
-		double theta_fs = (optics.a_a*(lt.theta+ht.theta))/Constants.A_0;
-		double z_1 = Constants.A_0 + path.input.h_r1;
-		double z_2 = Constants.A_0 + path.input.h_r2;
+		double theta_fs = (optics.a_a*(lt.theta+ht.theta))/path.env.A_0;
+		double z_1 = path.env.A_0 + path.input.h_r1;
+		double z_2 = path.env.A_0 + path.input.h_r2;
 		
 		//! This accounts for curvature of earth and height differences. Is more accurate
 		double term = Math.sqrt((z_2-z_1)*(z_2-z_1) + 4.0*z_1*z_2*Math.sin(0.5*theta_fs)*Math.sin(0.5*theta_fs));
@@ -141,45 +213,57 @@ public class LOSAttenuationCalculator {
 		return A_fs;
 	}
 	private void buildTable(double lambda, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht) {
-		table[0] = new Tuple(0.00, 0.00, path.d_ML);
+		setRow(0, 0.00, 0.00, path.d_ML);
 
-		for(int i=1; i<45; ++i) {
+		for(int i=1; i<21; ++i) {
 			double psi;
 			if(i<11) 		psi = Math.asin((lambda*rtab[i-1])/(2.0*lt.h));
-			else if(i < 21) psi = Math.sqrt((lambda*rtab[i-11])/(2.0*lt.d));
-			else 			psi = psitab[i-21]*Math.PI/180.0;
+			else 			psi = Math.sqrt((lambda*rtab[i-11])/(2.0*lt.d));
 			
-			RayOptics.RayOpticsData optics = RayOptics.compute(psi, path, lt, ht);
+			RayOptics.compute(psi, path, lt, ht, optics_scratch);
 
-			table[i] = new Tuple(psi, optics.deltar, optics.d);
+			setRow(i, psi, optics_scratch.deltar, optics_scratch.d);
 		}
-		table[45] = new Tuple(Math.PI/2.0, 2.0*lt.h, 0.00);
 		
-		Arrays.sort(table, new SortByDeltaR());		
+		if(lt != fixed_lt || ht != fixed_ht || path.env != fixed_env || path.input.h_r1 != fixed_h_r1 || path.input.h_r2 != fixed_h_r2) {
+			for(int i=21; i<45; ++i) {
+				RayOptics.compute(psitab[i-21]*Math.PI/180.0, path, lt, ht, optics_scratch);
+				fixed_deltar[i-21] = optics_scratch.deltar;
+				fixed_d[i-21] = optics_scratch.d;
+			}
+			fixed_lt = lt;
+			fixed_ht = ht;
+			fixed_env = path.env;
+			fixed_h_r1 = path.input.h_r1;
+			fixed_h_r2 = path.input.h_r2;
+		}
+		for(int i=21; i<45; ++i) setRow(i, psitab[i-21]*Math.PI/180.0, fixed_deltar[i-21], fixed_d[i-21]);
+		
+		setRow(45, Math.PI/2.0, 2.0*lt.h, 0.00);
+		
+		// Sort by deltar. Insertion sort in place: the table is short and nearly ordered
+		for(int i=1; i<table_deltar.length; ++i) {
+			double psi = table_psi[i], deltar = table_deltar[i], d = table_d[i];
+			int j = i-1;
+			while(j >= 0 && table_deltar[j] > deltar) {
+				setRow(j+1, table_psi[j], table_deltar[j], table_d[j]);
+				--j;
+			}
+			setRow(j+1, psi, deltar, d);
+		}
+	}
+	private void setRow(int i, double psi, double deltar, double d) {
+		table_psi[i] = psi;
+		table_deltar[i] = deltar;
+		table_d[i] = d;
 	}
 	
 	private double extrapolateDeltaRtoD(double deltaR) {
-		if(deltaR <= table[0].deltar) return table[0].d;
-	
-		int i=1;
-		while(table[i].deltar < deltaR && i < 44) ++i;
-		
-		if(deltaR < table[i].deltar) return ((table[i].d-table[i-1].d)*(deltaR-table[i-1].deltar))/(table[i].deltar-table[i-1].deltar) + table[i-1].d;
-		else if (deltaR == table[i].deltar) return table[i].d; 
-		return table[45].d;
+		return Interpolation.linear(table_deltar, table_d, deltaR);
 	}
 	private double extrapolateDtoPsi(double D) {
-		if(D >= table[0].d) return table[0].psi;
-		
-		int i=1;
-		while(table[i].d > D && i < 44) ++i;
-		
-		double psi = table[45].psi;
-		
-		if(D > table[i].d) psi = ((table[i].psi-table[i-1].psi)*(D-table[i-1].d))/(table[i].d-table[i-1].d) + table[i-1].psi;
-		else if (D == table[i].d) psi = table[i].psi; 
-		
-		return psi;
+		// Distance decreases along the table as psi increases
+		return Interpolation.linearDescending(table_d, table_psi, D);
 	}	
 	
 	
@@ -233,7 +317,7 @@ public class LOSAttenuationCalculator {
 		
 		System.out.println("i\tpsi\tdr\td");
 		for(int i=0; i<46; ++i) {
-			System.out.format("%4d\t%4.3e\t%4.3e\t%4.3e%n", i, los.table[i].psi, los.table[i].deltar, los.table[i].d);
+			System.out.format("%4d\t%4.3e\t%4.3e\t%4.3e%n", i, los.table_psi[i], los.table_deltar[i], los.table_d[i]);
 		}
 		System.out.println(" ");
 		
@@ -7,7 +7,7 @@ package main.p528;
  *
  */
 public class LOSPathLoss {
-	public static double compute(double psi, double psi_limit, RayOptics.RayOpticsData optics, Path path) {
+	public static double compute(double psi, double psi_limit, RayOptics.RayOpticsData optics, Path path, GroundReflection.GroundReflectionData gr) {
 		double A_LOS;
 		
 		// <<Step 1>>
@@ -22,7 +22,7 @@ public class LOSPathLoss {
 		double lambda = 0.2997925 / path.input.f;
 		
 		// Compute reflection coefficient <<Step 4>>
-		GroundReflection.GroundReflectionData gr = GroundReflection.compute(psi, path);
+		GroundReflection.compute(psi, path, gr);
 		
 		
 		// <<Step 5>> Compute divergence factor  
@@ -57,7 +57,7 @@ public class LOSPathLoss {
 		return A_LOS;
 	}
 	
-	public static double compute(double psi, double psi_limit, RayOptics.RayOpticsData optics, Path path, double A_d0) {
+	public static double compute(double psi, double psi_limit, RayOptics.RayOpticsData optics, Path path, double A_d0, GroundReflection.GroundReflectionData gr) {
 		double A_LOS;
 		
 		// <<Step 1>>
@@ -72,7 +72,7 @@ public class LOSPathLoss {
 		double lambda = 0.2997925 / path.input.f;
 		
 		// Compute reflection coefficient <<Step 4>>
-		GroundReflection.GroundReflectionData gr = GroundReflection.compute(psi, path);
+		GroundReflection.compute(psi, path, gr);
 		
 		
 		// <<Step 5>> Compute divergence factor  
@@ -1,5 +1,7 @@
 package main.p528;
 
+import main.util.Interpolation;
+
 public class LongTermVariability {
 	private static final double[][] table4 = {
 			{ 0.01, 1.9507 },
@@ -13,19 +15,43 @@ public class LongTermVariability {
 			{ 0.05, -3.70 },
 			{ 0.10,  0.00 }
 	};
+	private static final double[] table4_q = Interpolation.column(table4, 0);
+	private static final double[] table4_c = Interpolation.column(table4, 1);
+	private static final double[] table5_q = Interpolation.column(table5, 0);
+	private static final double[] table5_c = Interpolation.column(table5, 1);
+	
+	/** Percentile-independent terms of the long term variability
+	 */
+	public static class Terms {
+		double V;				// Median long term variability 	(dB)
+		double Y_01;			// Y_1*g_01 for q = 0.10 			(dB)
+		double Y_09;			// Y_9*g_09 for q = 0.90 			(dB)
+		double f_theta_h;		// Elevation angle factor
+		double A_T;				// Line-of-sight loss 				(dB)
+		double A_Y;				// Long term power fading cutoff 	(dB)
+	}
+	
 	
 	public static double compute(TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, double q, double f_theta_h, double A_T) {
+		Terms terms = prepare(lt, ht, path, f_theta_h, A_T, new Terms());
+		return compute(terms, q);
+	}
+	
+	
+	/** Compute every term of the long term variability that does not depend on the time percentage (Steps 1-4, 6-8)
+	 * 
+	 * @param terms Receives the terms
+	 * @return terms
+	 */
+	public static Terms prepare(TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, double f_theta_h, double A_T, Terms terms) {
 		
 		// <<Step 1>> Compute smooth Earth horizon distance via ray tracing
-		RayTrace.RayTraceData trace = RayTrace.compute(lt.h, 329.0);
-		double d_Lq_1 = trace.d_r;
-		trace = RayTrace.compute(ht.h, 329.0);
-		double d_Lq_2 = trace.d_r;
+		if(Double.isNaN(path.d_Lq)) path.d_Lq = TerminalGeometryCache.trace(lt.h, 329.0, path.env).d_r + TerminalGeometryCache.trace(ht.h, 329.0, path.env).d_r;
 		
 		
 		// <<Step 2>> Compute effective distance between terminals
 		double d_qs = 60.0*Math.pow(100/path.input.f, 1.0/3.0);
-		double d_Lq = d_Lq_1 + d_Lq_2;
+		double d_Lq = path.d_Lq;
 		double d_q = d_Lq + d_qs;
 		double d_e;
 		
@@ -54,6 +80,37 @@ public class LongTermVariability {
 		double Y_1 = (5.24e-4*Math.pow(d_e, 1.97) - f_2y1) * Math.exp(-4.70e-7*Math.pow(d_e, 2.90)) + f_2y1;
 		double Y_9 = (2.93e-4*Math.pow(d_e, 2.00)-f_2y9) * Math.exp(-1.02e-7*Math.pow(d_e, 3.15)) + f_2y9;
 		
+		terms.V = V;
+		terms.Y_01 = Y_1*g_01;
+		terms.Y_09 = Y_9*g_09;
+		terms.f_theta_h = f_theta_h;
+		terms.A_T = A_T;
+		
+		
+		// <<Step 6>> Determine long term power fading for q = 0.10
+		double Y_01 = (Y_1*g_01) + V;
+		
+		
+		// <<Step 7>>
+		double Y_el_01 	= f_theta_h * Y_01;
+		
+		
+		// <<Step 8>>
+		double A_YI = Y_el_01 - A_T - 3.0;
+		terms.A_Y = Math.max(A_YI, 0.0);
+		
+		return terms;
+	}
+	
+	
+	/** Compute the long term variability at time percentage q (Steps 5, 7, 9-11)
+	 * 
+	 * @param terms Output of prepare
+	 * @param q		Time percentage			(0.01-0.99)
+	 * @return dB
+	 */
+	public static double compute(Terms terms, double q) {
+		double V = terms.V, A_T = terms.A_T;
 		
 		// <<Step 5>> Compute variability associated w/ long-term power fading
 		double Y_q, Y, z_q, c_q;
@@ -62,60 +119,36 @@ public class LongTermVariability {
 			double z_09 = inverseComplementaryCumulativeNormal(0.9);
 			z_q = inverseComplementaryCumulativeNormal(q);
 			c_q = z_q/z_09;
-			Y = c_q*(-Y_9*g_09);
+			Y = c_q*(-terms.Y_09);
 			Y_q = Y + V;
 		} else if(q >= 0.10) {
 			double z_01 = inverseComplementaryCumulativeNormal(0.1);
 			z_q = inverseComplementaryCumulativeNormal(q);
 			c_q = z_q/z_01;
-			Y = c_q*(Y_1*g_01);
+			Y = c_q*terms.Y_01;
 			Y_q = Y + V;
 		} else {
 			// Linearly interpolate from Table 4
-			c_q = table4[3][1];
-			if(q < table4[0][0]) c_q = table4[0][0];
-			else {
-				int i=1;
-				while(q > table4[i][0] && i < 4) ++i;
-				if(q == table4[i][0]) 		c_q = table4[i][1];
-				else if(q < table4[i][0]) 	c_q = ((table4[i][1]-table4[i-1][1])*(q-table4[i-1][0]))/(table4[i][0]-table4[i-1][0]) + table4[i-1][1];
-			}
-			Y = c_q*(Y_1*g_01);
+			c_q = Interpolation.linear(table4_q, table4_c, q);
+			Y = c_q*terms.Y_01;
 			Y_q = Y + V;
 		}
-			
-		
-		// <<Step 6>> Determine long term power fading for q = 0.10
-		double Y_01 = (Y_1*g_01) + V;
 		
 		
 		// <<Step 7>>
-		double Y_el_q 	= f_theta_h * Y_q;
-		double Y_el_01 	= f_theta_h * Y_01;
-		
-		
-		// <<Step 8>>
-		double A_YI = Y_el_01 - A_T - 3.0;
-		path.atten.A_Y = Math.max(A_YI, 0.0);
+		double Y_el_q 	= terms.f_theta_h * Y_q;
 		
 		
 		// <<Step 9>> Compute total variability loss if q >= 0.10
-		if(q >= 0.10) return Y_el_q - path.atten.A_Y;
+		if(q >= 0.10) return Y_el_q - terms.A_Y;
 		
 		
 		// <<Step 10>> Apply corrections for q < 0.10
-		double Y_temp = Y_el_q - path.atten.A_Y - A_T;
+		double Y_temp = Y_el_q - terms.A_Y - A_T;
 		
 		
 		// <<Step 11>> Linearly interpolate c_yq from q using table 5
-		c_q = table5[3][1];
-		if(q < table5[0][0]) c_q = table5[0][0];
-		else {
-			int i=1;
-			while(q > table5[i][0] && i < 4) ++i;
-			if(q == table5[i][0]) 		c_q = table5[i][1];
-			else if(q < table5[i][0]) 	c_q = ((table5[i][1]-table5[i-1][1])*(q-table5[i-1][0]))/(table5[i][0]-table5[i-1][0]) + table5[i-1][1];
-		}
+		c_q = Interpolation.linear(table5_q, table5_c, q);
 		
 		if(Y_temp > -c_q) 	return -c_q + A_T;
 		else 				return Y_temp + A_T;
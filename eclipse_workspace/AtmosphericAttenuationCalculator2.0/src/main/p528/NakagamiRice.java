@@ -1,5 +1,9 @@
 package main.p528;
 
+import java.util.Arrays;
+
+import main.util.Interpolation;
+
 public class NakagamiRice {
 
 	// first row is K. 
@@ -26,36 +30,17 @@ public class NakagamiRice {
 		} ;
 	private static final double[] q_indices = { 0.01, 0.02, 0.05, 0.10, 0.15, 0.20, 0.30, 0.40, 0.60, 0.70, 0.80, 0.85, 0.90, 0.95, 0.98, 0.99 };
 	
+	private static final double[] k_indices = Interpolation.column(table, 0);
+	private static final double[][] values = new double[table.length][];
+	static {
+		for(int i=0; i<table.length; ++i) values[i] = Arrays.copyOfRange(table[i], 1, table[i].length);
+	}
+	
 	public static double compute(double K, double q) {
 		if(q == 0.00 || q == 0.50) return 0.0;
-	
-		double[] temptable = new double[2];
-		
-		
-		// Find K indices (iterate through rows)
-		int k_index = 0;
-		while(K > table[k_index][0] && k_index < 16) ++k_index;
-		if(k_index == 0) k_index = 1;
-		int k_index_low = k_index - 1;
-		
-		
-		// Find Q indices (iterate through columns)
-		int q_index = 0;
-		while(q > q_indices[q_index] && q_index < 15) ++q_index;
-		++q_index;
-		if(q_index <= 1) q_index = 2;
-		int q_index_low = q_index - 1;
-		
-		
-		// Interpolate with respect to K (across rows)
-		temptable[0] = ((table[k_index][q_index_low]-table[k_index_low][q_index_low])*(K-table[k_index_low][0])) / (table[k_index][0]-table[k_index_low][0]) + table[k_index_low][q_index_low];
-		temptable[1] = ((table[k_index][q_index]-table[k_index_low][q_index])*(K-table[k_index_low][0])) / (table[k_index][0]-table[k_index_low][0]) + table[k_index_low][q_index];
-
-		
-		// Interpolate with respect to q (across columns)
-		double Y_pi = ((temptable[1]-temptable[0])*(q-q_indices[q_index_low-1])) / (q_indices[q_index-1]-q_indices[q_index_low-1]) + temptable[0];
 		
-		return Y_pi;
+		// Interpolate with respect to K (across rows), then q (across columns), extrapolating from the edge cells
+		return Interpolation.bilinear(k_indices, q_indices, values, K, q);
 	}
 	
 	
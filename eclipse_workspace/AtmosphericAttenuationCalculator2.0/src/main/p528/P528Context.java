@@ -0,0 +1,50 @@
+package main.p528;
+
+/** Reusable scratch state for evaluating Rec. ITU-R P.528-4 without allocation
+ * 
+ * @author Collin Thornton
+ * @note Not thread-safe. Use one context per thread, e.g. P528Context.local()
+ * @note Terminal geometry is looked up in TerminalGeometryCache only when a terminal height or the environment changes
+ */
+public class P528Context {
+	private static final ThreadLocal<P528Context> LOCAL = ThreadLocal.withInitial(P528Context::new);
+	
+	final Path path = new Path(Double.NaN, Double.NaN, 0.0, 0.0, 0.0);
+	final LOSAttenuationCalculator los = new LOSAttenuationCalculator();
+	
+	private TerminalGeometry.Geom low_terminal, high_terminal;
+	private double h_r1 = Double.NaN, h_r2 = Double.NaN;
+	private P528Environment env1, env2;
+	
+	
+	/** Context owned by the calling thread
+	 */
+	public static P528Context local() { return LOCAL.get(); }
+	
+	
+	/** Geometry of the low terminal in the environment of path, reused while its height is unchanged
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 */
+	TerminalGeometry.Geom lowTerminal(double h_r) {
+		if(low_terminal == null || h_r != h_r1 || path.env != env1) low_terminal = TerminalGeometryCache.geometry(h_r, path.env);
+		h_r1 = h_r;
+		env1 = path.env;
+		return low_terminal;
+	}
+	
+	/** Geometry of the high terminal in the environment of path, reused while its height is unchanged
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 */
+	TerminalGeometry.Geom highTerminal(double h_r) {
+		if(high_terminal == null || h_r != h_r2 || path.env != env2) high_terminal = TerminalGeometryCache.geometry(h_r, path.env);
+		h_r2 = h_r;
+		env2 = path.env;
+		return high_terminal;
+	}
+	
+	/** Line-of-sight calculator of the last evaluation, exposing its solver diagnostics
+	 */
+	public LOSAttenuationCalculator los() { return los; }
+}
@@ -0,0 +1,153 @@
+package main.p528;
+
+import main.AccuracyTier;
+
+/** Immutable environment and solver parameters of a P.528 evaluation
+ * 
+ * @author Collin Thornton
+ * @note Passed through the pipeline via Path, so evaluations with different environments may run concurrently
+ * @see Constants for the default values
+ */
+public final class P528Environment {
+	/** Environment of Rec. ITU-R P.528-4 (Constants) */
+	public static final P528Environment DEFAULT = new P528Environment(Constants.N_S, Constants.A_0, Constants.A_E, Constants.T_EO, Constants.T_OW, 
+			Constants.E_R, Constants.SIGMA, Constants.LOS_ITERATIONS, Constants.LOS_TOLERANCE, Constants.D_0_TOLERANCE, Constants.D_0_ITERATIONS);
+	
+	/** surface refractivity 	(N-Units) */
+	public final double N_S;
+	
+	/** actual Earth radius (km) */
+	public final double A_0;
+	
+	/** effective Earth radius (km) */
+	public final double A_E;
+	
+	/** effective thickness of oxygen absorbing layer (km) */
+	public final double T_EO;
+	
+	/** effective thickness of water vapor absorbing layer (km) */
+	public final double T_OW;
+	
+	/** relative dielectric constant */
+	public final double E_R;
+	
+	/** conductivity (S/m) */
+	public final double SIGMA;
+	
+	/** maximum evaluations of the Step 9 psi search */
+	public final int LOS_ITERATIONS;
+	
+	/** tolerance of the Step 9 psi search on ray distance (km) */
+	public final double LOS_TOLERANCE;
+	
+	/** tolerance of the Step 7 d_0 search (km) */
+	public final double D_0_TOLERANCE;
+	
+	/** maximum evaluations of the Step 7 d_0 search */
+	public final int D_0_ITERATIONS;
+	
+	// Copies with the solver settings of each accuracy tier, built with the environment and shared by the copies themselves
+	private final P528Environment[] tiers;
+	
+	
+	public P528Environment(double N_S, double A_0, double A_E, double T_EO, double T_OW, double E_R, double SIGMA, 
+			int LOS_ITERATIONS, double LOS_TOLERANCE, double D_0_TOLERANCE, int D_0_ITERATIONS) {
+		this(N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, LOS_ITERATIONS, LOS_TOLERANCE, D_0_TOLERANCE, D_0_ITERATIONS, 
+				new P528Environment[AccuracyTier.values().length]);
+		
+		for(AccuracyTier tier : AccuracyTier.values()) {
+			tiers[tier.ordinal()] = new P528Environment(N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, tier.los_iterations, tier.los_tolerance__km, 
+					tier.d_0_tolerance__km, tier.d_0_iterations, tiers);
+		}
+	}
+	
+	private P528Environment(double N_S, double A_0, double A_E, double T_EO, double T_OW, double E_R, double SIGMA, 
+			int LOS_ITERATIONS, double LOS_TOLERANCE, double D_0_TOLERANCE, int D_0_ITERATIONS, P528Environment[] tiers) {
+		this.N_S = N_S;
+		this.A_0 = A_0;
+		this.A_E = A_E;
+		this.T_EO = T_EO;
+		this.T_OW = T_OW;
+		this.E_R = E_R;
+		this.SIGMA = SIGMA;
+		this.LOS_ITERATIONS = LOS_ITERATIONS;
+		this.LOS_TOLERANCE = LOS_TOLERANCE;
+		this.D_0_TOLERANCE = D_0_TOLERANCE;
+		this.D_0_ITERATIONS = D_0_ITERATIONS;
+		this.tiers = tiers;
+	}
+	
+	
+	/** Copy of this environment with different ground constants
+	 * 
+	 * @param E_R	relative dielectric constant
+	 * @param SIGMA	conductivity (S/m)
+	 */
+	public P528Environment withGround(double E_R, double SIGMA) {
+		return new P528Environment(N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, LOS_ITERATIONS, LOS_TOLERANCE, D_0_TOLERANCE, D_0_ITERATIONS);
+	}
+	
+	/** Copy of this environment over a registered ground type
+	 */
+	public P528Environment withGround(GroundType type) {
+		return withGround(type.E_R, type.SIGMA);
+	}
+	
+	/** Copy of this environment with a different climate
+	 * 
+	 * @param N_S	surface refractivity 	(N-Units)
+	 * @param A_E	effective Earth radius 	(km)
+	 */
+	public P528Environment withRefractivity(double N_S, double A_E) {
+		return new P528Environment(N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, LOS_ITERATIONS, LOS_TOLERANCE, D_0_TOLERANCE, D_0_ITERATIONS);
+	}
+	
+	/** Copy of this environment with different solver settings
+	 */
+	public P528Environment withSolver(int LOS_ITERATIONS, double LOS_TOLERANCE, double D_0_TOLERANCE, int D_0_ITERATIONS) {
+		return new P528Environment(N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, LOS_ITERATIONS, LOS_TOLERANCE, D_0_TOLERANCE, D_0_ITERATIONS);
+	}
+	
+	/** Copy of this environment with the solver settings of an accuracy tier
+	 * 
+	 * @note The copies are built with the environment, so calls from any thread return the same instance and the geometry memos
+	 * 		stay warm. withTier on a copy returns the same copies
+	 */
+	public P528Environment withTier(AccuracyTier tier) {
+		return tiers[tier.ordinal()];
+	}
+	
+	
+	/** Every constant and solver setting, e.g. to name the entries of a ResultCache */
+	double[] parameters() {
+		return new double[] { N_S, A_0, A_E, T_EO, T_OW, E_R, SIGMA, LOS_ITERATIONS, LOS_TOLERANCE, D_0_TOLERANCE, D_0_ITERATIONS };
+	}
+	
+	
+	@Override
+	public boolean equals(Object o) {
+		if(this == o) return true;
+		if(!(o instanceof P528Environment)) return false;
+		P528Environment e = (P528Environment)o;
+		return Double.compare(N_S, e.N_S) == 0 && Double.compare(A_0, e.A_0) == 0 && Double.compare(A_E, e.A_E) == 0
+				&& Double.compare(T_EO, e.T_EO) == 0 && Double.compare(T_OW, e.T_OW) == 0 
+				&& Double.compare(E_R, e.E_R) == 0 && Double.compare(SIGMA, e.SIGMA) == 0
+				&& LOS_ITERATIONS == e.LOS_ITERATIONS && Double.compare(LOS_TOLERANCE, e.LOS_TOLERANCE) == 0
+				&& Double.compare(D_0_TOLERANCE, e.D_0_TOLERANCE) == 0 && D_0_ITERATIONS == e.D_0_ITERATIONS;
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = Double.hashCode(N_S);
+		hash = 31*hash + Double.hashCode(A_0);
+		hash = 31*hash + Double.hashCode(A_E);
+		hash = 31*hash + Double.hashCode(T_EO);
+		hash = 31*hash + Double.hashCode(T_OW);
+		hash = 31*hash + Double.hashCode(E_R);
+		hash = 31*hash + Double.hashCode(SIGMA);
+		hash = 31*hash + LOS_ITERATIONS;
+		hash = 31*hash + Double.hashCode(LOS_TOLERANCE);
+		hash = 31*hash + Double.hashCode(D_0_TOLERANCE);
+		return 31*hash + D_0_ITERATIONS;
+	}
+}
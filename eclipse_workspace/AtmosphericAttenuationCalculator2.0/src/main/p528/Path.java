@@ -2,10 +2,10 @@ package main.p528;
 
 public class Path {
 	public class UserInput {
-		final double h_r1, h_r2;		// terminal heights (1 is lower)
-		final double f;				// frequency in MHz
-		final double q;				// Time percentage
-		final double d;				// distance (km)
+		double h_r1, h_r2;		// terminal heights (1 is lower)
+		double f;				// frequency in MHz
+		double q;				// Time percentage
+		double d;				// distance (km)
 		
 		UserInput(double h1, double h2, double fr, double qi, double dd) {
 			h_r1 = h1;
@@ -55,10 +55,19 @@ public class Path {
 	/** Effective reflection coefficient */
 	double R_Tg;
 	
+	/** Sum of smooth Earth horizon distances of both terminals for N_s = 329 (km). Computed on first use */
+	double d_Lq = Double.NaN;
+	
 	
 	UserInput input;
 	Attenuation atten;
 	
+	/** Environment of the evaluation */
+	P528Environment env = P528Environment.DEFAULT;
+	
+	/** Ground reflection coefficients for the frequency and environment */
+	final GroundReflection.Coefficients ground = new GroundReflection.Coefficients();
+	
 	/** Class to hold path parameters
 	 *  
 	 * @param h1	Actual height of low terminal	(km)
@@ -70,5 +79,25 @@ public class Path {
 	Path(double h1, double h2, double f, double q, double d) {
 		input = new UserInput(h1, h2, f, q, d);
 		atten = new Attenuation();
+		ground.set(f, env.E_R, env.SIGMA);
+	}
+	
+	/** Reinitialize the path for a new set of inputs without allocating
+	 * 
+	 * @note d_Lq is kept when the terminal heights and environment are unchanged
+	 */
+	void set(P528Environment env, double h1, double h2, double f, double q, double d) {
+		if(h1 != input.h_r1 || h2 != input.h_r2 || env != this.env) d_Lq = Double.NaN;
+		
+		this.env = env;
+		input.h_r1 = h1;
+		input.h_r2 = h2;
+		input.f = f;
+		input.q = q;
+		input.d = d;
+		ground.set(f, env.E_R, env.SIGMA);
+		
+		d_0 = d_ML = d_d = R_Tg = 0.0;
+		atten.A_d0 = atten.A_dML = atten.A_LOS = atten.A_a = atten.A_fs = atten.A_Y = atten.A = 0.0;
 	}
 }
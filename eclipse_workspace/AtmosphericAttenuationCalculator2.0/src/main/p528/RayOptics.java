@@ -15,14 +15,24 @@ public class RayOptics {
 	}
 	
 	public static RayOpticsData compute(double psi, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht) {
-		RayOpticsData optics = new RayOpticsData();
-				
-		double z = (Constants.A_0/Constants.A_E) - 1.0;		// (Eq. 62)
+		return compute(psi, path, lt, ht, new RayOpticsData());
+	}
+	
+	/** Compute the ray optics into an existing RayOpticsData
+	 * 
+	 * @param psi		Reflection angle	(rad)
+	 * @param optics	Receives the result
+	 * @return optics
+	 */
+	public static RayOpticsData compute(double psi, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, RayOpticsData optics) {
+		P528Environment env = path.env;
+		
+		double z = (env.A_0/env.A_E) - 1.0;		// (Eq. 62)
 		double k_a = 1.0/(1.0+z*Math.cos(psi));
-		optics.a_a = Constants.A_0*k_a;
+		optics.a_a = env.A_0*k_a;
 		
-		double deltah_a1 = lt.delta_h*(optics.a_a - Constants.A_0)/(Constants.A_E-Constants.A_0);
-		double deltah_a2 = ht.delta_h*(optics.a_a - Constants.A_0)/(Constants.A_E-Constants.A_0);
+		double deltah_a1 = lt.delta_h*(optics.a_a - env.A_0)/(env.A_E-env.A_0);
+		double deltah_a2 = ht.delta_h*(optics.a_a - env.A_0)/(env.A_E-env.A_0);
 		
 		double H1 = path.input.h_r1 - deltah_a1, H2 = path.input.h_r2 - deltah_a2;
 		
@@ -56,4 +66,25 @@ public class RayOptics {
 		optics.theta_h2 = -(alpha + theta_2);
 		return optics;
 	}
+	
+	
+	/** Compute only the ray distance, as compute does, without building a RayOpticsData
+	 * 
+	 * @param psi	Reflection angle	(rad)
+	 * @return d	(km)
+	 */
+	public static double computeDistance(double psi, Path path, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht) {
+		P528Environment env = path.env;
+		
+		double z = (env.A_0/env.A_E) - 1.0;		// (Eq. 62)
+		double k_a = 1.0/(1.0+z*Math.cos(psi));
+		double a_a = env.A_0*k_a;
+		
+		double H1 = path.input.h_r1 - lt.delta_h*(a_a - env.A_0)/(env.A_E-env.A_0);
+		double H2 = path.input.h_r2 - ht.delta_h*(a_a - env.A_0)/(env.A_E-env.A_0);
+		
+		double theta_1 = Math.acos(a_a*Math.cos(psi)/(a_a + H1)) - psi;
+		double theta_2 = Math.acos(a_a*Math.cos(psi)/(a_a + H2)) - psi;
+		return Math.max(a_a*(theta_1+theta_2), 0.0);
+	}
 }
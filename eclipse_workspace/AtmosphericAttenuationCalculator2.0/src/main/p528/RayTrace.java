@@ -29,16 +29,23 @@ public class RayTrace {
 	 * 
 	 * @param h_r Real terminal height above ground (km)
 	 */
-	public static RayTraceData compute(double h_r) {
+	public static RayTraceData compute(double h_r) { return compute(h_r, P528Environment.DEFAULT); }
+	
+	/** Compute the arc length to smooth Earth horizon and incident angle of the grazing ray at terminal
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 * @param env Environment supplying N_S and A_0
+	 */
+	public static RayTraceData compute(double h_r, P528Environment env) {
 		
 		if(h_r == 0.0) return new RayTraceData(0.0, 0.0);
 
 		// <<Step 1>> Compute the scale factor
-		double deltaN = -7.32 * Math.exp(0.005577*Constants.N_S);
+		double deltaN = -7.32 * Math.exp(0.005577*env.N_S);
 		
 		
 		// <<Step 2>>
-		double C_e = Math.log(Constants.N_S/(Constants.N_S+deltaN));
+		double C_e = Math.log(env.N_S/(env.N_S+deltaN));
 		
 		
 		// <<Step 3>> Ray trace through the atmosphere
@@ -47,18 +54,18 @@ public class RayTrace {
 		double theta_high = theta_low;
 		
 		double r_high, N_high, n_high;
-		double r_low = Constants.A_0 + atmos_layers[0];
-		double N_low = Constants.N_S;// * Math.exp(-C_e*atmos_layers[i]);
+		double r_low = env.A_0 + atmos_layers[0];
+		double N_low = env.N_S;// * Math.exp(-C_e*atmos_layers[i]);
 		double n_low = 1.0 + (N_low*1.0e-6);
 		double tau = 0.0;	// atmospheric bending per layer	(rad)
 
 		while(atmos_layers[i] < h_r && i < atmos_layers.length-1) {
 			if(atmos_layers[i+1] > h_r) {
-				r_high = Constants.A_0 + h_r;
-				N_high = Constants.N_S * Math.exp(-C_e*h_r);				
+				r_high = env.A_0 + h_r;
+				N_high = env.N_S * Math.exp(-C_e*h_r);				
 			} else {
-				r_high = Constants.A_0 + atmos_layers[i+1];
-				N_high = Constants.N_S * Math.exp(-C_e*atmos_layers[i+1]);
+				r_high = env.A_0 + atmos_layers[i+1];
+				N_high = env.N_S * Math.exp(-C_e*atmos_layers[i+1]);
 			}
 			n_high = 1.0 + (N_high*1.0e-6);	
 
@@ -79,10 +86,10 @@ public class RayTrace {
 		// <<Step 4>> Handle ray leaving atmosphere if applicable
 		if(h_r > 475) {
 			// Account for final incident angle
-			theta_high = Math.acos(((Constants.A_0+475.0)*n_low)/(Constants.A_0+h_r)*Math.cos(theta_low));
+			theta_high = Math.acos(((env.A_0+475.0)*n_low)/(env.A_0+h_r)*Math.cos(theta_low));
 			
 			// Account for final bending angle
-			double A = Math.log(1/n_low)/Math.log(Constants.A_0+h_r/Constants.A_0+475.0);
+			double A = Math.log(1/n_low)/Math.log(env.A_0+h_r/env.A_0+475.0);
 			tau += (theta_high - theta_low) * -A/(A+1.0);
 		}
 		
@@ -96,7 +103,7 @@ public class RayTrace {
 		
 		
 		// <<Step 7>> Compute arc distance
-		double d_r = (theta_r + tau)*Constants.A_0;
+		double d_r = (theta_r + tau)*env.A_0;
 		RayTraceData output = new RayTraceData(d_r, theta_r);
 		
 		return output;
@@ -108,7 +115,15 @@ public class RayTrace {
 	 * @param h_r Real terminal height above ground (km)
 	 * @param N_s Surface refractivity of Earth		(N-Units)
 	 */
-	public static RayTraceData compute(double h_r, double N_s) {
+	public static RayTraceData compute(double h_r, double N_s) { return compute(h_r, N_s, Constants.A_0); }
+	
+	/** Compute the arc length to smooth Earth horizon and incident angle of the grazing ray at terminal
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 * @param N_s Surface refractivity of Earth		(N-Units)
+	 * @param a_0 Actual Earth radius				(km)
+	 */
+	public static RayTraceData compute(double h_r, double N_s, double a_0) {
 		double deltaN = -7.32 * Math.exp(0.005577*N_s);
 		double C_e = Math.log(N_s/(N_s+deltaN));
 		
@@ -120,15 +135,15 @@ public class RayTrace {
 		double[] tau = new double[24];	// atmospheric bending per layer	(rad)
 		
 		while(atmos_layers[i] < h_r && i < atmos_layers.length-1) {
-			r_low = Constants.A_0 + atmos_layers[i];
+			r_low = a_0 + atmos_layers[i];
 			N_low = N_s * Math.exp(-1*C_e*atmos_layers[i]);
 			n_low = 1.0 + (N_low*Math.pow(10.0, -6));
 			
 			if(h_r > atmos_layers[i+1]) {
-				r_high = Constants.A_0 + atmos_layers[i+1];
+				r_high = a_0 + atmos_layers[i+1];
 				N_high = N_s * Math.exp(-C_e*atmos_layers[i+1]);
 			} else {
-				r_high = Constants.A_0 + h_r;
+				r_high = a_0 + h_r;
 				N_high = N_s * Math.exp(-C_e*h_r);
 			}
 			n_high = 1.0 + (N_high*Math.pow(10.0, -6));	
@@ -143,14 +158,14 @@ public class RayTrace {
 		}
 		
 		if(h_r > atmos_layers[atmos_layers.length-1]) {
-			theta_high = Math.acos(((Constants.A_0+475.0)*n_low)/(Constants.A_0+h_r)*Math.cos(theta_low));
+			theta_high = Math.acos(((a_0+475.0)*n_low)/(a_0+h_r)*Math.cos(theta_low));
 		}
 		
 		double tau_sum = 0.0;
 		for(int j=0; j<i; ++j) tau_sum += tau[i];
 		
 		double theta_r = theta_high;
-		double d_r = (theta_r + tau_sum)*Constants.A_0;
+		double d_r = (theta_r + tau_sum)*a_0;
 		RayTraceData output = new RayTraceData(d_r, theta_r);
 		
 		return output;
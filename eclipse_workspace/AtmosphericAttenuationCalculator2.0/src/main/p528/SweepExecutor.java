@@ -0,0 +1,235 @@
+package main.p528;
+
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+/** Parallel evaluation of Rec. ITU-R P.528-4 over a grid of (h1, h2, f, d, q)
+ *
+ * The grid is split by row, where a row is one (h1, h2, f, d) evaluated for every q in a single pass.
+ * Splits fall on distance sweeps where possible, so each worker keeps its terminal geometry between rows.
+ * Results are delivered to the sink in grid order (q fastest, then d, f, h2, h1) from one thread at a time.
+ *
+ * @author Collin Thornton
+ * @note After cancel() the sink receives no further points, so the delivered points are always a prefix of the grid
+ */
+public class SweepExecutor {
+	/** Receives each grid point in order */
+	public interface Sink {
+		/**
+		 * @param index	Position of the point in grid order
+		 * @param A		Basic transmission loss, or -999 beyond line-of-sight (dB)
+		 */
+		void accept(long index, double h1, double h2, double f, double q, double d, double A);
+	}
+
+	/** Receives the number of points delivered to the sink */
+	public interface Progress {
+		void update(long done, long total);
+	}
+
+	/** Axes of a sweep. Values are used as given, in any order
+	 */
+	public static class Grid {
+		final double[] h1, h2, f, d, q;
+
+		/**
+		 * @param h1	Heights of terminal 1 	(km)
+		 * @param h2	Heights of terminal 2 	(km)
+		 * @param f		Frequencies				(GHz)
+		 * @param d		Distances				(km)
+		 * @param q		Time percentages		(0.01-0.99)
+		 */
+		public Grid(double[] h1, double[] h2, double[] f, double[] d, double[] q) {
+			if(h1.length == 0 || h2.length == 0 || f.length == 0 || d.length == 0 || q.length == 0)
+				throw new IllegalArgumentException("Sweep axes must not be empty");
+			this.h1 = h1.clone();
+			this.h2 = h2.clone();
+			this.f = f.clone();
+			this.d = d.clone();
+			this.q = q.clone();
+		}
+
+		/** Number of (h1, h2, f, d) rows */
+		public long rows() { return (long)h1.length*h2.length*f.length*d.length; }
+
+		/** Number of grid points */
+		public long size() { return rows()*q.length; }
+	}
+
+	/** Smallest number of rows handed to one task */
+	public static final int MIN_CHUNK = 16;
+
+	private final ForkJoinPool pool;
+	private final P528Environment env;
+	private long progress_interval = 1024;
+	private volatile boolean cancelled;
+
+
+	public SweepExecutor() { this(ForkJoinPool.commonPool(), P528Environment.DEFAULT); }
+
+	public SweepExecutor(ForkJoinPool pool, P528Environment env) {
+		this.pool = pool;
+		this.env = env;
+	}
+
+
+	/** Evaluate every point of the grid and deliver it to the sink
+	 *
+	 * @param grid		Sweep axes
+	 * @param sink		Receives the points in grid order
+	 * @param progress	Receives the number of delivered points, or null
+	 * @return false if the sweep was cancelled before completing
+	 * @note Blocks until the sweep completes or is cancelled. Exceptions thrown by the sink or the model are rethrown.
+	 * 		A cancel() issued before run() cancels this run, which then delivers nothing. The flag is cleared when the run ends
+	 */
+	public boolean run(Grid grid, Sink sink, Progress progress) {
+		final long total = grid.size();
+		final long[] delivered = { 0 };
+
+		Consumer<Row> emit = row -> {
+			long before = delivered[0];
+			for(int i_q=0; i_q<grid.q.length && !cancelled; ++i_q) {
+				sink.accept(row.index*grid.q.length + i_q, row.h1, row.h2, row.f, grid.q[i_q], row.d, row.A[i_q]);
+
+				// forEachOrdered serializes delivery, so the count needs no synchronization
+				++delivered[0];
+			}
+			if(progress != null && (delivered[0]/progress_interval != before/progress_interval || delivered[0] == total))
+				progress.update(delivered[0], total);
+		};
+
+		// Parallel streams run in the pool of the task that starts them
+		ForkJoinTask<?> task = pool.submit(() -> StreamSupport.stream(new RowSpliterator(grid, 0, grid.rows()), true)
+				.map(row -> evaluate(grid, row))
+				.forEachOrdered(emit));
+
+		boolean completed = false;
+		try {
+			task.get();
+			completed = !cancelled;
+		} catch(InterruptedException e) {
+			// Stop the workers before the flag is cleared, so none of them outlives the run
+			cancelled = true;
+			task.quietlyJoin();
+			Thread.currentThread().interrupt();
+		} catch(ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			cancelled = false;
+		}
+		return completed;
+	}
+
+	/** Stop the running sweep, or the next one if none is running. Safe to call from any thread, including the sink
+	 */
+	public void cancel() { cancelled = true; }
+
+	/** Whether a cancel is pending for the running or next sweep */
+	public boolean isCancelled() { return cancelled; }
+
+	/** Number of points between progress updates */
+	public void setProgressInterval(long points) {
+		if(points <= 0) throw new IllegalArgumentException("Progress interval must be positive");
+		progress_interval = points;
+	}
+
+
+	private Row evaluate(Grid grid, Row row) {
+		if(cancelled) return row;
+
+		row.A = new double[grid.q.length];
+		double h_low = Math.min(row.h1, row.h2), h_high = Math.max(row.h1, row.h2);
+		AtmosphericAttenuationCalculator.compute(P528Context.local(), env, row.f, h_low, h_high, grid.q, row.d, row.A);
+		return row;
+	}
+
+
+	private static class Row {
+		final long index;
+		final double h1, h2, f, d;
+		double[] A;
+
+		Row(long index, double h1, double h2, double f, double d) {
+			this.index = index;
+			this.h1 = h1;
+			this.h2 = h2;
+			this.f = f;
+			this.d = d;
+		}
+	}
+
+
+	/** Splits a range of rows into halves, aligned to whole distance sweeps when the range spans more than one
+	 */
+	private final class RowSpliterator implements Spliterator<Row> {
+		private final Grid grid;
+		private long next;
+		private final long end;
+
+		RowSpliterator(Grid grid, long begin, long end) {
+			this.grid = grid;
+			this.next = begin;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Row> action) {
+			if(next >= end || cancelled) return false;
+
+			long row = next++;
+			int n_d = grid.d.length, n_f = grid.f.length, n_h2 = grid.h2.length;
+			int i_d = (int)(row % n_d);
+			int i_f = (int)((row / n_d) % n_f);
+			int i_h2 = (int)((row / ((long)n_d*n_f)) % n_h2);
+			int i_h1 = (int)(row / ((long)n_d*n_f*n_h2));
+
+			action.accept(new Row(row, grid.h1[i_h1], grid.h2[i_h2], grid.f[i_f], grid.d[i_d]));
+			return true;
+		}
+
+		@Override
+		public Spliterator<Row> trySplit() {
+			long remaining = end - next;
+			if(remaining < 2*MIN_CHUNK) return null;
+
+			long mid = next + remaining/2;
+			long n_d = grid.d.length;
+			if(remaining > 2*n_d) {
+				long aligned = mid - (mid % n_d);
+				if(aligned > next) mid = aligned;
+			}
+
+			RowSpliterator prefix = new RowSpliterator(grid, next, mid);
+			next = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() { return end - next; }
+
+		// Not SIZED: cancel ends the traversal early
+		@Override
+		public int characteristics() { return ORDERED | NONNULL | IMMUTABLE; }
+	}
+
+
+	public static void main(String[] args) {
+		double[] f = new double[995];
+		for(int i=0; i<f.length; ++i) f[i] = 0.1 + 0.02*i;
+
+		Grid grid = new Grid(new double[] { 0.300 }, new double[] { 0.500 }, f, new double[] { 1.0 }, new double[] { 0.99 });
+		SweepExecutor sweep = new SweepExecutor();
+		sweep.setProgressInterval(250);
+
+		long begin_time = System.currentTimeMillis();
+		sweep.run(grid,
+				(index, h1, h2, f_i, q, d, A) -> System.out.format("%4.3f\t%9.6f%n", f_i, A),
+				(done, total) -> System.err.println(done + "/" + total));
+		System.out.println("Sweep time: " + (System.currentTimeMillis() - begin_time) + " ms.");
+	}
+}
@@ -6,7 +6,7 @@ package main.p528;
  *
  */
 public class TerminalGeometry {
-	public class Geom {
+	public static class Geom {
 		public final double d;			// arc length to Earth 								(km)
 		public final double theta;		// incident angle from terminal to Earth horizon 	(rad)
 		public final double h;			// adjusted height of terminal above MSL			(km)
@@ -22,30 +22,39 @@ public class TerminalGeometry {
 	
 	public Geom geom;
 	
-	TerminalGeometry(double h_r) { compute(h_r); }
+	TerminalGeometry(double h_r) { compute(h_r, P528Environment.DEFAULT); }
 	
+	TerminalGeometry(double h_r, P528Environment env) { compute(h_r, env); }
+	
+	
+	/** Compute arc length to Earth, incident angle from terminal to Earth, and adjust height of terminal above MSL
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 */
+	public void compute(double h_r) { compute(h_r, P528Environment.DEFAULT); }
 	
 	/** Compute arc length to Earth, incident angle from terminal to Earth, and adjust height of terminal above MSL
 	 * 
 	 * @param h_r Real terminal height above ground (km)
+	 * @param env Environment supplying N_S, A_0 and A_E
 	 */
-	public void compute(double h_r) {
+	public void compute(double h_r, P528Environment env) {
 		double d, theta, h, delta_h;
 		
 		
 		// <<Step 1>> Utilize ray tracing to compute arc distance and incident angle
-		RayTrace.RayTraceData trace = RayTrace.compute(h_r);
+		RayTrace.RayTraceData trace = RayTrace.compute(h_r, env);
 		
 		double d_r = trace.d_r;
 		double theta_r = trace.theta_r;
 		
 		
 		// <<Step 2>> Compute effective height
-		double phi = d_r/Constants.A_E;
+		double phi = d_r/env.A_E;
 		double h_e;
 		
-		if(phi <= 0.1) h_e = d_r*d_r/(2.0*Constants.A_E);
-		else h_e = Constants.A_E/Math.cos(phi) - Constants.A_E;
+		if(phi <= 0.1) h_e = d_r*d_r/(2.0*env.A_E);
+		else h_e = env.A_E/Math.cos(phi) - env.A_E;
 		
 		
 		// <<Step 3>> Account for overestimation
@@ -55,7 +64,7 @@ public class TerminalGeometry {
 		}
 		else {
 			h = h_r;
-			d = Math.sqrt(2.0*Constants.A_E*h_r);
+			d = Math.sqrt(2.0*env.A_E*h_r);
 		}
 		theta = theta_r;
 		
@@ -66,8 +75,8 @@ public class TerminalGeometry {
 		
 		// <<Step 5>> Perform corrections if necessary
 		if(delta_h <= 0.0) {
-			theta = Math.sqrt(2.0*h_r/Constants.A_E);
-			d = Math.sqrt(2.0*h_r*Constants.A_E);
+			theta = Math.sqrt(2.0*h_r/env.A_E);
+			d = Math.sqrt(2.0*h_r*env.A_E);
 		}
 		
 		geom = new Geom(d, theta, h, delta_h);
@@ -0,0 +1,143 @@
+package main.p528;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import main.util.ResultCache;
+
+/** Thread-safe, bounded memo of terminal geometry and ray traces keyed by terminal height, surface refractivity and environment
+ * 
+ * @author Collin Thornton
+ * @note Terminal heights come from a small set (masts, flight levels), so each trace is computed once and shared
+ */
+public class TerminalGeometryCache {
+	private TerminalGeometryCache() { }
+	
+	/** Maximum number of entries held by each table */
+	public static final int MAX_ENTRIES = 4096;
+	
+	private static final class Key {
+		final double h_r, N_s;
+		final P528Environment env;
+		
+		Key(double h_r, double N_s, P528Environment env) {
+			this.h_r = h_r;
+			this.N_s = N_s;
+			this.env = env;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Key)) return false;
+			Key k = (Key)o;
+			return Double.doubleToLongBits(h_r) == Double.doubleToLongBits(k.h_r) && Double.doubleToLongBits(N_s) == Double.doubleToLongBits(k.N_s) && env.equals(k.env);
+		}
+		
+		@Override
+		public int hashCode() {
+			long bits = 31*Double.doubleToLongBits(h_r) + Double.doubleToLongBits(N_s);
+			return 31*(int)(bits ^ (bits >>> 32)) + env.hashCode();
+		}
+	}
+	
+	private static final ConcurrentHashMap<Key, TerminalGeometry.Geom> geometries = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<Key, RayTrace.RayTraceData> traces = new ConcurrentHashMap<>();
+	
+	/** Version of the geometries and traces in a ResultCache. Bump it whenever they change */
+	public static final int CACHE_VERSION = 1;
+	
+	// Persistent cache behind both tables, null when nothing is persisted
+	private static volatile ResultCache persistent;
+	
+	
+	/** Terminal geometry (Annex II Section IV) in the default environment
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 */
+	public static TerminalGeometry.Geom geometry(double h_r) { return geometry(h_r, P528Environment.DEFAULT); }
+	
+	/** Terminal geometry (Annex II Section IV)
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 * @param env Environment of the evaluation
+	 */
+	public static TerminalGeometry.Geom geometry(double h_r, P528Environment env) {
+		return lookup(geometries, new Key(h_r, env.N_S, env), k -> persistedGeometry(k.h_r, k.env));
+	}
+	
+	/** Back the geometry and trace tables with a persistent cache, so they survive restarts
+	 * 
+	 * @param cache Persistent cache, or null to stop persisting
+	 */
+	public static void persist(ResultCache cache) {
+		persistent = cache;
+	}
+	
+	/** Ray trace (Annex II Section V) with an explicit surface refractivity in the default environment
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 * @param N_s Surface refractivity of Earth		(N-Units)
+	 */
+	public static RayTrace.RayTraceData trace(double h_r, double N_s) { return trace(h_r, N_s, P528Environment.DEFAULT); }
+	
+	/** Ray trace (Annex II Section V) with an explicit surface refractivity
+	 * 
+	 * @param h_r Real terminal height above ground (km)
+	 * @param N_s Surface refractivity of Earth		(N-Units)
+	 * @param env Environment supplying the Earth radius
+	 */
+	public static RayTrace.RayTraceData trace(double h_r, double N_s, P528Environment env) {
+		return lookup(traces, new Key(h_r, N_s, env), k -> persistedTrace(k.h_r, k.N_s, k.env));
+	}
+	
+	/** Drop all memoized values
+	 */
+	public static void clear() {
+		geometries.clear();
+		traces.clear();
+	}
+	
+	public static int size() { return geometries.size() + traces.size(); }
+	
+	
+	private static TerminalGeometry.Geom persistedGeometry(double h_r, P528Environment env) {
+		ResultCache cache = persistent;
+		if(cache == null) return new TerminalGeometry(h_r, env).geom;
+		
+		long namespace = ResultCache.namespace("p528.geometry", CACHE_VERSION, "", env.parameters());
+		double[] key = { h_r };
+		double[] value = new double[ResultCache.MAX_VALUES];
+		if(cache.get(namespace, key, value) == 4) return new TerminalGeometry.Geom(value[0], value[1], value[2], value[3]);
+		
+		TerminalGeometry.Geom geom = new TerminalGeometry(h_r, env).geom;
+		cache.put(namespace, key, new double[] { geom.d, geom.theta, geom.h, geom.delta_h });
+		return geom;
+	}
+	
+	private static RayTrace.RayTraceData persistedTrace(double h_r, double N_s, P528Environment env) {
+		ResultCache cache = persistent;
+		if(cache == null) return RayTrace.compute(h_r, N_s, env.A_0);
+		
+		long namespace = ResultCache.namespace("p528.trace", CACHE_VERSION, "", env.parameters());
+		double[] key = { h_r, N_s };
+		double[] value = new double[ResultCache.MAX_VALUES];
+		if(cache.get(namespace, key, value) == 2) return new RayTrace.RayTraceData(value[0], value[1]);
+		
+		RayTrace.RayTraceData trace = RayTrace.compute(h_r, N_s, env.A_0);
+		cache.put(namespace, key, new double[] { trace.d_r, trace.theta_r });
+		return trace;
+	}
+	
+	private static <V> V lookup(ConcurrentHashMap<Key, V> map, Key key, Function<Key, V> compute) {
+		V value = map.get(key);
+		if(value != null) return value;
+		
+		// Evict an arbitrary entry to stay bounded. Heights are few, so this is rarely reached
+		if(map.size() >= MAX_ENTRIES) {
+			Iterator<Key> it = map.keySet().iterator();
+			if(it.hasNext()) map.remove(it.next());
+		}
+		return map.computeIfAbsent(key, compute);
+	}
+}
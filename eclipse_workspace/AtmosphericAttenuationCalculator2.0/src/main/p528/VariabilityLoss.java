@@ -1,5 +1,7 @@
 package main.p528;
 
+import main.util.Interpolation;
+
 public class VariabilityLoss {
 	private static final double[][] table7 = {
 			{ 0.1440, -40.0 },
@@ -20,8 +22,42 @@ public class VariabilityLoss {
 			{ 18.3361,  6.0 },
 			{ 18.3864, 20.0 }
 	};
+	private static final double[] table7_Y = Interpolation.column(table7, 0);
+	private static final double[] table7_K = Interpolation.column(table7, 1);
+	
+	/** Percentile-independent terms of the variability loss
+	 */
+	public static class Terms extends LongTermVariability.Terms {
+		double Y_e_05;			// Long term variability at q = 0.50 	(dB)
+		double K_LOS;			// K-value of the tropospheric multipath 	(dB)
+	}
+	
 	
 	public static double compute(double A_T, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, RayOptics.RayOpticsData optics, double r_ew) {
+		return compute(A_T, lt, ht, path, optics, r_ew, new Terms());
+	}
+	
+	public static double compute(double A_T, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, RayOptics.RayOpticsData optics, double r_ew, Terms terms) {
+		prepare(A_T, lt, ht, path, optics, r_ew, terms);
+		return compute(terms, path.input.q);
+	}
+	
+	/** Compute the variability loss at several time percentages from one set of percentile-independent terms
+	 * 
+	 * @param q		Time percentages		(0.01-0.99)
+	 * @param Y		Receives the variability loss for each q	(dB)
+	 * @param terms Scratch for the percentile-independent terms
+	 */
+	public static void compute(double A_T, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, RayOptics.RayOpticsData optics, double r_ew, 
+			double[] q, double[] Y, Terms terms) {
+		prepare(A_T, lt, ht, path, optics, r_ew, terms);
+		for(int i=0; i<q.length; ++i) Y[i] = compute(terms, q[i]);
+	}
+	
+	
+	/** Compute every term of the variability loss that does not depend on the time percentage (Steps 1, 3-4)
+	 */
+	private static void prepare(double A_T, TerminalGeometry.Geom lt, TerminalGeometry.Geom ht, Path path, RayOptics.RayOpticsData optics, double r_ew, Terms terms) {
 		
 		// <<Step 1>> Compute input value from ray optics
 		double f_theta_h;
@@ -30,20 +66,17 @@ public class VariabilityLoss {
 		else 	f_theta_h = Math.max(0.5 - 0.3183*Math.atan(20.0*Math.log10(32.0*optics.theta_h1)), 0.0);
 		
 		
-		// <<Step 2>> Compute contribution of long term variability for time percentage Y_pi_99
-		double Y_e_q = LongTermVariability.compute(lt, ht, path, path.input.q, f_theta_h, A_T);
-		
-		
 		// <<Step 3>> Compute long term variability for time percentage Y_pi_99 = 0.5
-		double Y_e_05 = LongTermVariability.compute(lt, ht, path, 0.5, f_theta_h, A_T);
+		LongTermVariability.prepare(lt, ht, path, f_theta_h, A_T, terms);
+		terms.Y_e_05 = LongTermVariability.compute(terms, 0.5);
 		
 		
 		// <<Step 4>> Compute parameter of effects of tropospheric multipath
 		double F_A_Y, F_delta_r;
 		double lambda = 0.2997925/path.input.f;
-		if(path.atten.A_Y <= 0.0) F_A_Y = 1.0;
-		else if(path.atten.A_Y >= 9.0) F_A_Y = 0.1;
-		else F_A_Y = (1.1 + 0.9*Math.cos(path.atten.A_Y*Math.PI/9.0))/2.0;
+		if(terms.A_Y <= 0.0) F_A_Y = 1.0;
+		else if(terms.A_Y >= 9.0) F_A_Y = 0.1;
+		else F_A_Y = (1.1 + 0.9*Math.cos(terms.A_Y*Math.PI/9.0))/2.0;
 		
 		if(optics.deltar >= lambda/2.0) F_delta_r = 1.0;
 		else if(optics.deltar >= lambda/6.0) F_delta_r = 0.1;
@@ -56,14 +89,7 @@ public class VariabilityLoss {
 		else {
 			double Y_pi_99 = 10.0 * Math.log10(path.input.f*r_ew*r_ew*r_ew) - 84.26;
 			
-			double K = table7[16][1];
-			if(Y_pi_99 < table7[0][0]) K = table7[0][1];
-			else {
-				int i=1;
-				while(i < 16 && Y_pi_99 > table7[i][0]) ++i;
-				if(Y_pi_99 == table7[i][0]) 		K = table7[i][1];
-				else if(Y_pi_99 < table7[i][0]) 	K = ((table7[i][1]-table7[i-1][1])*(Y_pi_99-table7[i-1][0]))/(table7[i][0]-table7[i-1][0]) + table7[i-1][1];
-			}
+			double K = Interpolation.linear(table7_Y, table7_K, Y_pi_99);
 			
 			W_a = Math.pow(10.0, 0.1*K);
 		}
@@ -74,11 +100,21 @@ public class VariabilityLoss {
 		
 		if(W <= 0.0) 	K_LOS = -40.0;
 		else		K_LOS = 10.0*Math.log10(W);
-		K_LOS = Math.max(K_LOS, -40.0);
+		terms.K_LOS = Math.max(K_LOS, -40.0);
+	}
+	
+	
+	/** Compute the variability loss at time percentage q (Steps 2, 5-6)
+	 */
+	private static double compute(Terms terms, double q) {
+		
+		// <<Step 2>> Compute contribution of long term variability for time percentage Y_pi_99
+		double Y_e_q = LongTermVariability.compute(terms, q);
+		double Y_e_05 = terms.Y_e_05;
 		
 		
 		// <<Step 5>> Compute contribution of tropospheric multipath
-		double Y_pi = NakagamiRice.compute(K_LOS, path.input.q);
+		double Y_pi = NakagamiRice.compute(terms.K_LOS, q);
 		
 		
 		// <<Step 6>> Sum the effects to get total variability contribution
@@ -86,8 +122,8 @@ public class VariabilityLoss {
 		double Y = Math.sqrt((Y_e_q-Y_e_05)*(Y_e_q-Y_e_05) + Y_pi*Y_pi);
 		double Y_total;
 		
-		if(path.input.q < 0.50) 	Y_total = Y_total_05 + Y;
-		else				Y_total = Y_total_05 - Y;
+		if(q < 0.50) 	Y_total = Y_total_05 + Y;
+		else			Y_total = Y_total_05 - Y;
 		return Y_total;
 	}
 	
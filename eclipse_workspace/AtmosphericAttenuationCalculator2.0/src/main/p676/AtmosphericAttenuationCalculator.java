@@ -1,20 +1,78 @@
 package main.p676;
 
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.commons.math3.util.FastMath;
 
+/** Simplified Rec. ITU-R P.676 slant-path attenuation for fast screening
+ * 
+ * Instances are immutable per surface condition. The four frequency-dependent coefficients (oxygen and water vapour specific
+ * attenuation and equivalent heights) are computed once per frequency and memoized, so repeated evaluations only pay for the
+ * path geometry.
+ * 
+ * @note DEFAULT holds the original 60 F, 7.5 g/m^3 conditions used by the static methods
+ */
 public class AtmosphericAttenuationCalculator {
 
-		private static final double tempF = 60;
-		private static final double t = (5.0 / 9.0) * (tempF - 32);
-		private static final double w = 7.5;
-		private static final double p = 1013.25 + w * (t + 273.15) / 216.7;
-		private static final double r_p = p / 1013.25;
-		private static final double r_t = 288 / (273 + t);
-		private static final double z_1 = getZ1();
-		private static final double z_2 = getZ2();
-		private static final double z_3 = getZ3();
-		private static final double n_1 = getN1();
-		private static final double n_2 = getN2();
+		/** 60 F surface temperature, 7.5 g/m^3 water vapour density */
+		public static final AtmosphericAttenuationCalculator DEFAULT = new AtmosphericAttenuationCalculator(60, 7.5);
+		
+		/** Maximum number of frequencies memoized by each instance */
+		public static final int MAX_ENTRIES = 1024;
+		
+		/** Frequency-dependent coefficients of one surface condition */
+		public static final class Coefficients {
+			public final double f;
+			/** Specific attenuation of oxygen and water vapour (dB/km) */
+			public final double a_o, a_w;
+			/** Equivalent heights of oxygen and water vapour (km) */
+			public final double h_o, h_w;
+			
+			Coefficients(double f, double a_o, double h_o, double a_w, double h_w) {
+				this.f = f;
+				this.a_o = a_o;
+				this.h_o = h_o;
+				this.a_w = a_w;
+				this.h_w = h_w;
+			}
+		}
+		
+		private final double tempF;
+		private final double t;
+		private final double w;
+		private final double p;
+		private final double r_p;
+		private final double r_t;
+		private final double z_1;
+		private final double z_2;
+		private final double z_3;
+		private final double n_1;
+		private final double n_2;
+		
+		private final ConcurrentHashMap<Double, Coefficients> coefficients = new ConcurrentHashMap<>();
+		// Most recent frequency, checked before the map since sweeps usually hold f fixed
+		private volatile Coefficients last;
+		
+		
+		/**
+		 * @param tempF Surface temperature (F)
+		 * @param w Surface water vapour density (g/m^3)
+		 */
+		public AtmosphericAttenuationCalculator(double tempF, double w) {
+			if(!(w >= 0.0)) throw new IllegalArgumentException("Water vapour density must be non-negative");
+			this.tempF = tempF;
+			this.t = (5.0 / 9.0) * (tempF - 32);
+			this.w = w;
+			this.p = 1013.25 + w * (t + 273.15) / 216.7;
+			this.r_p = p / 1013.25;
+			this.r_t = 288 / (273 + t);
+			this.z_1 = getZ1();
+			this.z_2 = getZ2();
+			this.z_3 = getZ3();
+			this.n_1 = getN1();
+			this.n_2 = getN2();
+		}
 		
 		
 		public static void main(String[] args) {
@@ -37,11 +95,80 @@ public class AtmosphericAttenuationCalculator {
 			System.out.println(((double)sumTime / (double)i)/1.0e6);
 		}
 		
+		/** Two-way attenuation under the DEFAULT conditions
+		 * 
+		 * @param f Frequency (GHz)
+		 * @param angle Elevation angle (rad)
+		 * @param range_nmi Range (nmi)
+		 * @param altitude Target altitude (nmi)
+		 * @return 2-way attenuation (dB)
+		 */
 		public static double calcTotalAttenuation(double f, double angle, double range_nmi, double altitude) {
-			double a_o = calcOxygenAttenuation(f);
-			double h_o = calcOxygenH(f);
-			double a_w = calcWaterVaporAttenuation(f);
-			double h_w = calcWaterH(f);
+			return DEFAULT.totalAttenuation(f, angle, range_nmi, altitude);
+		}
+		
+		/** Two-way attenuation under this instance's conditions
+		 * 
+		 * @param f Frequency (GHz)
+		 * @param angle Elevation angle (rad)
+		 * @param range_nmi Range (nmi)
+		 * @param altitude Target altitude (nmi)
+		 * @return 2-way attenuation (dB)
+		 */
+		public double totalAttenuation(double f, double angle, double range_nmi, double altitude) {
+			return totalAttenuation(coefficients(f), angle, range_nmi, altitude);
+		}
+		
+		/** Two-way attenuation of many paths at one frequency
+		 * 
+		 * @param f Frequency (GHz)
+		 * @param angle Elevation angles (rad)
+		 * @param range_nmi Ranges (nmi)
+		 * @param altitude Target altitudes (nmi)
+		 * @param out Receives the 2-way attenuation of each path (dB)
+		 */
+		public void totalAttenuation(double f, double[] angle, double[] range_nmi, double[] altitude, double[] out) {
+			int n = out.length;
+			if(angle.length != n || range_nmi.length != n || altitude.length != n) throw new IllegalArgumentException("Path arrays must have the same length");
+			
+			Coefficients c = coefficients(f);
+			for(int i=0; i<n; ++i) out[i] = totalAttenuation(c, angle[i], range_nmi[i], altitude[i]);
+		}
+		
+		/** Frequency-dependent coefficients under this instance's conditions, memoized per frequency
+		 * 
+		 * @param f Frequency (GHz)
+		 */
+		public Coefficients coefficients(double f) {
+			Coefficients c = last;
+			if(c != null && Double.doubleToLongBits(c.f) == Double.doubleToLongBits(f)) return c;
+			
+			c = coefficients.get(f);
+			if(c == null) {
+				// Evict an arbitrary entry to stay bounded
+				if(coefficients.size() >= MAX_ENTRIES) {
+					Iterator<Double> it = coefficients.keySet().iterator();
+					if(it.hasNext()) coefficients.remove(it.next());
+				}
+				c = coefficients.computeIfAbsent(f, k -> new Coefficients(k, calcOxygenAttenuation(k), calcOxygenH(k), calcWaterVaporAttenuation(k), calcWaterH(k)));
+			}
+			last = c;
+			return c;
+		}
+		
+		/** Two-way attenuation from precomputed coefficients
+		 * 
+		 * @param c Coefficients of the frequency
+		 * @param angle Elevation angle (rad)
+		 * @param range_nmi Range (nmi)
+		 * @param altitude Target altitude (nmi)
+		 * @return 2-way attenuation (dB)
+		 */
+		public static double totalAttenuation(Coefficients c, double angle, double range_nmi, double altitude) {
+			double a_o = c.a_o;
+			double h_o = c.h_o;
+			double a_w = c.a_w;
+			double h_w = c.h_w;
 			
 			altitude = altitude * 1.852;
 			
@@ -58,6 +185,9 @@ public class AtmosphericAttenuationCalculator {
 			}
 		}
 		
+		public double getTemperature() 		{ return tempF; }
+		public double getVapourDensity() 	{ return w; }
+		
 		private static double calcForAltLT5(double h_ref, double phi_1, double h_2) {
 			double h_1 = 0;
 			
@@ -80,12 +210,12 @@ public class AtmosphericAttenuationCalculator {
 		private static double calcForAltGTE5(double h_ref, double height) {
 			return h_ref * (1 - FastMath.exp(-1*height/h_ref));
 		}
-		private static double calcOxygenAttenuation(double f) {
+		private double calcOxygenAttenuation(double f) {
 			double t1 = 7.2 * FastMath.pow(r_t,  2.8) / (f*f + 0.34 * r_p*r_p * FastMath.pow(r_t, 1.6));
 			double t2 = 0.62 * z_3 / (FastMath.pow((54-f), 1.6*z_1) + 0.83 * z_2);
 			return (t1+t2) * f* f * (r_p*r_p) * 1E-3;
 		}
-		private static double calcWaterVaporAttenuation(double f) {
+		private double calcWaterVaporAttenuation(double f) {
 			double t1 = m(f, 3.98, 2.23, 22.235, 9.42) * g(f, 22);
 			double t2 = m(f, 11.96, 0.7, 183.31, 11.14);
 			double t3 = m(f, 0.081, 6.44, 321.226, 6.29);
@@ -100,38 +230,38 @@ public class AtmosphericAttenuationCalculator {
 			return (t1 +t2 +t3 + t4 + t5 + t6 + t7 + t8 + t9) * f * f * FastMath.pow(r_t, 2.5) * w * 1E-4;
 		}
 		
-		private static double calcOxygenH(double f) {
+		private double calcOxygenH(double f) {
 			double t1 = 4.64 / (1+0.066*FastMath.pow(r_p, -2.3)) * FastMath.exp(-1*FastMath.pow((f-59.7)/(2.87+12.4 * FastMath.exp(-7.9*r_p)), 2));
 			double t2 = 0.14 * FastMath.exp(2.12 * r_p) / (FastMath.pow(f - 118.75,  2) + 0.031 * FastMath.exp(2.2*r_p));
 			double t3 = 0.0114 / (1+0.14*FastMath.pow(r_p, -2.6)) * f * (-0.0247 + 0.0001*f + 1.61E-6*f*f) / (1 - 0.0169*f + 4.1E-5*f*f + 3.2E-7*f*f*f);
 			return FastMath.min((6.1/(1 +0.17*FastMath.pow(r_p, -1.1))) * (1+t1+t2+t3), 10.7*FastMath.pow(r_p, 0.3));
 		}
-		private static double calcWaterH(double f) {
+		private double calcWaterH(double f) {
 			double sw = 1.013 / (1 + FastMath.exp(-8.6 * (r_p-0.57)));
 			double t1 = (1.39 * sw) / (FastMath.pow(f - 22.235, 2) + 2.56 * sw);
 			double t2 = (3.37 * sw) / (FastMath.pow(f - 183.31, 2) + 4.69 * sw);
 			double t3 = (1.58 * sw) / (FastMath.pow(f - 325.1, 2) + 2.89 * sw);
 			return 1.66 * (1 + t1 + t2 + t3);
 		}
-		private static double m(double f, double a, double b, double c, double d) {
+		private double m(double f, double a, double b, double c, double d) {
 			return a * n_1 * FastMath.exp(b*(1-r_t)) / (FastMath.pow(f - c, 2) + d*n_1*n_1);
 		}
-		private static double getN1() {
+		private double getN1() {
 			return 0.955 * r_p * FastMath.pow(r_t, 0.68) + 0.006 * w;
 		}
-		private static double getN2() {
+		private double getN2() {
 			return 0.735 * r_p * FastMath.pow(r_t, 0.5) + 0.0353 * FastMath.pow(r_t, 4) * w;
 		}
 		private static double g(double f, double f_i) {
 			return 1 + FastMath.pow((f - f_i)/(f+f_i), 2);
 		}
-		private static double getZ1() {
+		private double getZ1() {
 			return phi(r_p, r_t, 0.0717, -1.8132, 0.0156, -1.6515);
 		}
-		private static double getZ2() {
+		private double getZ2() {
 			return phi(r_p, r_t, 0.5146, -4.63868, -0.1921, -5.7416);
 		}
-		private static double getZ3() {
+		private double getZ3() {
 			return phi(r_p, r_t, 0.3414, -6.5851, 0.2130, -8.5854);
 		}
 		private static double phi(double r_p, double r_t, double a, double b, double c, double d) {
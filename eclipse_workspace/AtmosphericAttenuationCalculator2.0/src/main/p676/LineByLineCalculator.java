@@ -0,0 +1,378 @@
+package main.p676;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Line-by-line gaseous attenuation of Rec. ITU-R P.676-11 Annex 1 along refracted slant paths
+ *
+ * The atmosphere is the mean annual global reference of Rec. ITU-R P.835 split into the 922 exponentially thickening layers
+ * of Annex 1 Section 2.2 (0 - 100 km). Everything that depends only on the layer (line strengths, widths and interference
+ * terms of all 79 lines, refractive index) is computed once per instance. The specific attenuation of every layer is then
+ * memoized per frequency, and a Path holds the frequency-independent ray lengths per layer, so a slant path at a cached
+ * frequency is one dot product.
+ *
+ * @author Collin Thornton
+ * @note Elevation angles must be non-negative and the upper terminal must not be below the lower one
+ */
+public class LineByLineCalculator {
+	private static final int N_O2 = SpectralLines.O2_F.length;
+	private static final int N_H2O = SpectralLines.H2O_F.length;
+
+	/** Total pressure at the top of the P.835 layers (hPa) */
+	private static final double P_MESOPAUSE = 0.03956649*Math.pow(214.65/(214.65 - 2.0*(84.852 - 71.0)), -34.1632/2.0);
+
+	/** Reference atmosphere with 7.5 g/m^3 surface water vapour density */
+	public static final LineByLineCalculator DEFAULT = new LineByLineCalculator(7.5);
+
+	/** Maximum number of frequencies memoized by each instance */
+	public static final int MAX_ENTRIES = 1024;
+
+	/** Number of layers between 0 and 100 km (Annex 1 Section 2.2) */
+	public static final int LAYERS = 922;
+
+	/** Mean Earth radius (km) */
+	private static final double R_E = 6371.0;
+
+	/** Refracted ray lengths per layer of one geometry. Independent of frequency */
+	public static final class Path {
+		private final int first;
+		private final double[] length;		// km, per layer from first
+
+		private Path(int first, double[] length) {
+			this.first = first;
+			this.length = length;
+		}
+
+		/** Index of the first layer crossed */
+		public int getFirstLayer() 	{ return first; }
+		/** Number of layers crossed */
+		public int getLayerCount() 	{ return length.length; }
+		/** Total ray length (km) */
+		public double getLength() {
+			double sum = 0.0;
+			for(double a : length) sum += a;
+			return sum;
+		}
+	}
+
+	private final double rho_0;
+
+	// Layer boundaries, LAYERS+1 entries
+	private final double[] h_boundary;
+	// Refractive index per layer
+	private final double[] n_index;
+	// Line parameters per layer, row-major (layer*lines + line). Strengths are divided by the line frequency
+	private final double[] o2_S, o2_W, o2_D, h2o_S, h2o_W;
+	// Dry continuum terms per layer
+	private final double[] cont_d, cont_a, cont_b;
+
+	private static final class Profile {
+		final double f;
+		final double[] gamma;
+
+		Profile(double f, double[] gamma) {
+			this.f = f;
+			this.gamma = gamma;
+		}
+	}
+
+	private final ConcurrentHashMap<Double, double[]> profiles = new ConcurrentHashMap<>();
+	// Most recent frequency, checked before the map since sweeps usually hold f fixed
+	private volatile Profile last;
+
+
+	/**
+	 * @param rho_0 Surface water vapour density (g/m^3). Decays with a 2 km scale height (P.835)
+	 */
+	public LineByLineCalculator(double rho_0) {
+		if(!(rho_0 >= 0.0)) throw new IllegalArgumentException("Water vapour density must be non-negative");
+		this.rho_0 = rho_0;
+
+		h_boundary = new double[LAYERS+1];
+		for(int i=0; i<LAYERS; ++i) h_boundary[i+1] = h_boundary[i] + 0.0001*Math.exp(i/100.0);
+
+		n_index = new double[LAYERS];
+		o2_S = new double[LAYERS*N_O2];
+		o2_W = new double[LAYERS*N_O2];
+		o2_D = new double[LAYERS*N_O2];
+		h2o_S = new double[LAYERS*N_H2O];
+		h2o_W = new double[LAYERS*N_H2O];
+		cont_d = new double[LAYERS];
+		cont_a = new double[LAYERS];
+		cont_b = new double[LAYERS];
+
+		for(int k=0; k<LAYERS; ++k) {
+			double h = 0.5*(h_boundary[k] + h_boundary[k+1]);
+			double T = temperature(h);
+			double P = pressure(h);
+			double e = vapourPressure(h, T, P);
+			double p = P - e;
+
+			// Rec. ITU-R P.453 refractivity
+			n_index[k] = 1.0 + 1e-6*(77.6/T)*(P + 4810.0*e/T);
+			layerParameters(p, e, 300.0/T, k, o2_S, o2_W, o2_D, h2o_S, h2o_W, cont_d, cont_a, cont_b);
+		}
+	}
+
+
+//
+//	Specific attenuation (Annex 1 Section 1)
+//
+	/** Specific attenuation of oxygen and water vapour
+	 *
+	 * @param f Frequency (GHz), 1 - 1000
+	 * @param p Dry air pressure (hPa)
+	 * @param e Water vapour partial pressure (hPa)
+	 * @param T Temperature (K)
+	 * @return gamma (dB/km)
+	 */
+	public static double specificAttenuation(double f, double p, double e, double T) {
+		double[] o2_S = new double[N_O2], o2_W = new double[N_O2], o2_D = new double[N_O2];
+		double[] h2o_S = new double[N_H2O], h2o_W = new double[N_H2O];
+		double[] cont_d = new double[1], cont_a = new double[1], cont_b = new double[1];
+		layerParameters(p, e, 300.0/T, 0, o2_S, o2_W, o2_D, h2o_S, h2o_W, cont_d, cont_a, cont_b);
+		return gamma(f, o2_S, o2_W, o2_D, h2o_S, h2o_W, cont_d, cont_a, cont_b, 0);
+	}
+
+	/** Specific attenuation of every layer, memoized per frequency
+	 *
+	 * @param f Frequency (GHz), 1 - 1000
+	 * @return gamma per layer (dB/km). Shared, not copied
+	 */
+	public double[] specificAttenuationProfile(double f) {
+		if(!(f >= 1.0 && f <= 1000.0)) throw new IllegalArgumentException("Line-by-line frequency must be between 1 and 1000 GHz");
+
+		Profile recent = last;
+		if(recent != null && Double.doubleToLongBits(recent.f) == Double.doubleToLongBits(f)) return recent.gamma;
+
+		double[] profile = profiles.get(f);
+		if(profile == null) {
+			// Evict an arbitrary entry to stay bounded
+			if(profiles.size() >= MAX_ENTRIES) {
+				Iterator<Double> it = profiles.keySet().iterator();
+				if(it.hasNext()) profiles.remove(it.next());
+			}
+			profile = profiles.computeIfAbsent(f, this::computeProfile);
+		}
+		last = new Profile(f, profile);
+		return profile;
+	}
+
+	private double[] computeProfile(double f) {
+		double[] profile = new double[LAYERS];
+		for(int k=0; k<LAYERS; ++k) profile[k] = gamma(f, o2_S, o2_W, o2_D, h2o_S, h2o_W, cont_d, cont_a, cont_b, k);
+		return profile;
+	}
+
+	/** Line strengths, widths and interference terms of one layer
+	 */
+	private static void layerParameters(double p, double e, double theta, int k, double[] o2_S, double[] o2_W, double[] o2_D,
+			double[] h2o_S, double[] h2o_W, double[] cont_d, double[] cont_a, double[] cont_b) {
+		double theta_3 = theta*theta*theta;
+		double theta_08 = Math.pow(theta, 0.8);
+
+		for(int i=0, j=k*N_O2; i<N_O2; ++i, ++j) {
+			double S = SpectralLines.O2_A1[i]*1e-7*p*theta_3*Math.exp(SpectralLines.O2_A2[i]*(1.0-theta));
+			double W = SpectralLines.O2_A3[i]*1e-4*(p*Math.pow(theta, 0.8-SpectralLines.O2_A4[i]) + 1.1*e*theta);
+			// Zeeman splitting of oxygen lines
+			W = Math.sqrt(W*W + 2.25e-6);
+			o2_S[j] = S/SpectralLines.O2_F[i];
+			o2_W[j] = W;
+			o2_D[j] = (SpectralLines.O2_A5[i] + SpectralLines.O2_A6[i]*theta)*1e-4*(p+e)*theta_08;
+		}
+
+		double theta_35 = Math.pow(theta, 3.5);
+		for(int i=0, j=k*N_H2O; i<N_H2O; ++i, ++j) {
+			double f_i = SpectralLines.H2O_F[i];
+			double S = SpectralLines.H2O_B1[i]*1e-1*e*theta_35*Math.exp(SpectralLines.H2O_B2[i]*(1.0-theta));
+			double W = SpectralLines.H2O_B3[i]*1e-4*(p*Math.pow(theta, SpectralLines.H2O_B4[i]) + SpectralLines.H2O_B5[i]*e*Math.pow(theta, SpectralLines.H2O_B6[i]));
+			// Doppler broadening of water vapour lines
+			W = 0.535*W + Math.sqrt(0.217*W*W + 2.1316e-12*f_i*f_i/theta);
+			h2o_S[j] = S/f_i;
+			h2o_W[j] = W;
+		}
+
+		// Dry continuum: Debye spectrum of oxygen below 10 GHz and pressure-induced nitrogen absorption
+		cont_d[k] = 5.6e-4*(p+e)*theta_08;
+		cont_a[k] = p*theta*theta*6.14e-5;
+		cont_b[k] = p*theta*theta*1.4e-12*p*Math.pow(theta, 1.5);
+	}
+
+	/** gamma = 0.1820 f (N''_Ox + N''_WV) of layer k
+	 */
+	private static double gamma(double f, double[] o2_S, double[] o2_W, double[] o2_D, double[] h2o_S, double[] h2o_W,
+			double[] cont_d, double[] cont_a, double[] cont_b, int k) {
+		double N_ox = f*sumOxygen(f, o2_S, o2_W, o2_D, k*N_O2);
+		double N_wv = f*sumWaterVapour(f, h2o_S, h2o_W, k*N_H2O);
+
+		double d = cont_d[k], r = f/d;
+		N_ox += f*(cont_a[k]/(d*(1.0 + r*r)) + cont_b[k]/(1.0 + 1.9e-5*Math.pow(f, 1.5)));
+		return 0.1820*f*(N_ox + N_wv);
+	}
+
+	/** Sum of S_i F_i / f over the oxygen lines of one layer. Branch-free so the JIT can vectorize it
+	 */
+	private static double sumOxygen(double f, double[] S, double[] W, double[] D, int off) {
+		double[] F = SpectralLines.O2_F;
+		double sum = 0.0;
+		for(int i=0; i<N_O2; ++i) {
+			double w = W[off+i], w2 = w*w, d = D[off+i];
+			double below = F[i] - f, above = F[i] + f;
+			sum += S[off+i]*((w - d*below)/(below*below + w2) + (w - d*above)/(above*above + w2));
+		}
+		return sum;
+	}
+
+	/** Sum of S_i F_i / f over the water vapour lines of one layer (delta = 0)
+	 */
+	private static double sumWaterVapour(double f, double[] S, double[] W, int off) {
+		double[] F = SpectralLines.H2O_F;
+		double sum = 0.0;
+		for(int i=0; i<N_H2O; ++i) {
+			double w = W[off+i], w2 = w*w;
+			double below = F[i] - f, above = F[i] + f;
+			sum += S[off+i]*w*(1.0/(below*below + w2) + 1.0/(above*above + w2));
+		}
+		return sum;
+	}
+
+
+//
+//	Slant paths (Annex 1 Section 2.2)
+//
+	/** Trace a refracted ray through the layers
+	 *
+	 * @param h_1 Height of the lower terminal (km)
+	 * @param h_2 Height of the upper terminal (km). Clamped to 100 km
+	 * @param theta_0 Elevation angle at the lower terminal (rad)
+	 */
+	public Path path(double h_1, double h_2, double theta_0) {
+		if(!(h_1 >= 0.0)) throw new IllegalArgumentException("Terminal height must be non-negative");
+		if(!(h_2 >= h_1)) throw new IllegalArgumentException("Upper terminal must not be below the lower terminal");
+		if(!(theta_0 >= 0.0 && theta_0 <= Math.PI/2.0)) throw new IllegalArgumentException("Elevation angle must be between 0 and pi/2");
+
+		double top = h_boundary[LAYERS];
+		h_2 = Math.min(h_2, top);
+		if(h_1 >= h_2) return new Path(Math.min(layerOf(h_1), LAYERS-1), new double[0]);
+
+		int first = layerOf(h_1);
+		int last = layerOf(h_2 - 1e-12);
+		double[] length = new double[last - first + 1];
+
+		double r = R_E + h_1;
+		double h = h_1;
+		double sin_beta = Math.cos(theta_0);
+		for(int k=first; k<=last; ++k) {
+			double upper = Math.min(h_boundary[k+1], h_2);
+			double delta = upper - h;
+			double cos_beta = Math.sqrt(1.0 - sin_beta*sin_beta);
+
+			// Ray length in the layer
+			double a = -r*cos_beta + 0.5*Math.sqrt(4.0*r*r*cos_beta*cos_beta + 8.0*r*delta + 4.0*delta*delta);
+			length[k-first] = a;
+			if(k == last) break;
+
+			// Exit and next entry angles without inverse trigonometry: along the straight ray in the layer r sin(beta) is constant, so
+			// sin(alpha_n) = r_n sin(beta_n) / r_n+1, and Snell's law then gives sin(beta_n+1)
+			sin_beta = Math.min(1.0, n_index[k]*r*sin_beta/(n_index[k+1]*(r + delta)));
+
+			r += delta;
+			h = upper;
+		}
+		return new Path(first, length);
+	}
+
+	/** Two-way attenuation along a traced path
+	 *
+	 * @param path Ray lengths from path()
+	 * @param f Frequency (GHz), 1 - 1000
+	 * @return 2-way attenuation (dB)
+	 */
+	public double attenuation(Path path, double f) {
+		double[] gamma = specificAttenuationProfile(f);
+		double[] length = path.length;
+		double sum = 0.0;
+		for(int i=0, k=path.first; i<length.length; ++i, ++k) sum += length[i]*gamma[k];
+		return 2.0*sum;
+	}
+
+	/** Two-way attenuation of one path at many frequencies
+	 *
+	 * @param path Ray lengths from path()
+	 * @param f Frequencies (GHz), 1 - 1000
+	 * @param out Receives the 2-way attenuation per frequency (dB)
+	 */
+	public void attenuation(Path path, double[] f, double[] out) {
+		if(out.length != f.length) throw new IllegalArgumentException("Frequency and output arrays must have the same length");
+		for(int j=0; j<f.length; ++j) out[j] = attenuation(path, f[j]);
+	}
+
+	/** Two-way slant-path attenuation
+	 *
+	 * @param f Frequency (GHz), 1 - 1000
+	 * @param h_1 Height of the lower terminal (km)
+	 * @param h_2 Height of the upper terminal (km)
+	 * @param theta_0 Elevation angle at the lower terminal (rad)
+	 * @return 2-way attenuation (dB)
+	 */
+	public double calcTotalAttenuation(double f, double h_1, double h_2, double theta_0) {
+		return attenuation(path(h_1, h_2, theta_0), f);
+	}
+
+	public double getSurfaceVapourDensity() { return rho_0; }
+
+	/** Index of the layer containing h */
+	private int layerOf(double h) {
+		if(h <= 0.0) return 0;
+		// Invert the boundary series: sum of 0.0001 exp(i/100), i < k
+		int k = (int)Math.floor(100.0*Math.log(1.0 + h*(Math.exp(0.01) - 1.0)/0.0001));
+		k = Math.max(0, Math.min(k, LAYERS-1));
+		while(k > 0 && h_boundary[k] > h) --k;
+		while(k < LAYERS-1 && h_boundary[k+1] <= h) ++k;
+		return k;
+	}
+
+
+//
+//	Reference atmosphere (Rec. ITU-R P.835 Annex 1, mean annual global)
+//
+	private static double geopotential(double h) {
+		return 6356.766*h/(6356.766 + h);
+	}
+
+	/** Temperature (K) at geometric height h (km) */
+	static double temperature(double h) {
+		double hp = geopotential(h);
+		if(hp <= 11.0) 		return 288.15 - 6.5*hp;
+		if(hp <= 20.0) 		return 216.65;
+		if(hp <= 32.0) 		return 216.65 + (hp - 20.0);
+		if(hp <= 47.0) 		return 228.65 + 2.8*(hp - 32.0);
+		if(hp <= 51.0) 		return 270.65;
+		if(hp <= 71.0) 		return 270.65 - 2.8*(hp - 51.0);
+		if(hp <= 84.852) 	return 214.65 - 2.0*(hp - 71.0);
+		return 186.8673;
+	}
+
+	/** Total pressure (hPa) at geometric height h (km)
+	 *
+	 * @note Above 84.852 km geopotential the isothermal form is continued, where absorption is negligible
+	 */
+	static double pressure(double h) {
+		double hp = geopotential(h);
+		if(hp <= 11.0) 		return 1013.25*Math.pow(288.15/(288.15 - 6.5*hp), -34.1632/6.5);
+		if(hp <= 20.0) 		return 226.3226*Math.exp(-34.1632*(hp - 11.0)/216.65);
+		if(hp <= 32.0) 		return 54.74980*Math.pow(216.65/(216.65 + (hp - 20.0)), 34.1632);
+		if(hp <= 47.0) 		return 8.680422*Math.pow(228.65/(228.65 + 2.8*(hp - 32.0)), 34.1632/2.8);
+		if(hp <= 51.0) 		return 1.109106*Math.exp(-34.1632*(hp - 47.0)/270.65);
+		if(hp <= 71.0) 		return 0.6694167*Math.pow(270.65/(270.65 - 2.8*(hp - 51.0)), -34.1632/2.8);
+		if(hp <= 84.852) 	return 0.03956649*Math.pow(214.65/(214.65 - 2.0*(hp - 71.0)), -34.1632/2.0);
+		return P_MESOPAUSE*Math.exp(-34.1632*(hp - 84.852)/186.8673);
+	}
+
+	/** Water vapour partial pressure (hPa), with the P.835 mixing ratio floor of 2e-6 */
+	private double vapourPressure(double h, double T, double P) {
+		double rho = rho_0*Math.exp(-h/2.0);
+		double e = rho*T/216.7;
+		return Math.max(e, 2e-6*P);
+	}
+}
@@ -0,0 +1,101 @@
+package main.p676;
+
+/** Spectroscopic line tables of Rec. ITU-R P.676-11 Annex 1, stored column-wise
+ *
+ * One array per coefficient, so the line summation walks each coefficient contiguously.
+ *
+ * @author Collin Thornton
+ * @note Oxygen: Table 1, 44 lines. Water vapour: Table 2, 35 lines (the 1780 GHz entry is the pseudo-line of the continuum)
+ */
+final class SpectralLines {
+	private SpectralLines() { }
+
+	/** Line frequencies of oxygen (GHz) */
+	static final double[] O2_F = {
+			50.474214, 50.987745, 51.503360, 52.021429, 52.542418, 53.066934, 53.595775, 54.130025, 54.671180, 55.221384,
+			55.783815, 56.264774, 56.363399, 56.968211, 57.612486, 58.323877, 58.446588, 59.164204, 59.590983, 60.306056,
+			60.434778, 61.150562, 61.800158, 62.411220, 62.486253, 62.997984, 63.568526, 64.127775, 64.678910, 65.224078,
+			65.764779, 66.302096, 66.836834, 67.369601, 67.900868, 68.431006, 68.960312, 118.750334, 368.498246, 424.763020,
+			487.249273, 715.392902, 773.839490, 834.145546
+	};
+	static final double[] O2_A1 = {
+			0.975, 2.529, 6.193, 14.320, 31.240, 64.290, 124.600, 227.300, 389.700, 627.100,
+			945.300, 543.400, 1331.800, 1746.600, 2120.100, 2363.700, 1442.100, 2379.900, 2090.700, 2103.400,
+			2438.000, 2479.500, 2275.900, 1915.400, 1503.000, 1490.200, 1078.000, 728.700, 461.300, 274.000,
+			153.000, 80.400, 39.800, 18.560, 8.172, 3.397, 1.334, 940.300, 67.400, 637.700,
+			237.400, 98.100, 572.300, 183.100
+	};
+	static final double[] O2_A2 = {
+			9.651, 8.653, 7.709, 6.819, 5.983, 5.201, 4.474, 3.800, 3.182, 2.618,
+			2.109, 0.014, 1.654, 1.255, 0.910, 0.621, 0.083, 0.387, 0.207, 0.207,
+			0.386, 0.621, 0.910, 1.255, 0.083, 1.654, 2.108, 2.617, 3.181, 3.800,
+			4.473, 5.200, 5.982, 6.818, 7.708, 8.652, 9.650, 0.010, 0.048, 0.044,
+			0.049, 0.145, 0.141, 0.145
+	};
+	static final double[] O2_A3 = {
+			6.690, 7.170, 7.640, 8.110, 8.580, 9.060, 9.550, 9.960, 10.370, 10.890,
+			11.340, 17.030, 11.890, 12.230, 12.620, 12.950, 14.910, 13.530, 14.080, 14.150,
+			13.390, 12.920, 12.630, 12.170, 15.130, 11.740, 11.340, 10.880, 10.380, 9.960,
+			9.550, 9.060, 8.580, 8.110, 7.640, 7.170, 6.690, 16.640, 16.400, 16.400,
+			16.000, 16.000, 16.200, 14.700
+	};
+	static final double[] O2_A4 = new double[44];
+	static final double[] O2_A5 = {
+			2.566, 2.246, 1.947, 1.667, 1.388, 1.349, 2.227, 3.170, 3.558, 2.560,
+			-1.172, 3.525, -2.378, -3.545, -5.416, -1.932, 6.768, -6.561, 6.957, -6.395,
+			6.342, 1.014, 5.014, 3.029, -4.499, 1.856, 0.658, -3.036, -3.968, -3.528,
+			-2.548, -1.660, -1.680, -1.956, -2.216, -2.492, -2.773, -0.439, 0.000, 0.000,
+			0.000, 0.000, 0.000, 0.000
+	};
+	static final double[] O2_A6 = {
+			6.850, 6.800, 6.729, 6.640, 6.526, 6.206, 5.085, 3.750, 2.654, 2.952,
+			6.135, -0.978, 6.547, 6.451, 6.056, 0.436, -1.273, 2.309, -0.776, 0.699,
+			-2.825, -0.584, -6.619, -6.759, 0.844, -6.675, -6.139, -2.895, -2.590, -3.680,
+			-5.002, -6.091, -6.393, -6.475, -6.545, -6.600, -6.650, 0.079, 0.000, 0.000,
+			0.000, 0.000, 0.000, 0.000
+	};
+
+	/** Line frequencies of water vapour (GHz) */
+	static final double[] H2O_F = {
+			22.235080, 67.803960, 119.995940, 183.310087, 321.225630, 325.152888, 336.227764, 380.197353, 390.134508, 437.346667,
+			439.150807, 443.018343, 448.001085, 470.888999, 474.689092, 488.490108, 503.568532, 504.482692, 547.676440, 552.020960,
+			556.935985, 620.700807, 645.766085, 658.005280, 752.033113, 841.051732, 859.965698, 899.303175, 902.611085, 906.205957,
+			916.171582, 923.112692, 970.315022, 987.926764, 1780.000000
+	};
+	static final double[] H2O_B1 = {
+			0.1079, 0.0011, 0.0007, 2.273, 0.0470, 1.514, 0.0010, 11.67, 0.0045, 0.0632,
+			0.9098, 0.1920, 10.41, 0.3254, 1.260, 0.2529, 0.0372, 0.0124, 0.9785, 0.1840,
+			497.0, 5.015, 0.0067, 0.2732, 243.4, 0.0134, 0.1325, 0.0547, 0.0386, 0.1836,
+			8.400, 0.0079, 9.009, 134.6, 17506.0
+	};
+	static final double[] H2O_B2 = {
+			2.144, 8.732, 8.353, 0.668, 6.179, 1.541, 9.825, 1.048, 7.347, 5.048,
+			3.595, 5.048, 1.405, 3.597, 2.379, 2.852, 6.731, 6.731, 0.158, 0.158,
+			0.159, 2.391, 8.633, 7.816, 0.396, 8.177, 8.055, 7.914, 8.429, 5.110,
+			1.441, 10.293, 1.919, 0.257, 0.952
+	};
+	static final double[] H2O_B3 = {
+			26.38, 28.58, 29.48, 29.06, 24.04, 28.23, 26.93, 28.11, 21.52, 18.45,
+			20.07, 15.55, 25.64, 21.34, 23.20, 25.86, 16.12, 16.12, 26.00, 26.00,
+			30.86, 24.38, 18.00, 32.10, 30.86, 15.90, 30.60, 29.85, 28.65, 24.08,
+			26.73, 29.00, 25.50, 29.85, 196.3
+	};
+	static final double[] H2O_B4 = {
+			0.76, 0.69, 0.70, 0.77, 0.67, 0.64, 0.69, 0.54, 0.63, 0.60,
+			0.63, 0.60, 0.66, 0.66, 0.65, 0.69, 0.61, 0.61, 0.70, 0.70,
+			0.69, 0.71, 0.60, 0.69, 0.68, 0.33, 0.68, 0.68, 0.70, 0.70,
+			0.70, 0.70, 0.64, 0.68, 2.00
+	};
+	static final double[] H2O_B5 = {
+			5.087, 4.930, 4.780, 5.022, 4.398, 4.893, 4.740, 5.063, 4.810, 4.230,
+			4.483, 5.083, 5.028, 4.506, 4.804, 5.201, 3.980, 4.010, 4.500, 4.500,
+			4.552, 4.856, 4.000, 4.140, 4.352, 5.760, 4.090, 4.530, 5.100, 4.700,
+			5.150, 5.000, 4.940, 4.550, 24.15
+	};
+	static final double[] H2O_B6 = {
+			1.00, 0.82, 0.79, 0.85, 0.54, 0.74, 0.61, 0.89, 0.55, 0.48,
+			0.52, 0.50, 0.67, 0.65, 0.64, 0.72, 0.43, 0.45, 1.00, 1.00,
+			1.00, 0.68, 0.50, 1.00, 0.84, 0.45, 0.84, 0.90, 0.95, 0.53,
+			0.78, 0.80, 0.67, 0.90, 5.00
+	};
+}
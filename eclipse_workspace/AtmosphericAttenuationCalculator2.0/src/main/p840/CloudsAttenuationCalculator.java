@@ -18,6 +18,47 @@ public class CloudsAttenuationCalculator {
 	 * @note This function is based on Rec. ITU-R P.840-8, Annex I., Sections 1-2
 	 */
 	public static double calculate(double f__ghz, double theta_0__rad, double h__km, double T__k, double M__g_m3) {
+		return calculate(specificAttenuationCoefficient(f__ghz, T__k), Math.sin(theta_0__rad), h__km, M__g_m3);
+	}
+	
+	/** Calculate loss due to clouds and fog from a precomputed coefficient
+	 * 
+	 * @param K_i Specific attenuation coefficient from specificAttenuationCoefficient	((dB/km)/(g/m^3))
+	 * @param sin_theta_0 Sine of the elevation angle
+	 * @param h__km Vertical path distance in cloud	(km)
+	 * @param M__g_m3 Mass density of water in cloud 	(g/m^3)
+	 * @return 2-way atten. due to clouds 		(dB)
+	 */
+	public static double calculate(double K_i, double sin_theta_0, double h__km, double M__g_m3) {
+		// (Eq) 1 multiplied by 2-way path distance
+		return (2.0*K_i*M__g_m3*h__km)/sin_theta_0;
+	}
+	
+	/** Single-precision loss due to clouds and fog of many targets
+	 * 
+	 * @param K_i Specific attenuation coefficient from specificAttenuationCoefficient	((dB/km)/(g/m^3))
+	 * @param sin_theta_0 Sines of the elevation angles
+	 * @param h__km Vertical path distance in cloud	(km)
+	 * @param M__g_m3 Mass density of water in cloud 	(g/m^3)
+	 * @param out Receives the 2-way atten. of each target 	(dB)
+	 * @note One rounded product and one division per target: relative error below 2 ulp (1.2e-7)
+	 */
+	public static void calculate(double K_i, float[] sin_theta_0, double h__km, double M__g_m3, float[] out) {
+		if(out.length != sin_theta_0.length) throw new IllegalArgumentException("Target arrays must have the same length");
+		
+		float zenith = (float)calculate(K_i, 1.0, h__km, M__g_m3);
+		for(int i=0; i<sin_theta_0.length; ++i)
+			out[i] = zenith/sin_theta_0[i];
+	}
+	
+	/** Specific attenuation coefficient of cloud liquid water. Depends only on frequency and temperature
+	 * 
+	 * @param f__ghz Frequency. 0 <= f <= 200	(GHz) 
+	 * @param T__k   Temperature of cloud 		(k)
+	 * @return K_i 		((dB/km)/(g/m^3))
+	 * @note This function is based on Rec. ITU-R P.840-8, Annex I., Section 2
+	 */
+	public static double specificAttenuationCoefficient(double f__ghz, double T__k) {
 		if(f__ghz < 0.0)   throw new IllegalArgumentException("Cloud atten. freq must be between 0 and 200 GHz");
 		if(f__ghz > 200.0) throw new IllegalArgumentException("Cloud atten. freq must be between 0 and 200 GHz");
 			
@@ -50,9 +91,6 @@ public class CloudsAttenuationCalculator {
 		double nu = (2.0+e_prime)/e_pprime;
 		
 		// (Eq) 2
-		double K_i = (0.819*f__ghz)/(e_pprime*(1.0+nu*nu));
-		
-		// (Eq) 1 multiplied by 2-way path distance
-		return (2.0*K_i*M__g_m3*h__km)/Math.sin(theta_0__rad);		
+		return (0.819*f__ghz)/(e_pprime*(1.0+nu*nu));
 	}
 }
@@ -0,0 +1,125 @@
+package main.terrain;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Regular latitude/longitude grid of terrain elevation posts, memory-mapped from a binary file
+ *
+ * The file holds rows*cols 16-bit signed elevations (m) in row-major order without a header, like an SRTM .hgt tile. Only the
+ * mapping lives on the heap, and the operating system pages the posts in as profiles touch them.
+ *
+ * @author Collin Thornton
+ * @note Elevations are interpolated bilinearly between the four surrounding posts. Void posts and points outside the grid take
+ * 		the fill elevation. Cell sizes may be negative, e.g. for rows stored from north to south
+ */
+public final class ElevationRaster implements Terrain {
+	/** Elevation of a void post */
+	public static final short VOID = Short.MIN_VALUE;
+
+	private static final Pattern HGT_NAME = Pattern.compile("([NS])(\\d{2})([EW])(\\d{3})\\.hgt", Pattern.CASE_INSENSITIVE);
+
+	private final double lat_0, lon_0;		// first post							(deg)
+	private final double d_lat, d_lon;		// post spacing							(deg)
+	private final int rows, cols;
+	private final ShortBuffer posts;		// row-major, rows along latitude
+	private final double fill__m;
+
+
+	private ElevationRaster(double lat_0, double lon_0, double d_lat, double d_lon, int rows, int cols, ShortBuffer posts, double fill__m) {
+		this.lat_0 = lat_0;
+		this.lon_0 = lon_0;
+		this.d_lat = d_lat;
+		this.d_lon = d_lon;
+		this.rows = rows;
+		this.cols = cols;
+		this.posts = posts;
+		this.fill__m = fill__m;
+	}
+
+
+	/** Map a headerless grid of 16-bit posts
+	 *
+	 * @param file	Binary grid
+	 * @param lat_0	Latitude of the first post 				(deg)
+	 * @param lon_0	Longitude of the first post 			(deg)
+	 * @param d_lat	Latitude step between rows 				(deg)
+	 * @param d_lon	Longitude step between columns 			(deg)
+	 * @param rows	Number of posts along latitude
+	 * @param cols	Number of posts along longitude
+	 * @param order	Byte order of the posts
+	 * @param fill__m	Elevation of void posts and of points outside the grid (m)
+	 * @throws IllegalArgumentException if the grid is degenerate
+	 * @throws IOException if the file is shorter than the grid
+	 */
+	public static ElevationRaster map(Path file, double lat_0, double lon_0, double d_lat, double d_lon, int rows, int cols,
+			ByteOrder order, double fill__m) throws IOException {
+		if(d_lat == 0.0 || d_lon == 0.0 || !Double.isFinite(d_lat) || !Double.isFinite(d_lon)) throw new IllegalArgumentException("Post spacing must be non-zero");
+		if(rows < 2 || cols < 2) throw new IllegalArgumentException("A raster needs at least 2x2 posts");
+
+		long bytes = 2L*rows*cols;
+		if(bytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Raster exceeds 2 GB; split it into tiles");
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() < bytes) throw new IOException(file + " holds " + channel.size() + " bytes, expected " + bytes);
+			ShortBuffer posts = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes).order(order).asShortBuffer();
+			return new ElevationRaster(lat_0, lon_0, d_lat, d_lon, rows, cols, posts, fill__m);
+		}
+	}
+
+	/** Map an SRTM .hgt tile. Its position comes from the file name, e.g. N34W119.hgt covers 34-35 N, 118-119 W
+	 *
+	 * @throws IOException if the name is not a tile name or the size is not a square grid
+	 */
+	public static ElevationRaster hgt(Path file) throws IOException {
+		Matcher name = HGT_NAME.matcher(file.getFileName().toString());
+		if(!name.matches()) throw new IOException(file + " is not named like an SRTM tile");
+
+		double south = Integer.parseInt(name.group(2)) * (name.group(1).equalsIgnoreCase("S") ? -1 : 1);
+		double west = Integer.parseInt(name.group(4)) * (name.group(3).equalsIgnoreCase("W") ? -1 : 1);
+
+		long size;
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			size = channel.size();
+		}
+		int n = (int)Math.round(Math.sqrt(size/2.0));
+		if(n < 2 || 2L*n*n != size) throw new IOException(file + " is not a square grid of 16-bit posts");
+
+		// Rows run from the northern edge southward. The edge posts are shared with the neighbouring tiles
+		return map(file, south+1.0, west, -1.0/(n-1), 1.0/(n-1), n, n, ByteOrder.BIG_ENDIAN, 0.0);
+	}
+
+
+	/** Whether (lat, lon) lies within the posts of the raster */
+	public boolean contains(double lat, double lon) {
+		double u = (lat - lat_0)/d_lat;
+		double v = (lon - lon_0)/d_lon;
+		return u >= 0.0 && u <= rows-1 && v >= 0.0 && v <= cols-1;
+	}
+
+	@Override
+	public double elevationAt(double lat, double lon) {
+		double u = (lat - lat_0)/d_lat;
+		double v = (lon - lon_0)/d_lon;
+		if(!(u >= 0.0 && u <= rows-1 && v >= 0.0 && v <= cols-1)) return fill__m;
+
+		// Cell of the point, with the last row and column folded into the cell before them
+		int i = Math.min((int)u, rows-2);
+		int j = Math.min((int)v, cols-2);
+		double s = u - i, t = v - j;
+
+		double z_00 = post(i, j), 	z_01 = post(i, j+1);
+		double z_10 = post(i+1, j), z_11 = post(i+1, j+1);
+		return (1.0-s)*((1.0-t)*z_00 + t*z_01) + s*((1.0-t)*z_10 + t*z_11);
+	}
+
+	private double post(int row, int col) {
+		short z = posts.get(row*cols + col);
+		return (z == VOID) ? fill__m : z;
+	}
+}
@@ -0,0 +1,62 @@
+package main.terrain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Directory of 1x1 degree SRTM .hgt tiles, each mapped on first use
+ *
+ * @author Collin Thornton
+ * @note Missing tiles, e.g. over open sea, take the fill elevation. Racing threads may map a tile twice, which is harmless
+ */
+public final class ElevationTiles implements Terrain {
+	private final Path directory;
+	private final double fill__m;
+	// Tiles by their south-west corner, fill terrain where no file exists
+	private final Map<Integer, Terrain> tiles = new ConcurrentHashMap<>();
+
+
+	/**
+	 * @param directory	Directory holding the tiles, named like N34W119.hgt
+	 * @param fill__m	Elevation where no tile exists (m)
+	 */
+	public ElevationTiles(Path directory, double fill__m) {
+		this.directory = directory;
+		this.fill__m = fill__m;
+	}
+
+
+	/**
+	 * @throws UncheckedIOException if a tile exists but cannot be mapped
+	 */
+	@Override
+	public double elevationAt(double lat, double lon) {
+		int south = (int)Math.floor(lat);
+		int west = (int)Math.floor(lon);
+		Terrain tile = tiles.get(key(south, west));
+		if(tile == null) {
+			tile = load(south, west);
+			tiles.putIfAbsent(key(south, west), tile);
+		}
+		return tile.elevationAt(lat, lon);
+	}
+
+	private Terrain load(int south, int west) {
+		String name = String.format("%s%02d%s%03d.hgt", south < 0 ? "S" : "N", Math.abs(south), west < 0 ? "W" : "E", Math.abs(west));
+		Path file = directory.resolve(name);
+		if(!Files.isRegularFile(file)) return (lat, lon) -> fill__m;
+
+		try {
+			return ElevationRaster.hgt(file);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static int key(int south, int west) {
+		return (south + 90)*360 + (west + 180);
+	}
+}
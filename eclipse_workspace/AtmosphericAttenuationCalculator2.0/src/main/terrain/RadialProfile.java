@@ -0,0 +1,172 @@
+package main.terrain;
+
+/** Terrain profile along one radial from a radar site, with the running horizon of the antenna
+ *
+ * The radial is a great circle sampled every step__m. Each sample advances the position by a fixed rotation of the site vector,
+ * so the walk costs a few multiply-adds and one latitude/longitude conversion per step. While sampling, the largest elevation
+ * angle of the terrain seen from the antenna is carried forward: the horizon of every step is then known, and the blockage of a
+ * target at any step is a single comparison.
+ *
+ * Elevation angles use the effective Earth radius k_a__m to account for refraction: the angle of a point at ground range d and
+ * height h is (h - h_antenna)/d - d/(2 k_a), valid for the small angles and ranges of surface radars.
+ *
+ * @author Collin Thornton
+ * @note Heights are above MSL (m). The ground range along the radial is used for the slant range to a target
+ */
+public final class RadialProfile {
+	/** Mean Earth radius of the great-circle walk (m) */
+	public static final double EARTH_RADIUS__M = 6371000.0;
+
+	private final double h_antenna__m;
+	private final double step__m;
+	private final double k_a__m;
+	private final double[] terrain__m;		// terrain at step k
+	private final double[] horizon__rad;	// largest terrain angle over steps 1..k-1
+	private final int[] horizon_index;		// step of that angle, 0 without one
+
+
+	/**
+	 * @param terrain		Terrain along the radial
+	 * @param lat			Latitude of the site 					(deg)
+	 * @param lon			Longitude of the site 					(deg)
+	 * @param h_antenna__m	Height of the antenna above MSL 		(m)
+	 * @param azimuth__deg	Azimuth of the radial, clockwise from north (deg)
+	 * @param step__m		Ground range between samples 			(m)
+	 * @param steps			Number of samples after the site
+	 * @param k_a__m		Effective Earth radius 					(m)
+	 * @throws IllegalArgumentException if the step, the number of steps or the radius is not positive
+	 */
+	public RadialProfile(Terrain terrain, double lat, double lon, double h_antenna__m, double azimuth__deg, double step__m, int steps,
+			double k_a__m) {
+		if(!(step__m > 0.0) || steps < 1 || !(k_a__m > 0.0)) throw new IllegalArgumentException("Step, steps and radius must be positive");
+
+		this.h_antenna__m = h_antenna__m;
+		this.step__m = step__m;
+		this.k_a__m = k_a__m;
+		this.terrain__m = new double[steps+1];
+		this.horizon__rad = new double[steps+1];
+		this.horizon_index = new int[steps+1];
+
+		// <<Step 1>> Site position p and the unit tangent t of the radial, both in Earth-centred coordinates
+		double phi = Math.toRadians(lat), lambda = Math.toRadians(lon), alpha = Math.toRadians(azimuth__deg);
+		double sin_phi = Math.sin(phi), cos_phi = Math.cos(phi);
+		double sin_lambda = Math.sin(lambda), cos_lambda = Math.cos(lambda);
+		double sin_alpha = Math.sin(alpha), cos_alpha = Math.cos(alpha);
+
+		double p_x = cos_phi*cos_lambda, p_y = cos_phi*sin_lambda, p_z = sin_phi;
+		double t_x = -cos_alpha*sin_phi*cos_lambda - sin_alpha*sin_lambda;
+		double t_y = -cos_alpha*sin_phi*sin_lambda + sin_alpha*cos_lambda;
+		double t_z = cos_alpha*cos_phi;
+
+		// <<Step 2>> Rotation of one step along the great circle
+		double delta = step__m/EARTH_RADIUS__M;
+		double cos_delta = Math.cos(delta), sin_delta = Math.sin(delta);
+
+		terrain__m[0] = terrain.elevationAt(lat, lon);
+		horizon__rad[0] = Double.NEGATIVE_INFINITY;
+		double horizon = Double.NEGATIVE_INFINITY;
+		int index = 0;
+
+		// <<Step 3>> Walk the radial, carrying the horizon forward
+		for(int k=1; k<=steps; ++k) {
+			double x = p_x*cos_delta + t_x*sin_delta;
+			double y = p_y*cos_delta + t_y*sin_delta;
+			double z = p_z*cos_delta + t_z*sin_delta;
+			t_x = t_x*cos_delta - p_x*sin_delta;
+			t_y = t_y*cos_delta - p_y*sin_delta;
+			t_z = t_z*cos_delta - p_z*sin_delta;
+			p_x = x;
+			p_y = y;
+			p_z = z;
+
+			horizon__rad[k] = horizon;
+			horizon_index[k] = index;
+
+			terrain__m[k] = terrain.elevationAt(Math.toDegrees(Math.asin(Math.max(-1.0, Math.min(1.0, p_z)))), Math.toDegrees(Math.atan2(p_y, p_x)));
+			double angle = elevationAngle(k, terrain__m[k]);
+			if(angle > horizon) {
+				horizon = angle;
+				index = k;
+			}
+		}
+	}
+
+
+	public double getAntennaHeight()	{ return h_antenna__m; }
+	public double getStep()				{ return step__m; }
+	public int getSteps()				{ return terrain__m.length-1; }
+	public double getRange(int k)		{ return k*step__m; }
+
+	/** Step nearest to a ground range
+	 *
+	 * @throws IllegalArgumentException if the range is negative or beyond the profile
+	 */
+	public int index(double d__m) {
+		long k = Math.round(d__m/step__m);
+		if(!(d__m >= 0.0) || k > getSteps()) throw new IllegalArgumentException("Range " + d__m + " m outside the profile");
+		return (int)k;
+	}
+
+	/** Terrain height at step k above MSL (m) */
+	public double terrainHeight(int k) { return terrain__m[k]; }
+
+	/** Largest elevation angle of the terrain between the antenna and step k (rad), negative infinity when nothing lies between */
+	public double horizonAngle(int k) { return horizon__rad[k]; }
+
+	/** Step of the terrain setting horizonAngle(k), 0 when nothing lies between */
+	public int horizonIndex(int k) { return horizon_index[k]; }
+
+	/** Elevation angle from the antenna of a point at step k (rad)
+	 *
+	 * @param h__m Height of the point above MSL (m)
+	 */
+	public double elevationAngle(int k, double h__m) {
+		double d__m = k*step__m;
+		return (h__m - h_antenna__m)/d__m - d__m/(2.0*k_a__m);
+	}
+
+	/** Whether a point at step k is in line of sight of the antenna
+	 *
+	 * @param h__m Height of the point above MSL (m)
+	 */
+	public boolean isVisible(int k, double h__m) {
+		return k == 0 || elevationAngle(k, h__m) >= horizon__rad[k];
+	}
+
+	/** Lowest height in line of sight of the antenna at step k, and not below the terrain (m) */
+	public double minimumVisibleHeight(int k) {
+		if(k == 0 || horizon__rad[k] == Double.NEGATIVE_INFINITY) return terrain__m[k];
+		double d__m = k*step__m;
+		return Math.max(terrain__m[k], h_antenna__m + d__m*(horizon__rad[k] + d__m/(2.0*k_a__m)));
+	}
+
+	/** Whether a ground reflection at step k obeys the smooth sea-surface models: the point is at or below MSL, e.g. open water,
+	 * and in line of sight of the antenna
+	 */
+	public boolean isReflecting(int k) {
+		return terrain__m[k] <= 0.0 && isVisible(k, terrain__m[k]);
+	}
+
+	/** 1-way diffraction loss over the horizon obstacle of step k, as a single knife edge (dB)
+	 *
+	 * @param h__m Height of the target above MSL (m)
+	 * @param lambda__m Wavelength (m)
+	 * @return J(v) of ITU-R P.526, 0 when nothing lies between or the path clears the obstacle by more than v = -0.78
+	 */
+	public double diffractionLoss(int k, double h__m, double lambda__m) {
+		int i = horizon_index[k];
+		if(i == 0) return 0.0;
+
+		double d_1__m = i*step__m;
+		double d_2__m = (k-i)*step__m;
+		double h_c__m = d_1__m*(horizon__rad[k] - elevationAngle(k, h__m));
+		double v = h_c__m*Math.sqrt(2.0*(d_1__m + d_2__m)/(lambda__m*d_1__m*d_2__m));
+		return knifeEdgeLoss(v);
+	}
+
+	/** Single knife-edge diffraction loss J(v) of ITU-R P.526 (dB) */
+	public static double knifeEdgeLoss(double v) {
+		if(v <= -0.78) return 0.0;
+		return 6.9 + 20.0*Math.log10(Math.sqrt((v-0.1)*(v-0.1) + 1.0) + v - 0.1);
+	}
+}
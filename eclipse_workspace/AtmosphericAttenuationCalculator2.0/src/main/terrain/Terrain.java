@@ -0,0 +1,16 @@
+package main.terrain;
+
+/** Terrain elevation by geographic position
+ *
+ * @author Collin Thornton
+ * @note Implementations must be safe to query from several threads
+ */
+@FunctionalInterface
+public interface Terrain {
+	/** Elevation of the terrain above MSL (m)
+	 *
+	 * @param lat	Latitude 	(deg)
+	 * @param lon	Longitude 	(deg)
+	 */
+	double elevationAt(double lat, double lon);
+}
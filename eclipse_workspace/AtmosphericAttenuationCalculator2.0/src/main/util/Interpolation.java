@@ -0,0 +1,213 @@
+package main.util;
+
+/** Interpolation kernels over primitive arrays shared by the lookup tables of every model
+ *
+ * Interval searches return i such that x[i] <= v < x[i+1], clamped to [0, n-2], so an interval is always available for
+ * extrapolation. The clamped variants (linear, linearDescending, uniform) return the end values outside the table instead.
+ *
+ * @author Collin Thornton
+ * @note Abscissae must be sorted. Every table needs at least two points
+ */
+public final class Interpolation {
+	private Interpolation() { }
+
+
+	/** Interval of v in an ascending table by binary search
+	 *
+	 * @return i in [0, n-2] with x[i] <= v < x[i+1] when v is inside the table
+	 */
+	public static int search(double[] x, double v) {
+		int low = 0;
+		int n = x.length-1;
+		// Halve the candidate range without an early exit, so the loop runs log2(n) times regardless of v
+		while(n > 1) {
+			int half = n >>> 1;
+			if(x[low+half] <= v) low += half;
+			n -= half;
+		}
+		return low;
+	}
+
+	/** Interval of v in a descending table by binary search
+	 *
+	 * @return i in [0, n-2] with x[i] >= v > x[i+1] when v is inside the table
+	 */
+	public static int searchDescending(double[] x, double v) {
+		int low = 0;
+		int n = x.length-1;
+		while(n > 1) {
+			int half = n >>> 1;
+			if(x[low+half] >= v) low += half;
+			n -= half;
+		}
+		return low;
+	}
+
+	/** Interval of v on the uniform grid x_0 + i*dx, i = 0..n-1
+	 *
+	 * @return i in [0, n-2]
+	 */
+	public static int uniformIndex(double x_0, double dx, int n, double v) {
+		int i = (int)Math.floor((v - x_0)/dx);
+		return Math.min(Math.max(i, 0), n-2);
+	}
+
+
+	/** Straight line through (x_0, y_0) and (x_1, y_1) evaluated at v */
+	public static double lerp(double x_0, double y_0, double x_1, double y_1, double v) {
+		return ((y_1-y_0)*(v-x_0))/(x_1-x_0) + y_0;
+	}
+
+	/** Linear interpolation on interval i, extrapolating outside of it */
+	public static double linear(double[] x, double[] y, int i, double v) {
+		return lerp(x[i], y[i], x[i+1], y[i+1], v);
+	}
+
+	/** Linear interpolation in an ascending table, holding the end values outside it */
+	public static double linear(double[] x, double[] y, double v) {
+		int n = x.length;
+		if(v <= x[0]) 	return y[0];
+		if(v >= x[n-1]) return y[n-1];
+		return linear(x, y, search(x, v), v);
+	}
+
+	/** Linear interpolation in a descending table, holding the end values outside it */
+	public static double linearDescending(double[] x, double[] y, double v) {
+		int n = x.length;
+		if(v >= x[0]) 	return y[0];
+		if(v <= x[n-1]) return y[n-1];
+		return linear(x, y, searchDescending(x, v), v);
+	}
+
+	/** Linear interpolation of y sampled on the uniform grid x_0 + i*dx, holding the end values outside it */
+	public static double uniform(double x_0, double dx, double[] y, double v) {
+		int n = y.length;
+		if(v <= x_0) 				return y[0];
+		if(v >= x_0 + (n-1)*dx) 	return y[n-1];
+
+		int i = uniformIndex(x_0, dx, n, v);
+		double x_i = x_0 + i*dx;
+		return lerp(x_i, y[i], x_i + dx, y[i+1], v);
+	}
+
+
+	/** Bilinear interpolation of z[i][j] = f(x[i], y[j]) in ascending tables, extrapolating from the edge cells */
+	public static double bilinear(double[] x, double[] y, double[][] z, double u, double v) {
+		int i = search(x, u);
+		int j = search(y, v);
+
+		// Interpolate along x at both y nodes, then along y
+		double z_low 	= lerp(x[i], z[i][j], 	x[i+1], z[i+1][j], 	 u);
+		double z_high 	= lerp(x[i], z[i][j+1], x[i+1], z[i+1][j+1], u);
+		return lerp(y[j], z_low, y[j+1], z_high, v);
+	}
+
+
+	/** Straight-line interpolation in log(x) and log(y) on interval i, extrapolating outside of it
+	 *
+	 * @note y[i] and y[i+1] must be positive
+	 */
+	public static double logLog(double[] x, double[] y, int i, double v) {
+		double R = Math.log10(v/x[i]) / Math.log10(x[i+1]/x[i]);
+		return Math.pow(10.0, R*Math.log10(y[i+1]/y[i]) + Math.log10(y[i]));
+	}
+
+	/** Straight-line interpolation in log(x) and log(y) in an ascending table, extrapolating from the end intervals */
+	public static double logLog(double[] x, double[] y, double v) {
+		return logLog(x, y, search(x, v), v);
+	}
+
+
+	/** Node slopes of the monotone cubic (Fritsch-Carlson) through an ascending table
+	 *
+	 * @return slopes for monotoneCubic
+	 */
+	public static double[] monotoneSlopes(double[] x, double[] y) {
+		int n = x.length;
+		double[] delta = new double[n-1];
+		for(int i=0; i<n-1; ++i) delta[i] = (y[i+1]-y[i])/(x[i+1]-x[i]);
+
+		double[] m = new double[n];
+		m[0] = delta[0];
+		m[n-1] = delta[n-2];
+		for(int i=1; i<n-1; ++i) m[i] = (delta[i-1]*delta[i] <= 0.0) ? 0.0 : 0.5*(delta[i-1] + delta[i]);
+
+		// Limit the slopes so each interval stays monotone
+		for(int i=0; i<n-1; ++i) {
+			if(delta[i] == 0.0) {
+				m[i] = m[i+1] = 0.0;
+				continue;
+			}
+			double a = m[i]/delta[i], b = m[i+1]/delta[i];
+			double s = a*a + b*b;
+			if(s > 9.0) {
+				double tau = 3.0/Math.sqrt(s);
+				m[i] 	= tau*a*delta[i];
+				m[i+1] 	= tau*b*delta[i];
+			}
+		}
+		return m;
+	}
+
+	/** Monotone cubic Hermite interpolation in an ascending table, holding the end values outside it
+	 *
+	 * @param m	Slopes from monotoneSlopes
+	 * @note Reproduces y at the nodes and is monotone wherever y is
+	 */
+	public static double monotoneCubic(double[] x, double[] y, double[] m, double v) {
+		int n = x.length;
+		if(v <= x[0]) 	return y[0];
+		if(v >= x[n-1]) return y[n-1];
+
+		int i = search(x, v);
+		double h = x[i+1]-x[i];
+		double t = (v-x[i])/h;
+		double t2 = t*t, t3 = t2*t;
+		return (2.0*t3 - 3.0*t2 + 1.0)*y[i] + (t3 - 2.0*t2 + t)*h*m[i] + (-2.0*t3 + 3.0*t2)*y[i+1] + (t3 - t2)*h*m[i+1];
+	}
+
+
+	/** Column k of a row-major table */
+	public static double[] column(double[][] table, int k) {
+		double[] out = new double[table.length];
+		for(int i=0; i<table.length; ++i) out[i] = table[i][k];
+		return out;
+	}
+
+	/** Behaviour check of monotoneCubic: exact at the nodes and monotone between them on monotone tables with plateaus,
+	 * steps and uneven spacing. Exits with status 1 on a violation
+	 */
+	public static void main(String[] args) {
+		double[] x = { 0.0, 0.5, 1.0, 3.0, 3.1, 4.0, 7.0, 7.5, 9.0, 10.0 };
+		double[][] tables = {
+			{ 0.0, 0.0, 0.0, 1.0, 1.0, 1.0, 5.0, 5.1, 9.0, 10.0 },
+			{ 0.0, 0.01, 0.02, 8.0, 8.0, 8.5, 8.6, 20.0, 20.0, 20.1 },
+			{ 10.0, 9.0, 9.0, 8.99, 2.0, 1.9, 1.8, 0.0, -0.5, -5.0 },
+		};
+
+		int failures = 0;
+		for(double[] y : tables) {
+			double[] m = monotoneSlopes(x, y);
+			double sign = Math.signum(y[y.length-1] - y[0]);
+
+			// <<Step 1>> Exact at the nodes
+			for(int i=0; i<x.length; ++i) if(monotoneCubic(x, y, m, x[i]) != y[i]) ++failures;
+
+			// <<Step 2>> No step against the trend of the table, and no overshoot of the enclosing nodes
+			double previous = monotoneCubic(x, y, m, x[0]);
+			for(int k=1; k<=100000; ++k) {
+				double v = x[0] + (x[x.length-1] - x[0])*k/100000.0;
+				double value = monotoneCubic(x, y, m, v);
+				int i = search(x, v);
+				// Slack for the rounding of the Hermite basis on flat intervals
+				double slack = 1e-12*(1.0 + Math.abs(value));
+				if(sign*(value - previous) < -slack) ++failures;
+				if(value < Math.min(y[i], y[i+1]) - slack || value > Math.max(y[i], y[i+1]) + slack) ++failures;
+				previous = value;
+			}
+		}
+
+		System.out.println("Monotone cubic: " + failures + " violation(s) in " + tables.length + " tables");
+		if(failures > 0) System.exit(1);
+	}
+}
@@ -0,0 +1,314 @@
+package main.util;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/** Dense multi-dimensional field of 2-way losses (dB) stored outside the Java heap
+ *
+ * Elements are floats in row-major order: the last dimension is contiguous and every other one has a fixed stride. The storage is
+ * either direct memory (allocate) or a memory-mapped file (create, open), split into chunks of whole rows because one buffer
+ * addresses at most 2 GB. Only the few buffer objects live on the heap, so fields of tens of GB cost the garbage collector nothing.
+ *
+ * A file holds a header of HEADER_BYTES bytes (magic, version, rank, shape), followed by the little-endian elements.
+ * writeTo produces the same layout, so a field computed in memory can be saved and mapped back with open.
+ *
+ * @author Collin Thornton
+ * @note Distinct elements and rows may be written from different threads. Java 14 cannot unmap or free a buffer explicitly:
+ * 		the storage is released once the field is unreachable. Call force to flush a mapped field to disk
+ */
+public final class LossField {
+	/** "LOSF" */
+	private static final int MAGIC = 0x4c4f5346;
+	private static final int VERSION = 1;
+	/** Bytes of the header before the elements. Keeps the first element aligned to a cache line */
+	public static final int HEADER_BYTES = 64;
+	/** Largest chunk of storage (bytes) */
+	private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+	private final int[] shape;
+	private final long[] strides;
+	private final long size;
+	private final int row_length;
+	private final long chunk_rows;
+	private final ByteBuffer[] chunks;
+	private final FloatBuffer[] floats;
+	private final boolean mapped;
+
+	/** Fills one row of a field
+	 *
+	 * @see LossField#fillRows
+	 */
+	@FunctionalInterface
+	public interface RowFiller {
+		/**
+		 * @param index Indices of the row in every dimension but the last
+		 * @param row Receives the elements of the row. The array is reused between rows of one thread
+		 */
+		void fill(int[] index, float[] row);
+	}
+
+
+	private LossField(int[] shape, ByteBuffer[] chunks, long chunk_rows, boolean mapped) {
+		this.shape = shape;
+		this.strides = strides(shape);
+		this.size = size(shape);
+		this.row_length = shape[shape.length-1];
+		this.chunk_rows = chunk_rows;
+		this.chunks = chunks;
+		this.mapped = mapped;
+
+		this.floats = new FloatBuffer[chunks.length];
+		for(int i=0; i<chunks.length; ++i) floats[i] = chunks[i].asFloatBuffer();
+	}
+
+
+	/** Field in direct memory, filled with zeros
+	 *
+	 * @param shape Length of every dimension
+	 * @throws IllegalArgumentException if a length is not positive or a row does not fit in one chunk
+	 */
+	public static LossField allocate(int... shape) {
+		int[] dimensions = check(shape);
+		long chunk_rows = chunkRows(dimensions);
+		long rows = size(dimensions)/dimensions[dimensions.length-1];
+
+		ByteBuffer[] chunks = new ByteBuffer[(int)((rows + chunk_rows - 1)/chunk_rows)];
+		for(int i=0; i<chunks.length; ++i) {
+			long bytes = Math.min(chunk_rows, rows - i*chunk_rows) * dimensions[dimensions.length-1] * Float.BYTES;
+			chunks[i] = ByteBuffer.allocateDirect((int)bytes).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new LossField(dimensions, chunks, chunk_rows, false);
+	}
+
+	/** Field mapped from a new file, filled with zeros. An existing file is replaced
+	 *
+	 * @param file File of the field
+	 * @param shape Length of every dimension
+	 * @throws IllegalArgumentException if a length is not positive or a row does not fit in one chunk
+	 */
+	public static LossField create(Path file, int... shape) throws IOException {
+		int[] dimensions = check(shape);
+		try(RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(0);
+			raf.setLength(HEADER_BYTES + size(dimensions)*Float.BYTES);
+		}
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.write(header(dimensions), 0);
+			return map(channel, dimensions, FileChannel.MapMode.READ_WRITE);
+		}
+	}
+
+	/** Field mapped from a file written by create or writeTo
+	 *
+	 * @param file File of the field
+	 * @param writable Whether the field may be modified. Changes go to the file
+	 * @throws IOException if the file is not a field or is truncated
+	 */
+	public static LossField open(Path file, boolean writable) throws IOException {
+		try(FileChannel channel = writable ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while(header.hasRemaining() && channel.read(header) >= 0);
+			header.flip();
+
+			if(header.remaining() < 12 || header.getInt() != MAGIC) throw new IOException(file + " is not a loss field");
+			if(header.getInt() != VERSION) throw new IOException("Unsupported loss field version in " + file);
+
+			int rank = header.getInt();
+			if(rank < 1 || header.remaining() < 4*rank) throw new IOException("Malformed loss field header in " + file);
+			int[] shape = new int[rank];
+			for(int i=0; i<rank; ++i) shape[i] = header.getInt();
+
+			int[] dimensions;
+			try {
+				dimensions = check(shape);
+			} catch(IllegalArgumentException e) {
+				throw new IOException("Malformed loss field header in " + file, e);
+			}
+			if(channel.size() < HEADER_BYTES + size(dimensions)*Float.BYTES) throw new IOException(file + " is truncated");
+
+			return map(channel, dimensions, writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY);
+		}
+	}
+
+
+	public int rank() { return shape.length; }
+
+	public int[] shape() { return shape.clone(); }
+
+	/** Number of elements */
+	public long size() { return size; }
+
+	/** Elements between consecutive indices of a dimension */
+	public long stride(int dimension) { return strides[dimension]; }
+
+	/** Whether the field is mapped from a file */
+	public boolean isMapped() { return mapped; }
+
+
+	/** Offset of an element, for get and set
+	 *
+	 * @throws IndexOutOfBoundsException if the number of indices is not the rank or an index is outside its dimension
+	 */
+	public long offset(int... index) {
+		if(index.length != shape.length) throw new IndexOutOfBoundsException("Expected " + shape.length + " indices, got " + index.length);
+
+		long offset = 0;
+		for(int i=0; i<index.length; ++i) {
+			if(index[i] < 0 || index[i] >= shape[i])
+				throw new IndexOutOfBoundsException("Index " + index[i] + " outside dimension " + i + " of length " + shape[i]);
+			offset += index[i]*strides[i];
+		}
+		return offset;
+	}
+
+	public float get(long offset) {
+		long row = offset/row_length;
+		return floats[(int)(row/chunk_rows)].get((int)((row % chunk_rows)*row_length + offset % row_length));
+	}
+
+	public void set(long offset, float loss__db) {
+		long row = offset/row_length;
+		floats[(int)(row/chunk_rows)].put((int)((row % chunk_rows)*row_length + offset % row_length), loss__db);
+	}
+
+	/** View of one row of the last dimension, sharing the storage of the field
+	 *
+	 * @param row Offset of the first element of the row divided by the length of the last dimension
+	 */
+	public FloatBuffer row(long row) {
+		if(row < 0 || row >= size/row_length) throw new IndexOutOfBoundsException("Row " + row + " outside field of " + size/row_length);
+
+		int from = (int)((row % chunk_rows)*row_length);
+		FloatBuffer view = floats[(int)(row/chunk_rows)].duplicate();
+		view.position(from).limit(from + row_length);
+		return view.slice();
+	}
+
+
+	/** Fill every row in parallel
+	 *
+	 * Each thread computes rows into its own array, which is then copied into the field in one bulk transfer.
+	 */
+	public void fillRows(RowFiller filler) {
+		int leading = shape.length-1;
+		ThreadLocal<float[]> scratch = ThreadLocal.withInitial(() -> new float[row_length]);
+
+		LongStream.range(0, size/row_length).parallel().forEach(r -> {
+			// <<Step 1>> Indices of the row, last dimension first
+			int[] index = new int[leading];
+			long rest = r;
+			for(int i=leading-1; i>=0; --i) {
+				index[i] = (int)(rest % shape[i]);
+				rest /= shape[i];
+			}
+
+			// <<Step 2>> Compute and store
+			float[] row = scratch.get();
+			filler.fill(index, row);
+			row(r).put(row);
+		});
+	}
+
+	/** Write the field in the file layout of create
+	 *
+	 * The storage is handed to the channel as is, without an intermediate copy on the heap.
+	 *
+	 * @return Bytes written
+	 */
+	public long writeTo(WritableByteChannel channel) throws IOException {
+		long written = 0;
+		ByteBuffer header = header(shape);
+		while(header.hasRemaining()) written += channel.write(header);
+
+		for(ByteBuffer chunk : chunks) {
+			ByteBuffer view = chunk.duplicate();
+			view.clear();
+			while(view.hasRemaining()) written += channel.write(view);
+		}
+		return written;
+	}
+
+	/** Flush the changes of a mapped field to its file. Does nothing for a field in direct memory */
+	public void force() {
+		if(!mapped) return;
+		for(ByteBuffer chunk : chunks) if(!chunk.isReadOnly()) ((MappedByteBuffer)chunk).force();
+	}
+
+	@Override
+	public String toString() {
+		return "LossField" + Arrays.toString(shape) + (mapped ? " (mapped)" : " (direct)");
+	}
+
+
+	private static LossField map(FileChannel channel, int[] shape, FileChannel.MapMode mode) throws IOException {
+		long chunk_rows = chunkRows(shape);
+		long row_bytes = (long)shape[shape.length-1]*Float.BYTES;
+		long rows = size(shape)/shape[shape.length-1];
+
+		ByteBuffer[] chunks = new ByteBuffer[(int)((rows + chunk_rows - 1)/chunk_rows)];
+		for(int i=0; i<chunks.length; ++i) {
+			long bytes = Math.min(chunk_rows, rows - i*chunk_rows) * row_bytes;
+			chunks[i] = channel.map(mode, HEADER_BYTES + i*chunk_rows*row_bytes, bytes).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new LossField(shape, chunks, chunk_rows, true);
+	}
+
+	private static ByteBuffer header(int[] shape) {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC).putInt(VERSION).putInt(shape.length);
+		for(int length : shape) header.putInt(length);
+		header.clear();
+		return header;
+	}
+
+	/** Copy of a shape after checking it. The rank is limited by the header */
+	private static int[] check(int[] shape) {
+		if(shape.length < 1 || 12 + 4*shape.length > HEADER_BYTES)
+			throw new IllegalArgumentException("Rank must be between 1 and " + (HEADER_BYTES-12)/4);
+		for(int length : shape)
+			if(length <= 0) throw new IllegalArgumentException("Dimensions must be positive: " + Arrays.toString(shape));
+
+		long size = 1;
+		for(int length : shape) {
+			if(size > Long.MAX_VALUE/Float.BYTES/length) throw new IllegalArgumentException("Field too large: " + Arrays.toString(shape));
+			size *= length;
+		}
+		chunkRows(shape);
+		return shape.clone();
+	}
+
+	/** Rows of the last dimension per chunk */
+	private static long chunkRows(int[] shape) {
+		long row_bytes = (long)shape[shape.length-1]*Float.BYTES;
+		if(row_bytes > MAX_CHUNK_BYTES) throw new IllegalArgumentException("Last dimension exceeds " + MAX_CHUNK_BYTES/Float.BYTES + " elements");
+		return MAX_CHUNK_BYTES/row_bytes;
+	}
+
+	private static long[] strides(int[] shape) {
+		long[] strides = new long[shape.length];
+		long stride = 1;
+		for(int i=shape.length-1; i>=0; --i) {
+			strides[i] = stride;
+			stride *= shape[i];
+		}
+		return strides;
+	}
+
+	private static long size(int[] shape) {
+		long size = 1;
+		for(int length : shape) size *= length;
+		return size;
+	}
+}
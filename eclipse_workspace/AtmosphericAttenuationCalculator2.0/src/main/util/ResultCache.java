@@ -0,0 +1,319 @@
+package main.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+/** Persistent cache of model results in a memory-mapped file, shared by every process of a host
+ *
+ * The file is an open-addressing hash table of fixed 128-byte slots. A slot holds up to MAX_KEYS inputs and MAX_VALUES outputs,
+ * stored as doubles and compared bit for bit, under a 64-bit namespace naming the model, its version and every setting the
+ * result depends on (see namespace). Bumping the version of a model retires its old entries without touching the file.
+ *
+ * Lookups probe PROBE_LENGTH slots from the hash of the key and never lock. Each slot carries a sequence number that writers make
+ * odd while they change it, so readers in any process discard a slot caught mid-write. Writers serialize through a lock on the
+ * file header. When every probed slot is taken, the oldest of them is overwritten: the table never grows past the size it was
+ * created with.
+ *
+ * @author Collin Thornton
+ * @note An existing file keeps the capacity it was created with. Results are lost only on eviction; call force to flush them
+ * 		to disk ahead of the operating system
+ * @note Open each file once per process and share the instance: file locks are held per process, so a second instance in the
+ * 		same process cannot write alongside the first
+ */
+public final class ResultCache {
+	/** Largest number of inputs and outputs of one entry */
+	public static final int MAX_KEYS = 6, MAX_VALUES = 6;
+	/** Slots searched for a key */
+	public static final int PROBE_LENGTH = 16;
+
+	private static final long MAGIC = 0x5243414348453031L;	// "RCACHE01"
+	private static final int FORMAT = 1;
+	private static final int HEADER_BYTES = 128;
+	private static final int SLOT_BYTES = 128;
+
+	// Slot layout (bytes): sequence, counts of keys and values (0 when empty), namespace, stamp, keys, values
+	private static final int SEQUENCE = 0, COUNTS = 4, NAMESPACE = 8, STAMP = 16, KEYS = 24, VALUES = KEYS + 8*MAX_KEYS;
+	// Header layout (bytes): magic, format, capacity, stamp of the last write
+	private static final int HEADER_FORMAT = 8, HEADER_CAPACITY = 12, HEADER_STAMP = 16;
+
+	private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private final FileChannel channel;
+	private final MappedByteBuffer table;
+	private final int capacity;
+	private final ReentrantLock write_lock = new ReentrantLock();
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+
+	private ResultCache(FileChannel channel, MappedByteBuffer table, int capacity) {
+		this.channel = channel;
+		this.table = table;
+		this.capacity = capacity;
+	}
+
+
+	/** Open a cache file, creating it when it does not exist or is empty
+	 *
+	 * @param file File of the cache
+	 * @param max_bytes Size of a new file, which bounds the number of entries (bytes)
+	 * @throws IllegalArgumentException if max_bytes holds fewer than PROBE_LENGTH slots or exceeds 2 GB
+	 * @throws IOException if the file exists but is not a cache of this format
+	 */
+	public static ResultCache open(Path file, long max_bytes) throws IOException {
+		long slots = (max_bytes - HEADER_BYTES)/SLOT_BYTES;
+		if(slots < PROBE_LENGTH || max_bytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Cache size must be between "
+				+ (HEADER_BYTES + PROBE_LENGTH*SLOT_BYTES) + " bytes and 2 GB");
+
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			int capacity;
+			FileLock lock = channel.lock(0, HEADER_BYTES, false);
+			try {
+				capacity = (channel.size() == 0) ? initialize(channel, (int)slots) : readHeader(channel, file);
+			} finally {
+				lock.release();
+			}
+			MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long)capacity*SLOT_BYTES);
+			table.order(ByteOrder.LITTLE_ENDIAN);
+			return new ResultCache(channel, table, capacity);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/** Namespace of the entries of a model
+	 *
+	 * @param model Name of the model or intermediate result
+	 * @param version Version of the model, to be bumped whenever its results change
+	 * @param variant Discrete settings, e.g. the accuracy tier
+	 * @param parameters Continuous settings, e.g. the constants of the environment
+	 */
+	public static long namespace(String model, int version, String variant, double... parameters) {
+		// FNV-1a over every field, then a final avalanche
+		long hash = 0xcbf29ce484222325L;
+		for(byte b : (model + '\u0000' + variant).getBytes(StandardCharsets.UTF_8)) hash = (hash ^ (b & 0xff))*0x100000001b3L;
+		hash = (hash ^ version)*0x100000001b3L;
+		for(double p : parameters) hash = (hash ^ Double.doubleToLongBits(p))*0x100000001b3L;
+		return mix(hash);
+	}
+
+
+	public int capacity() { return capacity; }
+
+	public long hits() { return hits.sum(); }
+
+	public long misses() { return misses.sum(); }
+
+
+	/** Look up the outputs of a key
+	 *
+	 * @param values Receives the outputs on a hit. At least as long as the stored outputs
+	 * @return Number of outputs, 0 on a miss
+	 */
+	public int get(long namespace, double[] keys, double[] values) {
+		checkKeys(keys);
+		int start = slot(namespace, keys);
+		for(int probe=0; probe<PROBE_LENGTH; ++probe) {
+			int base = HEADER_BYTES + ((start + probe) % capacity)*SLOT_BYTES;
+
+			int sequence = (int)INT.getAcquire(table, base + SEQUENCE);
+			if((sequence & 1) != 0) continue;
+			int counts = table.getInt(base + COUNTS);
+			if(counts == 0) break;
+			if(!matches(base, counts, namespace, keys)) continue;
+
+			int n = counts & 0xff;
+			for(int i=0; i<n; ++i) values[i] = table.getDouble(base + VALUES + 8*i);
+
+			// The copy holds only if no writer touched the slot meanwhile
+			VarHandle.loadLoadFence();
+			if((int)INT.getVolatile(table, base + SEQUENCE) != sequence) continue;
+			hits.increment();
+			return n;
+		}
+		misses.increment();
+		return 0;
+	}
+
+	/** Store the outputs of a key, replacing an entry of the same key or evicting the oldest probed entry
+	 *
+	 * @throws IllegalArgumentException if there are more than MAX_KEYS inputs or the outputs are empty or more than MAX_VALUES
+	 */
+	public void put(long namespace, double[] keys, double[] values) {
+		checkKeys(keys);
+		if(values.length == 0 || values.length > MAX_VALUES) throw new IllegalArgumentException("Entries hold 1 to " + MAX_VALUES + " outputs");
+
+		int start = slot(namespace, keys);
+		write_lock.lock();
+		try {
+			FileLock lock = channel.lock(0, HEADER_BYTES, false);
+			try {
+				// <<Step 1>> Slot of the key, else the first empty slot, else the oldest
+				int target = -1;
+				long oldest = Long.MAX_VALUE;
+				for(int probe=0; probe<PROBE_LENGTH; ++probe) {
+					int base = HEADER_BYTES + ((start + probe) % capacity)*SLOT_BYTES;
+					int counts = table.getInt(base + COUNTS);
+					if(counts == 0 || matches(base, counts, namespace, keys)) {
+						target = base;
+						break;
+					}
+					long stamp = table.getLong(base + STAMP);
+					if(stamp < oldest) {
+						oldest = stamp;
+						target = base;
+					}
+				}
+
+				// <<Step 2>> Rewrite the slot with its sequence odd
+				long stamp = table.getLong(HEADER_STAMP) + 1;
+				table.putLong(HEADER_STAMP, stamp);
+
+				// Cleared low bit: a writer that died mid-write must not flip the parity of the slot
+				int sequence = table.getInt(target + SEQUENCE) & ~1;
+				INT.setVolatile(table, target + SEQUENCE, sequence + 1);
+				table.putLong(target + NAMESPACE, namespace);
+				table.putLong(target + STAMP, stamp);
+				for(int i=0; i<MAX_KEYS; ++i) table.putDouble(target + KEYS + 8*i, (i < keys.length) ? keys[i] : 0.0);
+				for(int i=0; i<MAX_VALUES; ++i) table.putDouble(target + VALUES + 8*i, (i < values.length) ? values[i] : 0.0);
+				table.putInt(target + COUNTS, (keys.length << 8) | values.length);
+				INT.setRelease(table, target + SEQUENCE, sequence + 2);
+			} finally {
+				lock.release();
+			}
+		} catch(IOException e) {
+			throw new IllegalStateException("Cannot lock the cache file", e);
+		} finally {
+			write_lock.unlock();
+		}
+	}
+
+	/** Single output of a key, computed and stored on a miss */
+	public double computeIfAbsent(long namespace, double[] keys, DoubleSupplier compute) {
+		double[] value = new double[MAX_VALUES];
+		if(get(namespace, keys, value) == 1) return value[0];
+
+		value[0] = compute.getAsDouble();
+		put(namespace, keys, new double[] { value[0] });
+		return value[0];
+	}
+
+	/** Flush the entries to disk */
+	public void force() { table.force(); }
+
+
+	private static int initialize(FileChannel channel, int capacity) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		header.putLong(MAGIC).putInt(HEADER_FORMAT, FORMAT).putInt(HEADER_CAPACITY, capacity).putLong(HEADER_STAMP, 0L);
+		header.clear();
+		while(header.hasRemaining()) channel.write(header, header.position());
+		// Extend to the full table; the slots read as empty
+		channel.write(ByteBuffer.allocate(1), HEADER_BYTES + (long)capacity*SLOT_BYTES - 1);
+		return capacity;
+	}
+
+	private static int readHeader(FileChannel channel, Path file) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		while(header.hasRemaining() && channel.read(header, header.position()) >= 0);
+		if(header.position() < HEADER_BYTES || header.getLong(0) != MAGIC || header.getInt(HEADER_FORMAT) != FORMAT)
+			throw new IOException(file + " is not a result cache of format " + FORMAT);
+
+		int capacity = header.getInt(HEADER_CAPACITY);
+		if(capacity < PROBE_LENGTH || channel.size() < HEADER_BYTES + (long)capacity*SLOT_BYTES)
+			throw new IOException(file + " is truncated");
+		return capacity;
+	}
+
+	private boolean matches(int base, int counts, long namespace, double[] keys) {
+		if((counts >>> 8) != keys.length || table.getLong(base + NAMESPACE) != namespace) return false;
+		for(int i=0; i<keys.length; ++i)
+			if(Double.doubleToRawLongBits(table.getDouble(base + KEYS + 8*i)) != Double.doubleToRawLongBits(keys[i])) return false;
+		return true;
+	}
+
+	private int slot(long namespace, double[] keys) {
+		long hash = namespace;
+		for(double key : keys) hash = mix(hash ^ Double.doubleToRawLongBits(key));
+		return (int)Long.remainderUnsigned(hash, capacity);
+	}
+
+	private static void checkKeys(double[] keys) {
+		if(keys.length > MAX_KEYS) throw new IllegalArgumentException("Entries hold at most " + MAX_KEYS + " inputs");
+	}
+
+	/** Finalizer of MurmurHash3 */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9e62e1a85ecL;
+		return h ^ (h >>> 33);
+	}
+
+
+	/** Smoke check of two processes sharing a cache file. This process and a child JVM both read and write entries whose outputs
+	 * are multiples of their key; a hit with any other outputs is a torn read. Exits non-zero when either process sees one
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if(args.length == 2) {
+			System.exit(stress(open(Path.of(args[0]), HEADER_BYTES + 4096*SLOT_BYTES), Long.parseLong(args[1])) == 0 ? 0 : 1);
+		}
+
+		Path file = Files.createTempFile("result-cache", ".bin");
+		try {
+			ResultCache cache = open(file, HEADER_BYTES + 4096*SLOT_BYTES);
+
+			List<String> command = new ArrayList<>();
+			command.add(ProcessHandle.current().info().command().orElse("java"));
+			Module module = ResultCache.class.getModule();
+			if(module.isNamed()) Collections.addAll(command, "-p", System.getProperty("jdk.module.path"), "-m", module.getName() + "/" + ResultCache.class.getName());
+			else Collections.addAll(command, "-cp", System.getProperty("java.class.path"), ResultCache.class.getName());
+			Collections.addAll(command, file.toString(), "2");
+			Process child = new ProcessBuilder(command).inheritIO().start();
+
+			int torn = stress(cache, 1);
+			int status = child.waitFor();
+			System.out.format("Torn reads %d, child exit %d, hits %d, misses %d%n", torn, status, cache.hits(), cache.misses());
+			if(torn != 0 || status != 0) System.exit(1);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	// Random mix of puts and gets over 3000 keys, returning the number of torn reads
+	private static int stress(ResultCache cache, long seed) {
+		long namespace = namespace("stress", 1, "");
+		Random random = new Random(seed);
+		double[] values = new double[MAX_VALUES];
+		int torn = 0;
+		for(int i=0; i<400000; ++i) {
+			double key = random.nextInt(3000);
+			if(random.nextBoolean()) cache.put(namespace, new double[] { key }, new double[] { key, 2*key, 3*key, 4*key, 5*key, 6*key });
+			else if(cache.get(namespace, new double[] { key }, values) != 0) {
+				for(int j=0; j<MAX_VALUES; ++j) if(values[j] != (j+1)*key) {
+					++torn;
+					break;
+				}
+			}
+		}
+		return torn;
+	}
+}
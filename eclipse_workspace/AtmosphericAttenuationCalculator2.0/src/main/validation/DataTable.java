@@ -0,0 +1,205 @@
+package main.validation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/** Numeric columns of a data set, read from a CSV file or a sheet of an .xlsx workbook
+ *
+ * The first row holds the column names. Every other cell is parsed as a number; empty or missing cells are NaN.
+ *
+ * @author Collin Thornton
+ * @note CSV lines starting with '#' are comments. Workbooks are read with the JDK alone: the sheet is located by its part
+ * 		name (xl/worksheets/sheetN.xml), which is how Excel names the sheets of the shipped workbooks
+ */
+public final class DataTable {
+	private final String[] names;
+	private final double[][] columns;
+
+	private DataTable(String[] names, double[][] columns) {
+		this.names = names;
+		this.columns = columns;
+	}
+
+
+	/** Read a CSV file, or the first sheet of an .xlsx workbook */
+	public static DataTable load(Path file) throws IOException {
+		return load(file, 1);
+	}
+
+	/** Read a CSV file, or a sheet of an .xlsx workbook
+	 *
+	 * @param sheet Number of the sheet, from 1. Ignored for CSV files
+	 */
+	public static DataTable load(Path file, int sheet) throws IOException {
+		if(file.getFileName().toString().toLowerCase().endsWith(".xlsx")) return readWorkbook(file, sheet);
+		return readCsv(file);
+	}
+
+
+	public int rows() { return columns.length == 0 ? 0 : columns[0].length; }
+
+	public String[] names() { return names.clone(); }
+
+	/** Column by its name in the first row
+	 *
+	 * @throws IllegalArgumentException if no column has the name
+	 */
+	public double[] column(String name) {
+		for(int i=0; i<names.length; ++i)
+			if(names[i].equals(name)) return columns[i];
+		throw new IllegalArgumentException("No column named " + name + " in " + Arrays.toString(names));
+	}
+
+
+	private static DataTable readCsv(Path file) throws IOException {
+		String[] names = null;
+		List<double[]> rows = new ArrayList<>();
+
+		try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while((line = reader.readLine()) != null) {
+				if(line.isBlank() || line.startsWith("#")) continue;
+
+				String[] cells = line.split(",", -1);
+				if(names == null) {
+					names = new String[cells.length];
+					for(int i=0; i<cells.length; ++i) names[i] = cells[i].trim();
+					continue;
+				}
+
+				double[] row = new double[names.length];
+				for(int i=0; i<row.length; ++i) row[i] = (i < cells.length) ? parse(cells[i]) : Double.NaN;
+				rows.add(row);
+			}
+		}
+		if(names == null) throw new IOException("No header row in " + file);
+		return fromRows(names, rows);
+	}
+
+	private static DataTable readWorkbook(Path file, int sheet) throws IOException {
+		try(ZipFile zip = new ZipFile(file.toFile())) {
+			List<String> strings = new ArrayList<>();
+			ZipEntry shared = zip.getEntry("xl/sharedStrings.xml");
+			if(shared != null) {
+				try(InputStream in = zip.getInputStream(shared)) { readSharedStrings(in, strings); }
+			}
+
+			ZipEntry entry = zip.getEntry("xl/worksheets/sheet" + sheet + ".xml");
+			if(entry == null) throw new IOException("No sheet " + sheet + " in " + file);
+
+			List<String[]> cells = new ArrayList<>();
+			try(InputStream in = zip.getInputStream(entry)) { readSheet(in, strings, cells); }
+			if(cells.isEmpty()) throw new IOException("Sheet " + sheet + " of " + file + " is empty");
+
+			String[] header = cells.get(0);
+			String[] names = new String[header.length];
+			for(int i=0; i<names.length; ++i) names[i] = (header[i] == null) ? "" : header[i].trim();
+
+			List<double[]> rows = new ArrayList<>(cells.size()-1);
+			for(int r=1; r<cells.size(); ++r) {
+				String[] text = cells.get(r);
+				double[] row = new double[names.length];
+				for(int i=0; i<row.length; ++i) row[i] = (i < text.length && text[i] != null) ? parse(text[i]) : Double.NaN;
+				rows.add(row);
+			}
+			return fromRows(names, rows);
+		} catch(XMLStreamException e) {
+			throw new IOException("Malformed workbook " + file, e);
+		}
+	}
+
+	private static void readSharedStrings(InputStream in, List<String> strings) throws XMLStreamException {
+		XMLStreamReader xml = XMLInputFactory.newInstance().createXMLStreamReader(in);
+		StringBuilder text = null;
+		while(xml.hasNext()) {
+			int event = xml.next();
+			if(event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("si")) text = new StringBuilder();
+			else if(event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("t") && text != null) text.append(xml.getElementText());
+			else if(event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("si")) {
+				strings.add(text.toString());
+				text = null;
+			}
+		}
+		xml.close();
+	}
+
+	/** Cell text of every row in sheet order. Shared strings are resolved, rows missing from the sheet are left out */
+	private static void readSheet(InputStream in, List<String> strings, List<String[]> rows) throws XMLStreamException {
+		XMLStreamReader xml = XMLInputFactory.newInstance().createXMLStreamReader(in);
+		List<String> row = null;
+		int column = -1;
+		String type = null;
+
+		while(xml.hasNext()) {
+			int event = xml.next();
+			if(event == XMLStreamConstants.START_ELEMENT) {
+				switch(xml.getLocalName()) {
+				case "row":
+					row = new ArrayList<>();
+					break;
+				case "c":
+					column = columnIndex(xml.getAttributeValue(null, "r"), row.size());
+					type = xml.getAttributeValue(null, "t");
+					break;
+				case "v":
+				case "t":
+					String value = xml.getElementText();
+					if("s".equals(type)) value = strings.get(Integer.parseInt(value.trim()));
+					while(row.size() <= column) row.add(null);
+					row.set(column, value);
+					break;
+				default:
+					break;
+				}
+			}
+			else if(event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("row")) {
+				rows.add(row.toArray(new String[0]));
+				row = null;
+			}
+		}
+		xml.close();
+	}
+
+	/** Zero-based column of a cell reference such as "AB12", or next when the reference is absent */
+	private static int columnIndex(String reference, int next) {
+		if(reference == null) return next;
+
+		int column = 0;
+		for(int i=0; i<reference.length() && Character.isLetter(reference.charAt(i)); ++i)
+			column = 26*column + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+		return column - 1;
+	}
+
+	private static double parse(String cell) {
+		String text = cell.trim();
+		if(text.isEmpty()) return Double.NaN;
+		try {
+			return Double.parseDouble(text);
+		} catch(NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	private static DataTable fromRows(String[] names, List<double[]> rows) {
+		double[][] columns = new double[names.length][rows.size()];
+		for(int r=0; r<rows.size(); ++r) {
+			double[] row = rows.get(r);
+			for(int i=0; i<names.length; ++i) columns[i][r] = row[i];
+		}
+		return new DataTable(names, columns);
+	}
+}
@@ -0,0 +1,577 @@
+package main.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+import main.AccuracyTier;
+import main.LinkLossCalculator;
+import main.blake.AtmosphericAbsorption;
+import main.p528.AtmosphericAttenuationCalculator;
+import main.p528.CurveSet;
+import main.p528.P528Environment;
+import main.p676.LineByLineCalculator;
+import main.util.ResultCache;
+
+/** Regression harness validating every AccuracyTier against the shipped reference data sets
+ *
+ * Each data set is evaluated at every tier, rows in parallel. Per model, region of the parameter space and tier, two errors are
+ * reported: the deviation from the data set (fidelity of the model) and the deviation from the REFERENCE tier at the same points
+ * (the error the optimization adds, checked against the tier's bound). The fidelity of the REFERENCE tier is checked against the
+ * error budget recorded in BUDGET, so a change to a model itself fails the run as soon as it moves away from the data. A row the
+ * model cannot evaluate fails the run at any tier. Regions where the model is known to disagree with the data are recorded as
+ * known fidelity failures: they are reported as KNOWN rather than PASS, and still fail the run when the error grows.
+ *
+ * The optimized modes without a tier are checked the same way: the P.528 curve set at its nodes and cached results of P.528
+ * and Blake against the direct REFERENCE computation, the single-precision weather kernel against its double path, and the
+ * line-by-line P.676 engine against the Blake zenith losses, with an error budget of its own.
+ *
+ * Usage: GoldenReference [data directory]. The default is resources/data relative to the Eclipse project.
+ * Exits with status 1 when a tier or mode exceeds its bound or a model its budget, and 2 when a data set cannot be read.
+ *
+ * @author Collin Thornton
+ * @note Data sets: Blake sea-level coefficients and coefficients vs altitude (integrated into zenith losses), the P.528
+ * 		line-of-sight sweeps at 5 GHz and 1 km, and a CSV export of the U.S. reference implementation of P.528
+ * 		(p528_reference_los.csv). P.528 points inside a multipath null (more than 20 dB from free space) are excluded from the
+ * 		tier bound, but not from the fidelity statistics. Record a new budget only with a change that is meant to alter a model
+ * @note The curve set is generated on the axes of p528_reference_los.csv, so every row is a node and the check covers its
+ * 		storage and indexing. Between nodes its interpolation has no bound in the line-of-sight region (see AccuracyTier)
+ */
+public class GoldenReference {
+	/** Time percentage of the line-of-sight sweeps. The sheets do not record it; it is the one used by the P.528 main */
+	private static final double LOS_SHEET_Q = 0.99;
+
+	/** Rows of the altitude sheet between zenith targets (10 m each) */
+	private static final int ZENITH_STEP = 100;
+
+	/** P.528 points more than this far from free space are inside a multipath null (dB) */
+	private static final double NULL_DEPTH__DB = 20.0;
+
+	/** Largest deviation of the single-precision weather kernel from the double path at the same tier (dB) */
+	private static final double FLOAT_BOUND__DB = 0.01;
+
+	/** Largest deviation of the curve set from REFERENCE at its nodes: the rounding of the losses to float (dB) */
+	private static final double CURVE_BOUND__DB = 1e-4;
+
+	/** Tier column of the models that are not tiered. Their fidelity is checked against BUDGET like the REFERENCE tier */
+	private static final String UNTIERED = "untiered";
+
+	/** Errors of one model, region and tier */
+	private static final class Stats {
+		int n, missing, excluded;
+		double max_data, sum_sq_data, max_reference;
+
+		/** Row where the model has no value although the data set has one */
+		void miss() { ++missing; }
+
+		/** Row with a value from the model
+		 *
+		 * @param error_reference Deviation from REFERENCE, NaN where REFERENCE has no value
+		 * @param bounded Whether the tier bound applies to the row
+		 */
+		void add(double error_data, double error_reference, boolean bounded) {
+			++n;
+			max_data = Math.max(max_data, Math.abs(error_data));
+			sum_sq_data += error_data*error_data;
+			if(bounded && !Double.isNaN(error_reference)) 	max_reference = Math.max(max_reference, Math.abs(error_reference));
+			else 											++excluded;
+		}
+
+		double rmsData() { return (n == 0) ? 0.0 : Math.sqrt(sum_sq_data/n); }
+	}
+
+	/** Recorded error of the REFERENCE tier against a data set over one region (dB, or dB/km for coefficients) */
+	private static final class Budget {
+		final double max, rms;
+		/** Why the model disagrees with the data over the region, null when it agrees */
+		final String known_failure;
+
+		Budget(double max, double rms, String known_failure) {
+			this.max = max;
+			this.rms = rms;
+			this.known_failure = known_failure;
+		}
+	}
+
+	/** Evaluates the model at one row of a data set */
+	private interface Model {
+		double evaluate(AccuracyTier tier, int row);
+	}
+
+	/** Evaluates the model at one row of a data set through a cache */
+	private interface CachedModel {
+		double evaluate(ResultCache cache, int row);
+	}
+
+	/** Whether the tier bound applies at a row, given the REFERENCE value there */
+	private interface Bounded {
+		boolean test(int row, double reference);
+	}
+
+
+	/** Known fidelity failure of the P.528 line-of-sight region, present since the baseline port */
+	private static final String P528_LOBING = "The line-of-sight loss of this port lobes away from the data by tens of dB, as in the "
+			+ "baseline port: its multipath nulls fall at other distances and heights than those of the reference implementation";
+
+	/** Error budget of the models against the data sets, by model and region. Recorded from the REFERENCE tier; a run fails when
+	 * the error over a region grows past it. Values are rounded up to 4 significant digits
+	 */
+	private static final Map<String, Budget> BUDGET = new LinkedHashMap<>();
+	static {
+		budget("Blake sea level (dB/km)", "f < 1 GHz", 4.091e-05, 2.089e-05);
+		budget("Blake sea level (dB/km)", "f 1-6 GHz", 7.258e-05, 1.517e-05);
+		budget("Blake sea level (dB/km)", "f 6-20 GHz", 4.887e-07, 2.917e-07);
+		budget("Blake sea level (dB/km)", "f >= 20 GHz", 4.998e-07, 2.889e-07);
+		budget("Blake zenith loss", "0.1 GHz", 2.567e-06, 2.372e-06);
+		budget("Blake zenith loss", "0.3 GHz", 2.263e-05, 2.151e-05);
+		budget("Blake zenith loss", "1.0 GHz", 0.0002324, 0.0002254);
+		budget("Blake zenith loss", "3.0 GHz", 1.667e-05, 1.521e-05);
+		budget("Blake zenith loss", "10.0 GHz", 2.93e-05, 2.727e-05);
+		budget("Blake zenith loss", "15.0 GHz", 5.78e-05, 5.458e-05);
+		budget("Blake zenith loss", "32.5 GHz", 0.000178, 0.000169);
+		knownFailure("P.528 LOS sheet, 5 GHz", "d < 10 km", 7.892, 3.721, P528_LOBING);
+		knownFailure("P.528 LOS sheet, 5 GHz", "d 10-50 km", 37.7, 18.04, P528_LOBING);
+		knownFailure("P.528 LOS sheet, 5 GHz", "d >= 50 km", 57.72, 15.12, P528_LOBING);
+		budget("P.676 line-by-line zenith", "1.0 GHz", 0.0109, 0.009416);
+		budget("P.676 line-by-line zenith", "3.0 GHz", 0.01512, 0.01337);
+		budget("P.676 line-by-line zenith", "10.0 GHz", 0.01665, 0.01494);
+		budget("P.676 line-by-line zenith", "15.0 GHz", 0.02302, 0.02126);
+		budget("P.676 line-by-line zenith", "32.5 GHz", 0.0277, 0.02208);
+		budget("P.528 LOS sheet, 1 km", "f < 1 GHz", 0.0004703, 0.0002998);
+		budget("P.528 LOS sheet, 1 km", "f 1-6 GHz", 0.00059, 0.0002914);
+		budget("P.528 LOS sheet, 1 km", "f 6-20 GHz", 0.0005, 0.0002948);
+		knownFailure("P.528 reference code", "f < 1 GHz", 66.79, 18.36, P528_LOBING);
+		knownFailure("P.528 reference code", "f 1-6 GHz", 72.95, 19.23, P528_LOBING);
+		knownFailure("P.528 reference code", "f 6-20 GHz", 79.43, 18.8, P528_LOBING);
+	}
+
+
+	private final Map<String, Stats> stats = new LinkedHashMap<>();
+	private final Map<String, Double> bounds = new LinkedHashMap<>();
+	private int failures, known_failures;
+
+
+	public static void main(String[] args) {
+		Path directory = (args.length > 0) ? Paths.get(args[0]) : Paths.get("..", "..", "resources", "data");
+
+		GoldenReference harness = new GoldenReference();
+		try {
+			harness.blakeSeaLevel(directory.resolve("blake_atmospheric_plots_sea_level.xlsx"));
+			harness.blakeZenith(directory.resolve("blake_atmospheric_plots_attenuation_vs_altitude.xlsx"));
+			harness.losDistanceSweep(directory.resolve("los_plots_lt_300m_ht_500m_f_5ghz.xlsx"));
+			harness.losFrequencySweep(directory.resolve("los_plots_lt_300m_ht_500m_d_1km_HIGH_RES.xlsx"));
+			harness.p528Reference(directory.resolve("p528_reference_los.csv"));
+			harness.p528CurveSet(directory.resolve("p528_reference_los.csv"));
+			harness.p528Cached(directory.resolve("p528_reference_los.csv"));
+			harness.singlePrecision();
+			harness.blakeCached();
+		} catch(IOException e) {
+			System.out.println("Error reading data set: " + e.getMessage());
+			System.exit(2);
+		}
+
+		harness.print();
+		if(harness.failures > 0) {
+			System.out.println(harness.failures + " check(s) exceeded the error bound of their tier or the error budget of their model");
+			System.exit(1);
+		}
+		if(harness.known_failures > 0)
+			System.out.println("Every tier and mode is within its error bound and no model has moved past its error budget, but "
+					+ harness.known_failures + " row(s) are known fidelity failures of their model (KNOWN)");
+		else System.out.println("Every tier and mode is within its error bound and every model within its error budget");
+	}
+
+
+	/** Blake absorption coefficient at sea level vs frequency (dB/km). Reported only: the tier bounds are path losses */
+	private void blakeSeaLevel(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] f = data.column("a");
+		double[] golden = data.column("Attenuation");
+
+		evaluate("Blake sea level (dB/km)", golden, row -> frequencyBand(f[row]), null, null,
+				(tier, row) -> AtmosphericAbsorption.computeAbsorptionCoefficient(tier, 0.0, f[row]));
+	}
+
+	/** 2-way Blake loss of zenith paths, against the coefficients vs altitude integrated by the trapezoidal rule */
+	private void blakeZenith(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] altitude__m = data.column("a");
+
+		for(String name : data.names()) {
+			if(!name.endsWith("GHz")) continue;
+			double f__ghz = Double.parseDouble(name.substring(0, name.length()-3).trim());
+			double[] gamma = data.column(name);
+
+			// Cumulative 2-way loss from the first altitude of the sheet to every STEP-th one
+			double h_surface__km = altitude__m[0]/1000.0;
+			int targets = 0;
+			double[] golden = new double[altitude__m.length/ZENITH_STEP];
+			double[] h_high__km = new double[golden.length];
+			double sum = 0.0;
+			for(int i=1; i<altitude__m.length && !Double.isNaN(altitude__m[i]); ++i) {
+				sum += (altitude__m[i]-altitude__m[i-1])*0.5*(gamma[i]+gamma[i-1])/1000.0;
+				if(i % ZENITH_STEP == 0) {
+					golden[targets] = 2.0*sum;
+					h_high__km[targets++] = altitude__m[i]/1000.0 - h_surface__km;
+				}
+			}
+
+			evaluate("Blake zenith loss", Arrays.copyOf(golden, targets), row -> name, tier -> tier.blake_bound__db, null,
+					(tier, row) -> AtmosphericAbsorption.computeAtmosphericLossCosKnown(tier, h_surface__km, h_high__km[row], 0.0, f__ghz));
+
+			// The line-by-line engine covers 1 - 1000 GHz
+			if(f__ghz >= 1.0) {
+				LineByLineCalculator.Path[] paths = new LineByLineCalculator.Path[targets];
+				for(int row=0; row<targets; ++row) paths[row] = LineByLineCalculator.DEFAULT.path(h_surface__km, h_surface__km + h_high__km[row], Math.PI/2.0);
+
+				untiered("P.676 line-by-line zenith", Arrays.copyOf(golden, targets), row -> name,
+						row -> LineByLineCalculator.DEFAULT.attenuation(paths[row], f__ghz));
+			}
+		}
+	}
+
+	/** P.528 loss vs distance at 5 GHz, terminals at 0.3 and 0.5 km */
+	private void losDistanceSweep(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] d = data.column("d");
+
+		p528("P.528 LOS sheet, 5 GHz", data.column("A"), row -> distanceBand(d[row]),
+				row -> 5.0, row -> 0.3, row -> 0.5, row -> LOS_SHEET_Q, row -> d[row]);
+	}
+
+	/** P.528 loss vs frequency at 1 km, terminals at 0.3 and 0.5 km */
+	private void losFrequencySweep(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] f = data.column("f");
+
+		p528("P.528 LOS sheet, 1 km", data.column("A"), row -> frequencyBand(f[row]),
+				row -> f[row], row -> 0.3, row -> 0.5, row -> LOS_SHEET_Q, row -> 1.0);
+	}
+
+	/** P.528 loss against the U.S. reference implementation */
+	private void p528Reference(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] d = data.column("d__km");
+		double[] h_1 = data.column("h_1__meter");
+		double[] h_2 = data.column("h_2__meter");
+		double[] f = data.column("f__mhz");
+		double[] q = data.column("time_percentage");
+
+		p528("P.528 reference code", data.column("A__db"), row -> frequencyBand(f[row]/1000.0),
+				row -> f[row]/1000.0, row -> h_1[row]/1000.0, row -> h_2[row]/1000.0, row -> q[row], row -> d[row]);
+	}
+
+	/** P.528 curve set against REFERENCE at the rows of the U.S. reference implementation
+	 *
+	 * The curve set is generated on the distinct heights, frequencies, time percentages and distances of the data set, so every
+	 * row is a node and the deviation is the rounding of the stored losses to float
+	 */
+	private void p528CurveSet(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] d = data.column("d__km");
+		double[] h_1 = Arrays.stream(data.column("h_1__meter")).map(h -> h/1000.0).toArray();
+		double[] h_2 = Arrays.stream(data.column("h_2__meter")).map(h -> h/1000.0).toArray();
+		double[] f = Arrays.stream(data.column("f__mhz")).map(x -> x/1000.0).toArray();
+		double[] q = data.column("time_percentage");
+		double[] golden = data.column("A__db");
+
+		File curves = File.createTempFile("golden-reference", ".p528");
+		try {
+			CurveSet.generate(curves, axis(h_1), axis(h_2), axis(f), axis(q), axis(d));
+			CurveSet set = CurveSet.open(curves);
+
+			int n = d.length;
+			double[] reference = new double[n];
+			IntStream.range(0, n).parallel().forEach(row -> reference[row] =
+					AtmosphericAttenuationCalculator.compute(P528Environment.DEFAULT, f[row], h_1[row], h_2[row], q[row], d[row]));
+
+			for(int row=0; row<n; ++row) {
+				if(!valid(golden[row]) || !valid(reference[row])) continue;
+
+				String key = "P.528 reference code\t" + frequencyBand(f[row]) + "\tcurves";
+				Stats stat = stats.computeIfAbsent(key, k -> new Stats());
+				bounds.put(key, CURVE_BOUND__DB);
+				double value = set.lookup(h_1[row], h_2[row], f[row], q[row], d[row]);
+				if(!valid(value)) stat.miss();
+				else stat.add(value - golden[row], value - reference[row], true);
+			}
+		} finally {
+			Files.deleteIfExists(curves.toPath());
+		}
+	}
+
+	/** Cached P.528 losses against the direct REFERENCE computation, at the rows of the U.S. reference implementation
+	 *
+	 * Every row is evaluated twice through a fresh cache file: once computing and storing the loss, once reading it back. Both
+	 * must reproduce the direct computation bit for bit, and the second pass must not miss
+	 */
+	private void p528Cached(Path file) throws IOException {
+		DataTable data = DataTable.load(file);
+		double[] d = data.column("d__km");
+		double[] h_1 = data.column("h_1__meter");
+		double[] h_2 = data.column("h_2__meter");
+		double[] f = data.column("f__mhz");
+		double[] q = data.column("time_percentage");
+		double[] golden = data.column("A__db");
+
+		cached("P.528 reference code", AccuracyTier.REFERENCE, golden, row -> frequencyBand(f[row]/1000.0),
+				row -> AtmosphericAttenuationCalculator.compute(P528Environment.DEFAULT, f[row]/1000.0, h_1[row]/1000.0, h_2[row]/1000.0, q[row], d[row]),
+				(cache, row) -> AtmosphericAttenuationCalculator.compute(cache, AccuracyTier.REFERENCE, P528Environment.DEFAULT, f[row]/1000.0,
+						h_1[row]/1000.0, h_2[row]/1000.0, q[row], d[row]).value__db);
+	}
+
+	/** Cached 2-way Blake losses against the direct computation at every tier, on a grid of targets above the horizon */
+	private void blakeCached() throws IOException {
+		List<double[]> targets = new ArrayList<>();
+		for(double f : new double[] { 1.0, 3.0, 10.0 })
+			for(double h_surface__km : new double[] { 0.0, 0.5 })
+				for(double h_high__km = 0.5; h_high__km <= 15.0; h_high__km += 2.5)
+					for(double d__km = 10.0; d__km <= 250.0; d__km += 40.0)
+						targets.add(new double[] { f, h_surface__km, h_high__km, d__km });
+
+		for(AccuracyTier tier : AccuracyTier.values()) {
+			double[] golden = new double[targets.size()];
+			IntToDoubleFunction direct = row -> {
+				double[] t = targets.get(row);
+				try {
+					return AtmosphericAbsorption.computeAtmosphericLoss(tier, t[1], t[2], t[3], t[0]);
+				} catch(IllegalArgumentException e) {
+					return Double.NaN;
+				}
+			};
+			for(int row=0; row<golden.length; ++row) golden[row] = direct.applyAsDouble(row);
+
+			cached("Blake loss", tier, golden, row -> frequencyBand(targets.get(row)[0]), direct, (cache, row) -> {
+				double[] t = targets.get(row);
+				return AtmosphericAbsorption.computeAtmosphericLoss(cache, tier, t[1], t[2], t[3], t[0]);
+			});
+		}
+	}
+
+	/** Evaluate rows at a tier through a fresh cache file, computing then reading back, against the direct computation (bound 0)
+	 *
+	 * @param golden Data set, or the direct computation where the model has no data set. Rows without a value are skipped
+	 */
+	private void cached(String model, AccuracyTier tier, double[] golden, IntFunction<String> region, IntToDoubleFunction direct, CachedModel evaluator)
+			throws IOException {
+		Path file = Files.createTempFile("golden-reference", ".cache");
+		try {
+			// 128-byte header and slots, 8 slots per row so that no entry is evicted between the passes
+			ResultCache cache = ResultCache.open(file, 128 + 128L*8*golden.length);
+			double[] reference = new double[golden.length];
+			IntStream.range(0, golden.length).parallel().forEach(row -> reference[row] = valid(golden[row]) ? direct.applyAsDouble(row) : Double.NaN);
+
+			for(int pass=0; pass<2; ++pass) {
+				long misses = cache.misses();
+				double[] value = new double[golden.length];
+				IntStream.range(0, golden.length).parallel().forEach(row -> value[row] = valid(reference[row]) ? evaluator.evaluate(cache, row) : Double.NaN);
+
+				for(int row=0; row<golden.length; ++row) {
+					if(!valid(reference[row])) continue;
+
+					String key = model + "\t" + region.apply(row) + "\t" + tier + " cached";
+					Stats stat = stats.computeIfAbsent(key, k -> new Stats());
+					bounds.put(key, 0.0);
+					if(!valid(value[row])) stat.miss();
+					else stat.add(value[row] - golden[row], value[row] - reference[row], true);
+				}
+
+				if(pass == 1 && cache.misses() != misses) {
+					System.out.println(model + ": " + (cache.misses() - misses) + " cache miss(es) when reading back");
+					++failures;
+				}
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/** Single-precision weather kernel of LinkLossCalculator against its double path
+	 *
+	 * Both run at AccuracyTier.FAST, whose elevation angles the kernel is fed with, so the deviation is the rounding of the kernel
+	 * alone. Targets span the domain of the Blake bounds, under clouds and light rain
+	 */
+	private void singlePrecision() {
+		String model = "Single-precision weather";
+		double[] f__ghz = { 1.0, 3.0, 5.0, 10.0 };
+		double[] h_surface__ft = { 0.0, 500.0, 2000.0 };
+
+		for(double f : f__ghz) {
+			for(double h_surface : h_surface__ft) {
+				LinkLossCalculator calculator = new LinkLossCalculator(AccuracyTier.FAST, f, h_surface, 40.0, 0.5, 3000.0, 5000.0, 4.0,
+						80.0, 4.0, 0.5);
+
+				// <<Step 1>> Double path, keeping the targets above the horizon of the antenna
+				List<float[]> targets = new ArrayList<>();
+				List<Double> golden = new ArrayList<>();
+				for(int h=1000; h<=50000; h+=7000) {
+					for(int d=5; d<=150; d+=15) {
+						try {
+							LinkLossCalculator.Terms terms = calculator.compute(h, d);
+							targets.add(new float[] { h, d });
+							golden.add(terms.getAtmosphereLoss() + terms.getCloudsLoss() + terms.getRainLoss());
+						} catch(IllegalArgumentException e) {
+							continue;
+						}
+					}
+				}
+
+				// <<Step 2>> Single-precision path
+				int n = targets.size();
+				float[] h_high__ft = new float[n], d__nm = new float[n];
+				for(int i=0; i<n; ++i) {
+					h_high__ft[i] = targets.get(i)[0];
+					d__nm[i] = targets.get(i)[1];
+				}
+				float[] sin = new float[n], cos = new float[n], loss = new float[n];
+				calculator.elevationAngles(h_high__ft, d__nm, sin, cos);
+				calculator.computeWeatherLoss(h_high__ft, sin, cos, loss);
+
+				String key = model + "\t" + frequencyBand(f) + "\tfloat";
+				Stats stat = stats.computeIfAbsent(key, k -> new Stats());
+				bounds.put(key, FLOAT_BOUND__DB);
+				for(int i=0; i<n; ++i) {
+					if(!valid(golden.get(i))) continue;
+					stat.add(loss[i] - golden.get(i), loss[i] - golden.get(i), true);
+				}
+			}
+		}
+	}
+
+	private void p528(String model, double[] golden, IntFunction<String> region, IntToDoubleFunction f, IntToDoubleFunction h_1, IntToDoubleFunction h_2,
+			IntToDoubleFunction q, IntToDoubleFunction d) {
+		// Points beyond line of sight (-999) are skipped by evaluate
+		Bounded outside_null = (row, reference) ->
+			Math.abs(reference - (-32.45 - 20.0*Math.log10(1000.0*f.applyAsDouble(row)*d.applyAsDouble(row)))) <= NULL_DEPTH__DB;
+
+		evaluate(model, golden, region, tier -> tier.p528_bound__db, outside_null, (tier, row) ->
+			AtmosphericAttenuationCalculator.compute(tier, P528Environment.DEFAULT, f.applyAsDouble(row), h_1.applyAsDouble(row), h_2.applyAsDouble(row), q.applyAsDouble(row), d.applyAsDouble(row)).value__db);
+	}
+
+
+	/** Evaluate a data set at every tier and accumulate the errors by region
+	 *
+	 * @param bound Error bound of each tier, null to report only
+	 * @param bounded Rows the bound applies to, null for every row
+	 */
+	private void evaluate(String model, double[] golden, IntFunction<String> region, ToDoubleFunction<AccuracyTier> bound, Bounded bounded, Model evaluator) {
+		AccuracyTier[] tiers = AccuracyTier.values();
+		double[][] values = new double[tiers.length][golden.length];
+
+		for(AccuracyTier tier : tiers) {
+			double[] out = values[tier.ordinal()];
+			IntStream.range(0, golden.length).parallel().forEach(row -> out[row] = evaluator.evaluate(tier, row));
+		}
+
+		double[] reference = values[AccuracyTier.REFERENCE.ordinal()];
+		for(AccuracyTier tier : tiers) {
+			double[] value = values[tier.ordinal()];
+			for(int row=0; row<golden.length; ++row) {
+				if(!valid(golden[row])) continue;
+
+				String key = model + "\t" + region.apply(row) + "\t" + tier;
+				Stats s = stats.computeIfAbsent(key, k -> new Stats());
+				if(bound != null) bounds.put(key, bound.applyAsDouble(tier));
+				if(!valid(value[row])) {
+					s.miss();
+					continue;
+				}
+
+				// Every row counts against the data; only the tier bound skips rows
+				boolean has_reference = valid(reference[row]);
+				s.add(value[row] - golden[row], has_reference ? value[row] - reference[row] : Double.NaN,
+						has_reference && (bounded == null || bounded.test(row, reference[row])));
+			}
+		}
+	}
+
+	/** Evaluate a data set with a model that has no tier and accumulate the errors by region. Checked against BUDGET only */
+	private void untiered(String model, double[] golden, IntFunction<String> region, IntToDoubleFunction evaluator) {
+		double[] value = new double[golden.length];
+		IntStream.range(0, golden.length).parallel().forEach(row -> value[row] = evaluator.applyAsDouble(row));
+
+		for(int row=0; row<golden.length; ++row) {
+			if(!valid(golden[row])) continue;
+
+			Stats s = stats.computeIfAbsent(model + "\t" + region.apply(row) + "\t" + UNTIERED, k -> new Stats());
+			if(!valid(value[row])) s.miss();
+			else s.add(value[row] - golden[row], 0.0, true);
+		}
+	}
+
+	private void print() {
+		System.out.format("%-26s %-12s %-16s %6s %6s %6s  %11s %11s  %11s %9s  %11s %11s  %s%n", "Model", "Region", "Tier", "n", "miss",
+				"nulls", "max |data|", "rms |data|", "max |ref|", "bound", "budget max", "budget rms", "");
+
+		for(Map.Entry<String, Stats> entry : stats.entrySet()) {
+			String[] key = entry.getKey().split("\t");
+			Stats s = entry.getValue();
+			Double bound = bounds.get(entry.getKey());
+			// The fidelity of a model is budgeted at REFERENCE, or once when it has no tier
+			boolean fidelity = key[2].equals(AccuracyTier.REFERENCE.name()) || key[2].equals(UNTIERED);
+			Budget recorded = BUDGET.get(key[0] + "\t" + key[1]);
+			Budget budget = fidelity ? recorded : null;
+
+			// Slack for the last bits of the data set and of the REFERENCE tier itself
+			boolean pass = s.missing == 0;
+			if(bound != null) 	pass &= s.max_reference <= bound + 1e-9;
+			if(budget != null) 	pass &= s.max_data <= budget.max && s.rmsData() <= budget.rms;
+			if(fidelity && budget == null) pass = false;
+			// Every row of a region the model is known to fail is reported as such, whatever the mode
+			boolean known = pass && recorded != null && recorded.known_failure != null;
+			if(!pass) ++failures;
+			if(known) ++known_failures;
+
+			System.out.format("%-26s %-12s %-16s %6d %6d %6d  %11.4g %11.4g  %11.4g %9s  %11s %11s  %s%n", key[0], key[1], key[2], s.n,
+					s.missing, s.excluded, s.max_data, s.rmsData(), s.max_reference, (bound == null) ? "-" : String.format("%.3g", bound),
+					(budget == null) ? "-" : String.format("%.4g", budget.max), (budget == null) ? "-" : String.format("%.4g", budget.rms),
+					known ? "KNOWN" : pass ? "PASS" : "FAIL");
+		}
+
+		// Reasons of the known failures, once each
+		TreeSet<String> reasons = new TreeSet<>();
+		for(Budget budget : BUDGET.values()) if(budget.known_failure != null) reasons.add(budget.known_failure);
+		for(String reason : reasons) System.out.println("KNOWN: " + reason);
+	}
+
+	private static void budget(String model, String region, double max, double rms) {
+		BUDGET.put(model + "\t" + region, new Budget(max, rms, null));
+	}
+
+	private static void knownFailure(String model, String region, double max, double rms, String reason) {
+		BUDGET.put(model + "\t" + region, new Budget(max, rms, reason));
+	}
+
+
+	private static boolean valid(double v) { return !Double.isNaN(v) && v != -999; }
+
+	/** Distinct values of a column, ascending */
+	private static double[] axis(double[] column) {
+		return Arrays.stream(column).filter(v -> !Double.isNaN(v)).distinct().sorted().toArray();
+	}
+
+	private static String frequencyBand(double f__ghz) {
+		if(f__ghz < 1.0) 	return "f < 1 GHz";
+		if(f__ghz < 6.0) 	return "f 1-6 GHz";
+		if(f__ghz < 20.0) 	return "f 6-20 GHz";
+		return "f >= 20 GHz";
+	}
+
+	private static String distanceBand(double d__km) {
+		if(d__km < 10.0) 	return "d < 10 km";
+		if(d__km < 50.0) 	return "d 10-50 km";
+		return "d >= 50 km";
+	}
+}
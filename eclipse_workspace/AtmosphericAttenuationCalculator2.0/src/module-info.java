@@ -1,3 +1,4 @@
 module atmospheric_attenuation_calculator_2_0 {
 	requires commons.math3;
+	requires java.xml;
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package propagationfactor;
+
+import org.apache.commons.math3.util.FastMath;
+
+/** Complex arithmetic on primitive (real, imaginary) pairs
+ *
+ * Each operation writes its result to out[0] (real) and out[1] (imaginary) and follows the same sequence of floating point
+ * operations as org.apache.commons.math3.complex.Complex 3.6.1, so results are bit-identical without allocating.
+ *
+ * @note out may alias none of the inputs, since inputs are passed by value
+ */
+final class ComplexOps {
+	private ComplexOps() { }
+
+
+	static void add(double a, double b, double c, double d, double[] out) {
+		if(isNaN(a, b) || isNaN(c, d)) { nan(out); return; }
+		out[0] = a + c;
+		out[1] = b + d;
+	}
+
+	static void subtract(double a, double b, double c, double d, double[] out) {
+		if(isNaN(a, b) || isNaN(c, d)) { nan(out); return; }
+		out[0] = a - c;
+		out[1] = b - d;
+	}
+
+	static void multiply(double a, double b, double c, double d, double[] out) {
+		if(isNaN(a, b) || isNaN(c, d)) { nan(out); return; }
+		if(Double.isInfinite(a) || Double.isInfinite(b) || Double.isInfinite(c) || Double.isInfinite(d)) { inf(out); return; }
+		out[0] = a*c - b*d;
+		out[1] = a*d + b*c;
+	}
+
+	static void multiply(double a, double b, double x, double[] out) {
+		if(isNaN(a, b) || Double.isNaN(x)) { nan(out); return; }
+		if(Double.isInfinite(a) || Double.isInfinite(b) || Double.isInfinite(x)) { inf(out); return; }
+		out[0] = a*x;
+		out[1] = b*x;
+	}
+
+	static void divide(double a, double b, double c, double d, double[] out) {
+		if(isNaN(a, b) || isNaN(c, d)) { nan(out); return; }
+		if(c == 0.0 && d == 0.0) { nan(out); return; }
+		if(isInfinite(c, d) && !isInfinite(a, b)) {
+			out[0] = out[1] = 0.0;
+			return;
+		}
+
+		if(FastMath.abs(c) < FastMath.abs(d)) {
+			double q = c/d;
+			double denominator = c*q + d;
+			out[0] = (a*q + b)/denominator;
+			out[1] = (b*q - a)/denominator;
+		}
+		else {
+			double q = d/c;
+			double denominator = d*q + c;
+			out[0] = (b*q + a)/denominator;
+			out[1] = (b - a*q)/denominator;
+		}
+	}
+
+	static double abs(double a, double b) {
+		if(isNaN(a, b)) return Double.NaN;
+		if(isInfinite(a, b)) return Double.POSITIVE_INFINITY;
+
+		if(FastMath.abs(a) < FastMath.abs(b)) {
+			if(b == 0.0) return FastMath.abs(a);
+			double q = a/b;
+			return FastMath.abs(b)*FastMath.sqrt(1 + q*q);
+		}
+		if(a == 0.0) return FastMath.abs(b);
+		double q = b/a;
+		return FastMath.abs(a)*FastMath.sqrt(1 + q*q);
+	}
+
+	static void sqrt(double a, double b, double[] out) {
+		if(isNaN(a, b)) { nan(out); return; }
+		if(a == 0.0 && b == 0.0) {
+			out[0] = out[1] = 0.0;
+			return;
+		}
+
+		double t = FastMath.sqrt((FastMath.abs(a) + abs(a, b))/2.0);
+		if(a >= 0.0) {
+			out[0] = t;
+			out[1] = b/(2.0*t);
+		}
+		else {
+			out[0] = FastMath.abs(b)/(2.0*t);
+			out[1] = FastMath.copySign(1d, b)*t;
+		}
+	}
+
+	static void sin(double a, double b, double[] out) {
+		if(isNaN(a, b)) { nan(out); return; }
+		out[0] = FastMath.sin(a)*FastMath.cosh(b);
+		out[1] = FastMath.cos(a)*FastMath.sinh(b);
+	}
+
+	static void cos(double a, double b, double[] out) {
+		if(isNaN(a, b)) { nan(out); return; }
+		out[0] = FastMath.cos(a)*FastMath.cosh(b);
+		out[1] = -FastMath.sin(a)*FastMath.sinh(b);
+	}
+
+	/** (a + ib)^x as exp(x*log(a + ib)), like Complex.pow(double) */
+	static void pow(double a, double b, double x, double[] out) {
+		// log
+		if(isNaN(a, b)) { nan(out); return; }
+		double log_re = FastMath.log(abs(a, b));
+		double log_im = FastMath.atan2(b, a);
+
+		// multiply
+		multiply(log_re, log_im, x, out);
+
+		// exp
+		if(isNaN(out[0], out[1])) { nan(out); return; }
+		double exp_re = FastMath.exp(out[0]);
+		double im = out[1];
+		out[0] = exp_re*FastMath.cos(im);
+		out[1] = exp_re*FastMath.sin(im);
+	}
+
+
+	private static boolean isNaN(double a, double b) { return Double.isNaN(a) || Double.isNaN(b); }
+
+	private static boolean isInfinite(double a, double b) { return !isNaN(a, b) && (Double.isInfinite(a) || Double.isInfinite(b)); }
+
+	private static void nan(double[] out) { out[0] = out[1] = Double.NaN; }
+
+	private static void inf(double[] out) { out[0] = out[1] = Double.POSITIVE_INFINITY; }
+}
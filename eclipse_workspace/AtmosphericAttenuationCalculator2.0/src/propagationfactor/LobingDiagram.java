@@ -0,0 +1,210 @@
+package propagationfactor;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/** Multipath lobing diagram: the propagation factors of a PropagationSetup over a range x target height raster
+ *
+ * Grids are row-major with one row per target height: index = height_index*ranges.length + range_index.
+ * The raster is computed in parallel tiles. Nulls of the reflection factor found on the raster are then refined in range
+ * by golden-section search.
+ *
+ * @note Points without line of sight hold -200 dB reflection factor, as in PropagationFactorCalc
+ */
+public class LobingDiagram {
+	/** Ranges per tile */
+	public static final int TILE_RANGES = 64;
+	/** Heights per tile */
+	public static final int TILE_HEIGHTS = 16;
+
+	private final double[] ranges, heights;
+	private final double[] reflection_dB, diffraction_dB;
+	private double[] null_range, null_height, null_depth_dB;
+
+
+	private LobingDiagram(double[] ranges, double[] heights) {
+		this.ranges = ranges.clone();
+		this.heights = heights.clone();
+		this.reflection_dB = new double[ranges.length*heights.length];
+		this.diffraction_dB = new double[ranges.length*heights.length];
+	}
+
+
+	/** Compute the diagram and refine its nulls
+	 *
+	 * @param EPSILON_R : Relative Dielectric Constant of a Surface
+	 * @param SIGMA_E : Conductivity of Surface
+	 * @param B: Polarization Parameter 0 = Horizontal Polarization, 1 = Vertical Polarization
+	 * @param SIGMA_H : rms surface height deviation
+	 * @param K_A : Effective Earth Radius
+	 * @param LAMBDA : Wavelength of Transmission
+	 * @param H_ONE : Height of Terminal One
+	 * @param ranges : Target ranges, ascending
+	 * @param heights : Target heights (H_TWO)
+	 * @param null_threshold_dB : Only local minima of the reflection factor below this level are refined
+	 */
+	public static LobingDiagram generate(double EPSILON_R, double SIGMA_E, int B, double SIGMA_H, double K_A, double LAMBDA, double H_ONE,
+			double[] ranges, double[] heights, double null_threshold_dB) {
+		return generate(new PropagationSetup(EPSILON_R, SIGMA_E, B, SIGMA_H, K_A, LAMBDA, H_ONE), ranges, heights, null_threshold_dB);
+	}
+
+	/** Compute the diagram of a prepared setup and refine its nulls
+	 *
+	 * @param setup : Surface, polarization, wavelength and antenna inputs, shared by every tile
+	 * @param ranges : Target ranges, ascending
+	 * @param heights : Target heights (H_TWO)
+	 * @param null_threshold_dB : Only local minima of the reflection factor below this level are refined
+	 */
+	public static LobingDiagram generate(PropagationSetup setup, double[] ranges, double[] heights, double null_threshold_dB) {
+		if(ranges.length == 0 || heights.length == 0) throw new IllegalArgumentException("Lobing diagram axes must not be empty");
+		for(int i=1; i<ranges.length; ++i)
+			if(!(ranges[i] > ranges[i-1])) throw new IllegalArgumentException("Ranges must be strictly ascending");
+
+		LobingDiagram diagram = new LobingDiagram(ranges, heights);
+		int tiles_r = (ranges.length + TILE_RANGES - 1)/TILE_RANGES;
+		int tiles_h = (heights.length + TILE_HEIGHTS - 1)/TILE_HEIGHTS;
+
+		ForkJoinPool.commonPool().invoke(new TileTask(diagram, setup, 0, tiles_r*tiles_h, tiles_r));
+		diagram.refineNulls(setup, null_threshold_dB);
+		return diagram;
+	}
+
+
+	/** Splits a range of tile indices in half until one tile remains, then fills it from the shared setup
+	 */
+	private static class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final LobingDiagram diagram;
+		private final PropagationSetup setup;
+		private final int first, last, tiles_r;
+
+		TileTask(LobingDiagram diagram, PropagationSetup setup, int first, int last, int tiles_r) {
+			this.diagram = diagram;
+			this.setup = setup;
+			this.first = first;
+			this.last = last;
+			this.tiles_r = tiles_r;
+		}
+
+		@Override
+		protected void compute() {
+			if(last - first > 1) {
+				int mid = (first + last) >>> 1;
+				invokeAll(new TileTask(diagram, setup, first, mid, tiles_r), new TileTask(diagram, setup, mid, last, tiles_r));
+				return;
+			}
+
+			double[] ranges = diagram.ranges, heights = diagram.heights;
+			int r_0 = (first % tiles_r)*TILE_RANGES, h_0 = (first / tiles_r)*TILE_HEIGHTS;
+			int r_1 = Math.min(r_0 + TILE_RANGES, ranges.length), h_1 = Math.min(h_0 + TILE_HEIGHTS, heights.length);
+
+			PropagationSetup.Factors factors = new PropagationSetup.Factors();
+			for(int j=h_0; j<h_1; ++j) {
+				for(int i=r_0; i<r_1; ++i) {
+					setup.evaluate(ranges[i], heights[j], factors);
+					diagram.reflection_dB[j*ranges.length + i] = factors.reflection_dB;
+					diagram.diffraction_dB[j*ranges.length + i] = factors.diffraction_dB;
+				}
+			}
+		}
+	}
+
+
+	/** Locate the local minima of each height row below the threshold and refine them between their neighbouring ranges
+	 */
+	private void refineNulls(PropagationSetup setup, double null_threshold_dB) {
+		int n_r = ranges.length;
+		double[][] found = new double[heights.length][];
+
+		IntStream.range(0, heights.length).parallel().forEach(j -> {
+			PropagationSetup.Factors factors = new PropagationSetup.Factors();
+			double H_TWO = heights[j];
+			double[] row = new double[2*Math.max(n_r/2, 1)];
+			int count = 0;
+
+			for(int i=1; i<n_r-1; ++i) {
+				double F = reflection_dB[j*n_r + i];
+				if(F == -200 || F > null_threshold_dB) continue;
+				if(!(F < reflection_dB[j*n_r + i-1] && F <= reflection_dB[j*n_r + i+1])) continue;
+
+				double R = refine(setup, factors, H_TWO, ranges[i-1], ranges[i+1]);
+				row[2*count] = R;
+				row[2*count+1] = evaluate(setup, factors, H_TWO, R);
+				++count;
+			}
+			found[j] = Arrays.copyOf(row, 2*count);
+		});
+
+		int total = 0;
+		for(double[] row : found) total += row.length/2;
+		null_range = new double[total];
+		null_height = new double[total];
+		null_depth_dB = new double[total];
+
+		int k = 0;
+		for(int j=0; j<heights.length; ++j) {
+			for(int n=0; n<found[j].length/2; ++n, ++k) {
+				null_range[k] = found[j][2*n];
+				null_height[k] = heights[j];
+				null_depth_dB[k] = found[j][2*n+1];
+			}
+		}
+	}
+
+	private static final double GOLDEN = (Math.sqrt(5.0) - 1.0)/2.0;
+	private static final int REFINE_ITERATIONS = 60;
+
+	/** Golden-section search for the minimum of the reflection factor on [a, b] */
+	private static double refine(PropagationSetup setup, PropagationSetup.Factors factors, double H_TWO, double a, double b) {
+		double tol = 1e-9*(b - a);
+		double x_1 = b - GOLDEN*(b-a), x_2 = a + GOLDEN*(b-a);
+		double f_1 = evaluate(setup, factors, H_TWO, x_1), f_2 = evaluate(setup, factors, H_TWO, x_2);
+
+		for(int it=0; it<REFINE_ITERATIONS && b - a > tol; ++it) {
+			if(f_1 <= f_2) {
+				b = x_2;
+				x_2 = x_1;
+				f_2 = f_1;
+				x_1 = b - GOLDEN*(b-a);
+				f_1 = evaluate(setup, factors, H_TWO, x_1);
+			}
+			else {
+				a = x_1;
+				x_1 = x_2;
+				f_1 = f_2;
+				x_2 = a + GOLDEN*(b-a);
+				f_2 = evaluate(setup, factors, H_TWO, x_2);
+			}
+		}
+		return (f_1 <= f_2) ? x_1 : x_2;
+	}
+
+	private static double evaluate(PropagationSetup setup, PropagationSetup.Factors factors, double H_TWO, double R) {
+		setup.evaluate(R, H_TWO, factors);
+		return factors.reflection_dB;
+	}
+
+
+	public int getRangeCount() 		{ return ranges.length; }
+	public int getHeightCount() 	{ return heights.length; }
+	public double[] getRanges() 	{ return ranges.clone(); }
+	public double[] getHeights() 	{ return heights.clone(); }
+
+	/** Reflection factor grid (dB), row-major by height. Shared, not copied */
+	public double[] getReflectionFactorInDecibels() 	{ return reflection_dB; }
+
+	/** Diffraction factor grid (dB), row-major by height. Shared, not copied */
+	public double[] getDiffractionFactorInDecibels() 	{ return diffraction_dB; }
+
+	public double getReflectionFactorInDecibels(int range_index, int height_index) { return reflection_dB[height_index*ranges.length + range_index]; }
+	public double getDiffractionFactorInDecibels(int range_index, int height_index) { return diffraction_dB[height_index*ranges.length + range_index]; }
+
+	/** Refined null positions and depths, ordered by height then range */
+	public int getNullCount() 			{ return null_range.length; }
+	public double[] getNullRanges() 	{ return null_range.clone(); }
+	public double[] getNullHeights() 	{ return null_height.clone(); }
+	public double[] getNullDepthsInDecibels() { return null_depth_dB.clone(); }
+}
@@ -36,5 +36,47 @@ public class PropagationFactorTest {
 		PropagationFactorCalc otherSideOfNullTestOne = new PropagationFactorCalc(3, 0.001, 0 ,0, 8500000, 0.03, 10, 60, 20000);
 		otherSideOfNullTestOne.computePropagation();
 		
+		
+		//Primitive reflection factor must match the Complex reference bit for bit
+		int mismatches = 0, cases = 0;
+		for(int b=0; b<=1; ++b) {
+			for(double epsilon : new double[] { 3, 15, 80 }) {
+				for(double sigma : new double[] { 0.001, 0.01, 5 }) {
+					for(double range=1000; range<=60000; range+=250) {
+						PropagationFactorCalc parity = new PropagationFactorCalc(epsilon, sigma, b, 0.3, 8500000, 0.03, 10, 60, range);
+						parity.computePropagation();
+						double reference = parity.referenceReflectionFactor();
+						double primitive = parity.getReflectionFactor();
+						if(Double.doubleToLongBits(reference) != Double.doubleToLongBits(primitive)) ++mismatches;
+						++cases;
+					}
+				}
+			}
+		}
+		System.out.println("Reflection factor parity: " + mismatches + " mismatches in " + cases + " cases");
+		int failures = (mismatches > 0) ? 1 : 0;
+		
+		
+		//Lobing diagram must match single-point evaluation
+		double[] ranges = new double[2000], heights = new double[40];
+		for(int i=0; i<ranges.length; ++i) ranges[i] = 1000 + 25*i;
+		for(int j=0; j<heights.length; ++j) heights[j] = 20 + 5*j;
+		LobingDiagram diagram = LobingDiagram.generate(3, 0.001, 0, 0, 8500000, 0.03, 10, ranges, heights, -10);
+		mismatches = 0;
+		for(int j=0; j<heights.length; j+=7) {
+			for(int i=0; i<ranges.length; i+=13) {
+				PropagationFactorCalc point = new PropagationFactorCalc(3, 0.001, 0, 0, 8500000, 0.03, 10, heights[j], ranges[i]);
+				point.computePropagation();
+				if(point.getReflectionFactorInDecibels() != diagram.getReflectionFactorInDecibels(i, j)
+						|| point.getDiffractionFactorInDecibels() != diagram.getDiffractionFactorInDecibels(i, j)) ++mismatches;
+			}
+		}
+		System.out.println("Lobing diagram: " + mismatches + " mismatches, " + diagram.getNullCount() + " nulls");
+		if(mismatches > 0) ++failures;
+		
+		if(failures > 0) {
+			System.out.println(failures + " check(s) failed");
+			System.exit(1);
+		}
 	}
 }
@@ -0,0 +1,237 @@
+package propagationfactor;
+
+import org.apache.commons.math3.complex.Complex;
+
+/** Immutable surface, polarization, wavelength and antenna parameters of PropagationFactorCalc with every range-independent term
+ * precomputed
+ *
+ * evaluate(R, H_TWO) keeps all intermediates in locals or the caller's Factors, so one setup can be shared by any number of threads.
+ * Results are bit-identical to PropagationFactorCalc.computePropagation.
+ *
+ * @note Reference Barton's Book "Modern Radar System Analysis" TI 59 calculator
+ */
+public final class PropagationSetup {
+	/** Both propagation factors of one evaluation */
+	public static final class Factors {
+		double reflection_dB, diffraction_dB, F_R, F_D, PSI_NAUGHT, D_ONE;
+		//Scratch for the complex arithmetic of the reflection factor
+		final double[] z = new double[2];
+
+		/** Reflection factor (dB), -200 without line of sight */
+		public double getReflectionFactorInDecibels() 	{ return reflection_dB; }
+		/** Diffraction factor (dB), 0 outside the diffraction region */
+		public double getDiffractionFactorInDecibels() 	{ return diffraction_dB; }
+		public double getReflectionFactor() 			{ return F_R; }
+		public double getDiffractionFactor() 			{ return F_D; }
+		/** Grazing angle at the reflection point (rad), 0 beyond the horizon */
+		public double getGrazingAngle() 				{ return PSI_NAUGHT; }
+		/** Ground range from terminal one to the reflection point */
+		public double getReflectionRange() 				{ return D_ONE; }
+	}
+
+	public final double EPSILON_R, SIGMA_E, SIGMA_H, K_A, LAMBDA, H_ONE;
+	public final int B;
+
+	//Diffraction terms that do not depend on R or H_TWO
+	private final double P_PRIME, S, H_C, H_MIN, H_L_ONE;
+	//Complex permittivity EPSILON PRIME and EPSILON PRIME^B
+	private final double e_re, e_im, eb_re, eb_im;
+	//Surface roughness scale (4 PI SIGMA_H / LAMBDA)
+	private final double roughness;
+	private final double sqrt_2K_A, sqrt_H_ONE;
+
+
+	/**
+	 * @param EPSILON_R : Relative Dielectric Constant of a Surface
+	 * @param SIGMA_E : Conductivity of Surface
+	 * @param B: Polarization Parameter 0 = Horizontal Polarization, 1 = Vertical Polarization
+	 * @param SIGMA_H : rms surface height deviation
+	 * @param K_A : Effective Earth Radius
+	 * @param LAMBDA : Wavelength of Transmission
+	 * @param H_ONE : Height of Terminal One
+	 */
+	public PropagationSetup(double EPSILON_R, double SIGMA_E, int B, double SIGMA_H, double K_A, double LAMBDA, double H_ONE) {
+		this.EPSILON_R = EPSILON_R;
+		this.SIGMA_E = SIGMA_E;
+		this.B = B;
+		this.SIGMA_H = SIGMA_H;
+		this.K_A = K_A;
+		this.LAMBDA = LAMBDA;
+		this.H_ONE = H_ONE;
+
+		double X = 60 * SIGMA_E * LAMBDA;
+		double TOP = Math.sqrt((EPSILON_R -1)*(EPSILON_R -1) + X*X);
+		double BOTTOM = Math.pow((EPSILON_R*EPSILON_R + X*X),B);
+		P_PRIME = ((2 * Math.PI)/LAMBDA) * ((TOP)/(BOTTOM));
+
+		//(A.12)
+		S = (4.43 * Math.pow(10, -5)) * Math.pow(LAMBDA, -.3333);
+		H_C = 30 * Math.pow(LAMBDA, .666);
+		H_MIN = Math.sqrt((LAMBDA / (2 * Math.PI * P_PRIME)));
+		H_L_ONE = (H_ONE * heightGain(H_ONE, H_C)) / H_MIN;
+
+		double[] z = new double[2];
+		e_re = EPSILON_R;
+		e_im = -60 * SIGMA_E * LAMBDA;
+		ComplexOps.pow(e_re, e_im, B, z);
+		eb_re = z[0];
+		eb_im = z[1];
+
+		roughness = (4 * Math.PI * SIGMA_H) / LAMBDA;
+		sqrt_2K_A = Math.sqrt(2 * K_A);
+		sqrt_H_ONE = Math.sqrt(H_ONE);
+	}
+
+
+	/** Evaluate both propagation factors for one target
+	 *
+	 * @param R : Range to the target
+	 * @param H_TWO : Height of Terminal Two
+	 */
+	public Factors evaluate(double R, double H_TWO) {
+		return evaluate(R, H_TWO, new Factors());
+	}
+
+	/** Evaluate both propagation factors for one target without allocating
+	 *
+	 * @param R : Range to the target
+	 * @param H_TWO : Height of Terminal Two
+	 * @param out : Receives the factors
+	 */
+	public Factors evaluate(double R, double H_TWO, Factors out) {
+		//D_ONE from P and THETA
+		double P = Math.sqrt((((4 * K_A) * (H_ONE + H_TWO)) + R*R) / 3);
+		double THETA = Math.acos(((2 * K_A) * (H_TWO - H_ONE)) * (R / Math.pow(P,3)));
+		double D_ONE = (R / 2) - (P * Math.cos((THETA + Math.PI)/3));
+
+		//DELTA_NAUGHT from H_PRIME_ONE, H_PRIME_TWO and PSI_NAUGHT. No negative angles
+		double H_PRIME_ONE = H_ONE - ((D_ONE*D_ONE)/(2*K_A));
+		double H_PRIME_TWO = (R - D_ONE) * (H_PRIME_ONE / D_ONE);
+		double PSI_NAUGHT = Math.atan((H_PRIME_ONE / D_ONE));
+		if(PSI_NAUGHT < 0) PSI_NAUGHT = 0;
+		double DELTA_NAUGHT = (PSI_NAUGHT == 0) ? 0 : (2 * H_PRIME_ONE * H_PRIME_TWO) / R;
+		out.PSI_NAUGHT = PSI_NAUGHT;
+		out.D_ONE = D_ONE;
+
+		out.F_D = diffractionFactor(R, H_TWO, DELTA_NAUGHT);
+		out.diffraction_dB = (out.F_D != 0) ? 20 * Math.log10(out.F_D) : 0;
+
+		out.F_R = reflectionFactor(PSI_NAUGHT, DELTA_NAUGHT, out.z);
+		out.reflection_dB = lineOfSightExists(R, H_TWO) ? 20 * Math.log10(out.F_R) : -200;
+		return out;
+	}
+
+	/** Whether the target is inside the radio horizon */
+	public boolean lineOfSightExists(double R, double H_TWO) {
+		double R_H = sqrt_2K_A * (sqrt_H_ONE + Math.sqrt(H_TWO));
+		return R < R_H;
+	}
+
+
+	private double diffractionFactor(double R, double H_TWO, double DELTA_NAUGHT) {
+		if(DELTA_NAUGHT >= LAMBDA/4) return 0;
+
+		double A_ONE = 1 / (P_PRIME * R);
+		double F_S = 2.507 * Math.pow((S * R), 1.5) * Math.exp((-1.607 * S * R));
+		double H_L_TWO = (H_TWO * heightGain(H_TWO, H_C)) / H_MIN;
+		return 2 * A_ONE * F_S * H_L_ONE * H_L_TWO;
+	}
+
+	private static double heightGain(double H, double H_C) {
+		double SUB_CALCULATION = H / (2 * H_C);
+		double SUB_TWO_CALCULATION = 0.948 * Math.sqrt(SUB_CALCULATION);
+		return 0.1356 * Math.pow((SUB_CALCULATION),-0.904) * Math.pow(10, SUB_TWO_CALCULATION);
+	}
+
+	/** Reflection factor with the Fresnel coefficient evaluated on primitive (real, imaginary) pairs
+	 */
+	private double reflectionFactor(double PSI_NAUGHT, double DELTA_NAUGHT, double[] z) {
+		//sin(PSI_NAUGHT) as a complex number
+		ComplexOps.sin(PSI_NAUGHT, 0.0, z);
+		double sin_re = z[0], sin_im = z[1];
+
+		//PSI_NAUGHT / EPSILON_PRIME^B
+		ComplexOps.divide(PSI_NAUGHT, 0.0, eb_re, eb_im, z);
+		double ratio_re = z[0], ratio_im = z[1];
+
+		//sqrt(EPSILON_PRIME - cos(PSI_NAUGHT / EPSILON_PRIME^B)^2)
+		ComplexOps.cos(ratio_re, ratio_im, z);
+		ComplexOps.pow(z[0], z[1], 2, z);
+		ComplexOps.subtract(e_re, e_im, z[0], z[1], z);
+		ComplexOps.sqrt(z[0], z[1], z);
+		double root_re = z[0], root_im = z[1];
+
+		double top_re, top_im, bottom_re, bottom_im;
+		//vertical polarization
+		if(B == 1) {
+			ComplexOps.multiply(sin_re, sin_im, e_re, e_im, z);
+			double s_re = z[0], s_im = z[1];
+			ComplexOps.subtract(s_re, s_im, root_re, root_im, z);
+			top_re = z[0];
+			top_im = z[1];
+
+			ComplexOps.multiply(e_re, e_im, ratio_re, ratio_im, z);
+			ComplexOps.sqrt(z[0], z[1], z);
+			ComplexOps.add(s_re, s_im, z[0], z[1], z);
+			bottom_re = z[0];
+			bottom_im = z[1];
+		}
+		//horizontal polarization
+		else {
+			ComplexOps.subtract(sin_re, sin_im, root_re, root_im, z);
+			top_re = z[0];
+			top_im = z[1];
+
+			ComplexOps.add(sin_re, sin_im, root_re, root_im, z);
+			bottom_re = z[0];
+			bottom_im = z[1];
+		}
+		ComplexOps.divide(top_re, top_im, bottom_re, bottom_im, z);
+
+		//RHO = Math.abs(RHO_NAUGHT) * RHO_S;
+		double RHO = ComplexOps.abs(z[0], z[1]) * surfaceRoughnessFactor(PSI_NAUGHT);
+		return reflectionFactor(RHO, DELTA_NAUGHT);
+	}
+
+	/** Reflection factor with the Fresnel coefficient evaluated with Complex. Reference for the primitive path
+	 */
+	double referenceReflectionFactor(double R, double H_TWO) {
+		double P = Math.sqrt((((4 * K_A) * (H_ONE + H_TWO)) + R*R) / 3);
+		double THETA = Math.acos(((2 * K_A) * (H_TWO - H_ONE)) * (R / Math.pow(P,3)));
+		double D_ONE = (R / 2) - (P * Math.cos((THETA + Math.PI)/3));
+		double H_PRIME_ONE = H_ONE - ((D_ONE*D_ONE)/(2*K_A));
+		double H_PRIME_TWO = (R - D_ONE) * (H_PRIME_ONE / D_ONE);
+		double PSI_NAUGHT = Math.atan((H_PRIME_ONE / D_ONE));
+		if(PSI_NAUGHT < 0) PSI_NAUGHT = 0;
+		double DELTA_NAUGHT = (PSI_NAUGHT == 0) ? 0 : (2 * H_PRIME_ONE * H_PRIME_TWO) / R;
+
+		Complex RHO_NAUGHT;
+		//Complex Dielectric Constant EPSILON PRIME
+		Complex EPSILON_PRIME = new Complex(EPSILON_R, -60 * SIGMA_E * LAMBDA);
+		//Temporary complex conversion of PSI_NAUGHT
+		Complex PSI_NAUGHT_C = new Complex(PSI_NAUGHT);
+		//vertical polarization
+		if(B == 1) {
+			Complex RHO_NAUGHT_T = (PSI_NAUGHT_C.sin().multiply(EPSILON_PRIME)).subtract((EPSILON_PRIME.subtract((PSI_NAUGHT_C.divide(EPSILON_PRIME.pow(B))).cos().pow(2))).sqrt());
+			Complex RHO_NAUGHT_B = (PSI_NAUGHT_C.sin().multiply(EPSILON_PRIME)).add((EPSILON_PRIME.multiply(PSI_NAUGHT_C.divide(EPSILON_PRIME.pow(B))).sqrt()));
+			RHO_NAUGHT = RHO_NAUGHT_T.divide(RHO_NAUGHT_B);
+		}
+		//horizontal polarization
+		else {
+			Complex RHO_NAUGHT_T = (PSI_NAUGHT_C.sin()).subtract((EPSILON_PRIME.subtract((PSI_NAUGHT_C.divide(EPSILON_PRIME.pow(B))).cos().pow(2))).sqrt());
+			Complex RHO_NAUGHT_B = (PSI_NAUGHT_C.sin()).add((EPSILON_PRIME.subtract(PSI_NAUGHT_C.divide(EPSILON_PRIME.pow(B)).cos().pow(2)).sqrt()));
+			RHO_NAUGHT = RHO_NAUGHT_T.divide(RHO_NAUGHT_B);
+		}
+		return reflectionFactor(RHO_NAUGHT.abs() * surfaceRoughnessFactor(PSI_NAUGHT), DELTA_NAUGHT);
+	}
+
+	private double surfaceRoughnessFactor(double PSI_NAUGHT) {
+		double sin = Math.sin(PSI_NAUGHT);
+		return Math.sqrt(Math.exp(-((roughness*roughness) * (sin*sin))));
+	}
+
+	//if ANGLE < NOT LOW ANGLE;; then ALPHA = PI
+	private double reflectionFactor(double RHO, double DELTA_NAUGHT) {
+		return Math.sqrt(1 + RHO*RHO + 2 * RHO * Math.cos((Math.PI + 2 * Math.PI * (DELTA_NAUGHT/LAMBDA))));
+	}
+}